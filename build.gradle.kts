@@ -17,6 +17,7 @@ val parchmentMinecraftVersion: String = "1.21"
 val emiVersion: String = "1.1.10+1.21"
 val jeiVersion: String = "19.5.2.66"
 val patchouliVersion: String = "1.21-87-NEOFORGE-SNAPSHOT"
+val jmhVersion: String = "1.37"
 
 val modId: String = "tfc"
 val modVersion: String = System.getenv("VERSION") ?: "0.0.0-indev"
@@ -114,6 +115,11 @@ dependencies {
     testImplementation(sourceSets["data"].output)
     testImplementation("org.junit.jupiter:junit-jupiter:5.10.3")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher:1.10.3")
+
+    // Benchmarks
+    // These are run in-process by JUnit (see `-Pbenchmark`), as they need the same bootstrapped environment as unit tests
+    testImplementation("org.openjdk.jmh:jmh-core:$jmhVersion")
+    testAnnotationProcessor("org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
 }
 
 neoForge {
@@ -198,7 +204,17 @@ tasks {
     }
 
     test {
-        useJUnitPlatform()
+        // Benchmarks are excluded by default, and can be run exclusively with `./gradlew test -Pbenchmark`
+        // Additional JMH options, i.e. `-Pbenchmark="-i 10 RegionBenchmark"`, are passed through as a system property
+        useJUnitPlatform {
+            if (project.hasProperty("benchmark")) includeTags("benchmark")
+            else excludeTags("benchmark")
+        }
+        if (project.hasProperty("benchmark")) {
+            systemProperty("tfc.benchmark.args", project.property("benchmark").toString())
+            outputs.upToDateWhen { false }
+            testLogging.showStandardStreams = true
+        }
     }
 
     jar {
@@ -1329,6 +1329,9 @@ DEFAULT_LANG = {
     # Commands
 
     'tfc.commands.disabled_by_tfc': 'This command has been disabled by TerraFirmaCraft, use /time instead',
+    'tfc.commands.rotation.networks': '%s rotation networks, with %s nodes',
+    'tfc.commands.rotation.reset': 'Reset rotation network timings',
+    'tfc.commands.rotation.timing': 'Action %s: %s calls, average %s us, max %s us, last %s us',
     'tfc.commands.time.set_day_length': 'Day length has been set to %s minutes/day',
     'tfc.commands.time.set_day_length_disabled': 'Daylight cycle has been disabled',
     'tfc.commands.time.set_month_length': 'Month length has been set to %s days/month',
@@ -1337,6 +1340,8 @@ DEFAULT_LANG = {
     'tfc.commands.weather_enabled.true': 'Weather is enabled',
     'tfc.commands.weather_enabled.false': 'Weather is disabled',
     'tfc.commands.heat.set_heat': 'Held item heat set to %s',
+    'tfc.commands.heat.sync': '%s: %s full syncs (%s bytes), %s heat syncs (%s bytes)',
+    'tfc.commands.heat.sync_reset': 'Reset heat device sync statistics',
     'tfc.commands.clear_world.starting': 'Clearing world. Prepare for lag...',
     'tfc.commands.clear_world.done': 'Cleared %d Block(s).',
     'tfc.commands.count_block.done': 'Found %d',
@@ -1356,6 +1361,11 @@ DEFAULT_LANG = {
     'tfc.commands.trim.not_armor': 'The metal specified does not have armor items',
     'tfc.commands.trim.bad_material': 'Material item not recognized',
     'tfc.commands.trim.bad_template': 'Template item not recognized',
+    'tfc.commands.worldgen.area_cache': 'Layer caches (%s, %s entries): %s hits, %s misses, %s evictions, %s%% hit rate',
+    'tfc.commands.worldgen.area_cache_disabled': 'Layer caches (%s, %s entries): statistics are disabled, start with -Dtfc.enableAreaCacheStatistics=true to count them',
+    'tfc.commands.worldgen.cache': 'Cache %s (%s entries): %s hits, %s misses, %s evictions, %s%% hit rate',
+    'tfc.commands.worldgen.not_tfc': 'This dimension does not use a TFC chunk generator',
+    'tfc.commands.worldgen.reset': 'Reset world generation cache statistics',
 
     # Create World Screen Options
     'tfc.settings.km': '%s km',
@@ -1814,6 +1824,7 @@ DEFAULT_LANG = {
     'tfc.config.client.displayItemContentsAsImages': 'Display Item Content Images',
     'tfc.config.client.displayItemHeatBars': 'Display Item Heat Bars',
     'tfc.config.client.effectHorizontalAdjustment': 'Effect Horizontal Adjustment',
+    'tfc.config.client.enableBatchedAxleRendering': 'Enable Batched Axle Rendering',
     'tfc.config.client.enableDebug': 'Enable Debug',
     'tfc.config.client.enableExperienceBar': 'Enable Experience Bar',
     'tfc.config.client.enableHealthBar': 'Enable Health Bar',
@@ -1835,10 +1846,13 @@ DEFAULT_LANG = {
     'tfc.config.client.showHoeOverlaysOnlyWhenShifting': 'Hoe Overlay Only When Shifting',
     'tfc.config.client.timeDeltaTooltipStyle': 'Time Delta Tooltip Style',
 
+    'tfc.config.common.areaCacheMode': 'Area Cache Mode',
+    'tfc.config.common.areaCacheSize': 'Area Cache Size',
     'tfc.config.common.defaultCalendarStartDay': 'Default Calendar Start Day',
     'tfc.config.common.defaultMonthLength': 'Default Month Length',
     'tfc.config.common.defaultWorldPreset': 'Default World Preset',
     'tfc.config.common.enableDatapackTests': 'Enable Datapack Tests',
+    'tfc.config.common.enableRegionStore': 'Enable Region Store',
 
     'tfc.config.server.acaciaSaplingGrowthDays': 'Acacia Sapling Growth Days',
     'tfc.config.server.alpacaAdulthoodDays': 'Adulthood Days',
@@ -1894,6 +1908,7 @@ DEFAULT_LANG = {
     'tfc.config.server.collapseExplosionPropagateChance': 'Explosion Propagate Chance',
     'tfc.config.server.collapseFakeTriggerChance': 'Fake Trigger Chance',
     'tfc.config.server.collapseMinRadius': 'Min Radius',
+    'tfc.config.server.collapsePositionsPerTick': 'Positions Per Tick',
     'tfc.config.server.collapsePropagateChance': 'Propogate Chance',
     'tfc.config.server.collapseRadiusVariance': 'Radius Variance',
     'tfc.config.server.collapseTriggerChance': 'Trigger Chance',
@@ -1941,6 +1956,7 @@ DEFAULT_LANG = {
     'tfc.config.server.enableBucketsPlacingSources': 'Enable Buckets Placing Sources',
     'tfc.config.server.enableChickenJockies': 'Enable Chicken Jockies',
     'tfc.config.server.enableChiselsStartCollapses': 'Enable Chisels Start Collapses',
+    'tfc.config.server.enableChunkClimateTables': 'Enable Chunk Climate Tables',
     'tfc.config.server.enableDirtToMudCreation': 'Enable Dirt to Mud Creation',
     'tfc.config.server.enableExplosionCollapsing': 'Enable Explosions Start Collapses',
     'tfc.config.server.enableFarmlandCreation': 'Enable Farmland Creation',
@@ -1984,6 +2000,8 @@ DEFAULT_LANG = {
     'tfc.config.server.goatUses': 'Uses',
     'tfc.config.server.grassSpawningRocksChance': 'Grass Spawning Rocks Chance',
     'tfc.config.server.green_appleSaplingGrowthDays': 'Green Apple Sapling Growth Days',
+    'tfc.config.server.heatDeviceHeatingInterval': 'Heat Device Heating Interval',
+    'tfc.config.server.heatDeviceSyncInterval': 'Heat Device Sync Interval',
     'tfc.config.server.hematiticGlassBottleBreakChance': 'Hematitic Glass Bottle Break Chance',
     'tfc.config.server.hematiticGlassBottleCapacity': 'Hematitic Glass Bottle Capacity',
     'tfc.config.server.hickorySaplingGrowthDays': 'Hickory Sapling Growth Days',
@@ -2106,6 +2124,7 @@ DEFAULT_LANG = {
     'tfc.config.server.smallVesselCapacity': 'Capacity',
     'tfc.config.server.smallVesselMaximumItemSize': 'Maximum Item Size',
     'tfc.config.server.snowAccumulateChance': 'Accumulate Chance',
+    'tfc.config.server.snowCatchUpUpdatesPerTick': 'Snow Catch Up Updates Per Tick',
     'tfc.config.server.snowMeltChance': 'Melt Chance',
     'tfc.config.server.spruceSaplingGrowthDays': 'Spruce Sapling Growth Days',
     'tfc.config.server.sycamoreSaplingGrowthDays': 'Sycamore Sapling Growth Days',
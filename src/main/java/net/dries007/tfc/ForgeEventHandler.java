@@ -176,7 +176,7 @@ import net.dries007.tfc.common.recipes.CollapseRecipe;
 import net.dries007.tfc.common.recipes.LandslideRecipe;
 import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.mixin.accessor.RecipeManagerAccessor;
-import net.dries007.tfc.network.DataManagerSyncPacket;
+import net.dries007.tfc.network.DataManagerHashesPacket;
 import net.dries007.tfc.network.EffectExpirePacket;
 import net.dries007.tfc.network.PlayerDrinkPacket;
 import net.dries007.tfc.network.UpdateClimateModelPacket;
@@ -190,6 +190,7 @@ import net.dries007.tfc.util.climate.Climate;
 import net.dries007.tfc.util.climate.ClimateModel;
 import net.dries007.tfc.util.climate.OverworldClimateModel;
 import net.dries007.tfc.util.collections.IndirectHashCollection;
+import net.dries007.tfc.util.data.BlockStateFlags;
 import net.dries007.tfc.util.data.DataManagers;
 import net.dries007.tfc.util.data.Drinkable;
 import net.dries007.tfc.util.data.Fertilizer;
@@ -201,7 +202,9 @@ import net.dries007.tfc.util.events.SelectClimateModelEvent;
 import net.dries007.tfc.util.events.StartFireEvent;
 import net.dries007.tfc.util.tracker.WorldTracker;
 import net.dries007.tfc.world.ChunkGeneratorExtension;
+import net.dries007.tfc.world.TFCChunkGenerator;
 import net.dries007.tfc.world.chunkdata.ChunkData;
+import net.dries007.tfc.world.chunkdata.ChunkWatchTracker;
 
 
 public final class ForgeEventHandler
@@ -216,6 +219,7 @@ public final class ForgeEventHandler
 
         bus.addListener(ForgeEventHandler::onCreateWorldSpawn);
         bus.addListener(ForgeEventHandler::onChunkWatch);
+        bus.addListener(ForgeEventHandler::onChunkUnWatch);
         bus.addListener(EventPriority.LOW, ForgeEventHandler::registerCommands); // Must come after neo, since we take over `/neoforge day`
         bus.addListener(ForgeEventHandler::onBlockBroken);
         bus.addListener(ForgeEventHandler::onBlockPlace);
@@ -224,6 +228,7 @@ public final class ForgeEventHandler
         bus.addListener(ForgeEventHandler::onExplosionDetonate);
         bus.addListener(ForgeEventHandler::onWorldTick);
         bus.addListener(ForgeEventHandler::onWorldLoad);
+        bus.addListener(ForgeEventHandler::onWorldUnload);
         bus.addListener(ForgeEventHandler::onCreateNetherPortal);
         bus.addListener(ForgeEventHandler::onFluidPlaceBlock);
         bus.addListener(ForgeEventHandler::onFluidCreateSource);
@@ -324,13 +329,19 @@ public final class ForgeEventHandler
     {
         // When we watch a chunk, the chunk data should already be generated on server, and have FULL status, (with a TFC chunk generator)
         // We then sync the data on these chunks to client directly
+        // This is batched with all other chunks watched this tick, and sent on the next player tick
         final ChunkData chunkData = ChunkData.get(event.getChunk());
         if (chunkData.status() == ChunkData.Status.FULL)
         {
-            PacketDistributor.sendToPlayer(event.getPlayer(), chunkData.getUpdatePacket());
+            ChunkWatchTracker.get(event.getPlayer()).onWatch(event.getPlayer(), chunkData);
         }
     }
 
+    public static void onChunkUnWatch(ChunkWatchEvent.UnWatch event)
+    {
+        ChunkWatchTracker.get(event.getPlayer()).onUnwatch(event.getPos());
+    }
+
     public static void registerCommands(RegisterCommandsEvent event)
     {
         LOGGER.debug("Registering TFC Commands");
@@ -372,7 +383,7 @@ public final class ForgeEventHandler
                 WorldTracker.get(world).addLandslidePos(pos);
             }
 
-            if (Helpers.isBlock(state, TFCTags.Blocks.BREAKS_WHEN_ISOLATED))
+            if (BlockStateFlags.is(state, BlockStateFlags.BREAKS_WHEN_ISOLATED))
             {
                 WorldTracker.get(world).addIsolatedPos(pos);
             }
@@ -404,7 +415,7 @@ public final class ForgeEventHandler
                     WorldTracker.get(level).addLandslidePos(pos);
                 }
 
-                if (Helpers.isBlock(state.getBlock(), TFCTags.Blocks.BREAKS_WHEN_ISOLATED))
+                if (BlockStateFlags.is(state, BlockStateFlags.BREAKS_WHEN_ISOLATED))
                 {
                     WorldTracker.get(level).addIsolatedPos(pos);
                 }
@@ -458,6 +469,14 @@ public final class ForgeEventHandler
         }
     }
 
+    public static void onWorldUnload(LevelEvent.Unload event)
+    {
+        if (event.getLevel() instanceof ServerLevel level && level.getChunkSource().getGenerator() instanceof TFCChunkGenerator generator)
+        {
+            generator.closeRegionStore();
+        }
+    }
+
     public static void onCreateNetherPortal(BlockEvent.PortalSpawnEvent event)
     {
         if (!TFCConfig.SERVER.enableNetherPortals.get())
@@ -752,6 +771,11 @@ public final class ForgeEventHandler
 
     public static void onPlayerTick(PlayerTickEvent.Pre event)
     {
+        if (event.getEntity() instanceof ServerPlayer serverPlayer)
+        {
+            ChunkWatchTracker.get(serverPlayer).flush(serverPlayer);
+        }
+
         // When facing up in the rain, player slowly recovers thirst.
         final Player player = event.getEntity();
         final Level level = player.level();
@@ -1339,13 +1363,18 @@ public final class ForgeEventHandler
 
     public static void onDataPackSync(OnDatapackSyncEvent event)
     {
+        // Only send the hash of each data manager. Clients then request the contents of any managers which they don't have cached
+        final DataManagerHashesPacket packet = new DataManagerHashesPacket(event.getPlayerList().getServer().registryAccess());
         if (event.getPlayer() == null)
         {
-            PacketDistributor.sendToAllPlayers(new DataManagerSyncPacket());
+            for (ServerPlayer player : event.getPlayerList().getPlayers())
+            {
+                packet.sendTo(player);
+            }
         }
         else
         {
-            PacketDistributor.sendToPlayer(event.getPlayer(), new DataManagerSyncPacket());
+            packet.sendTo(event.getPlayer());
         }
     }
 
@@ -1360,15 +1389,8 @@ public final class ForgeEventHandler
     {
         if (event.shouldUpdateStaticData())
         {
-            // First, reload all caches
             final RecipeManager manager = Helpers.getUnsafeRecipeManager();
-            IndirectHashCollection.reloadAllCaches(manager);
-
-            // Then apply post reload actions which may query the cache
-            Support.updateMaximumSupportRange();
-            FluidHeat.updateCache();
-
-            TFCComponents.onModifyDefaultComponentsAfterResourceReload();
+            reloadStaticDataCaches(manager);
             FoodCapability.markRecipeOutputsAsNonDecaying(event.getRegistryAccess(), manager);
 
             SelfTests.runDataPackTests(manager);
@@ -1381,6 +1403,23 @@ public final class ForgeEventHandler
         }
     }
 
+    /**
+     * Reloads all caches which depend on recipes, tags, or data managers. On a client, this is also called when data managers are synced from the
+     * server, which may happen after tags are updated.
+     */
+    public static void reloadStaticDataCaches(RecipeManager manager)
+    {
+        // First, reload all caches
+        IndirectHashCollection.reloadAllCaches(manager);
+        BlockStateFlags.updateCache();
+
+        // Then apply post reload actions which may query the cache
+        Support.updateMaximumSupportRange();
+        FluidHeat.updateCache();
+
+        TFCComponents.onModifyDefaultComponentsAfterResourceReload();
+    }
+
     /**
      * Deny all traditional uses of bone meal directly to grow crops.
      * Fertilizer is used as a replacement.
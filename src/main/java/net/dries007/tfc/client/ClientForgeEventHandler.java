@@ -56,6 +56,7 @@ import net.neoforged.neoforge.client.event.InputEvent;
 import net.neoforged.neoforge.client.event.RenderGuiLayerEvent;
 import net.neoforged.neoforge.client.event.RenderHandEvent;
 import net.neoforged.neoforge.client.event.RenderHighlightEvent;
+import net.neoforged.neoforge.client.event.RenderLevelStageEvent;
 import net.neoforged.neoforge.client.event.ScreenEvent;
 import net.neoforged.neoforge.client.event.ToastAddEvent;
 import net.neoforged.neoforge.client.event.ViewportEvent;
@@ -69,6 +70,7 @@ import org.jetbrains.annotations.Nullable;
 
 import net.dries007.tfc.TerraFirmaCraft;
 import net.dries007.tfc.client.particle.TFCParticles;
+import net.dries007.tfc.client.render.blockentity.AxleRenderBatch;
 import net.dries007.tfc.client.screen.button.PlayerInventoryTabButton;
 import net.dries007.tfc.common.blockentities.SluiceBlockEntity;
 import net.dries007.tfc.common.blocks.devices.SluiceBlock;
@@ -126,6 +128,7 @@ public class ClientForgeEventHandler
         bus.addListener(ClientForgeEventHandler::onKeyEvent);
         bus.addListener(ClientForgeEventHandler::onScreenKey);
         bus.addListener(ClientForgeEventHandler::onHighlightBlockEvent);
+        bus.addListener(ClientForgeEventHandler::onRenderLevelStage);
         bus.addListener(ClientForgeEventHandler::onFogRender);
         bus.addListener(ClientForgeEventHandler::onHandRender);
         bus.addListener(ClientForgeEventHandler::onToast);
@@ -521,6 +524,19 @@ public class ClientForgeEventHandler
         }
     }
 
+    public static void onRenderLevelStage(RenderLevelStageEvent event)
+    {
+        // Block entities are rendered between these two stages, so this is where we batch axles
+        if (event.getStage() == RenderLevelStageEvent.Stage.AFTER_ENTITIES)
+        {
+            AxleRenderBatch.begin(Minecraft.getInstance().renderBuffers().bufferSource());
+        }
+        else if (event.getStage() == RenderLevelStageEvent.Stage.AFTER_BLOCK_ENTITIES)
+        {
+            AxleRenderBatch.end();
+        }
+    }
+
     public static void onFogRender(ViewportEvent.RenderFog event)
     {
         Minecraft mc = Minecraft.getInstance();
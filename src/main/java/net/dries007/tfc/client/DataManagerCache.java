@@ -0,0 +1,194 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.client;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import com.mojang.logging.LogUtils;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientPacketListener;
+import net.minecraft.client.multiplayer.ServerData;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.neoforged.fml.loading.FMLPaths;
+import net.neoforged.neoforge.network.PacketDistributor;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import net.dries007.tfc.ForgeEventHandler;
+import net.dries007.tfc.network.DataManagerRequestPacket;
+import net.dries007.tfc.util.data.DataManager;
+import net.dries007.tfc.util.data.DataManagers;
+
+/**
+ * A persistent, client side cache of the contents of data managers, as received from each server. Entries are keyed by the server address, the
+ * data manager, and the hash of the contents, so on joining a server (or after a {@code /reload}), only data managers whose contents are not
+ * already known to the client need to be sent.
+ * <p>
+ * Files are stored under {@code tfc/data_managers/<server>/<data manager>/<hash>.bin}, and only the most recent contents of each data manager
+ * are kept.
+ */
+public final class DataManagerCache
+{
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    /**
+     * Called upon receiving the hashes of all synced data managers from the server. Binds any data managers which are cached, and requests the
+     * rest from the server.
+     */
+    public static void onHashes(Map<DataManager<?>, Long> hashes)
+    {
+        final @Nullable RegistryAccess registryAccess = registryAccess();
+        final Set<DataManager<?>> missing = new HashSet<>();
+        boolean changed = false;
+        for (Map.Entry<DataManager<?>, Long> entry : hashes.entrySet())
+        {
+            final DataManager<?> manager = entry.getKey();
+            final long hash = entry.getValue();
+            if (manager.isSyncedWith(hash))
+            {
+                continue; // Already up to date, i.e. a reload that didn't modify this data manager
+            }
+            if (registryAccess != null && load(manager, hash, registryAccess))
+            {
+                changed = true;
+            }
+            else
+            {
+                missing.add(manager);
+            }
+        }
+
+        LOGGER.info("Loaded {} data manager(s) from cache, requesting {} from server", hashes.size() - missing.size(), missing.size());
+        if (!missing.isEmpty())
+        {
+            PacketDistributor.sendToServer(new DataManagerRequestPacket(missing));
+        }
+        if (changed)
+        {
+            onDataManagersUpdated();
+        }
+    }
+
+    /**
+     * Called upon receiving the contents of a data manager from the server, encoded by the server. Binds the data manager, and caches the bytes
+     * verbatim, so they always match the hash which identifies them.
+     */
+    public static <T> void onReceived(DataManager<T> manager, long hash, byte[] bytes)
+    {
+        final @Nullable RegistryAccess registryAccess = registryAccess();
+        if (registryAccess == null)
+        {
+            LOGGER.warn("Ignoring {}(s) received from server without a connection", manager.getName());
+            return;
+        }
+        manager.bindValues(manager.decodeElements(bytes, registryAccess), hash);
+
+        final @Nullable Path directory = directory(manager);
+        if (directory == null)
+        {
+            return;
+        }
+        try
+        {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory))
+            {
+                for (Path file : (Iterable<Path>) files::iterator)
+                {
+                    Files.deleteIfExists(file);
+                }
+            }
+            Files.write(directory.resolve(fileName(hash)), bytes);
+        }
+        catch (IOException e)
+        {
+            LOGGER.warn("Unable to cache {}(s) received from server: {}", manager.getName(), e.toString());
+        }
+    }
+
+    /**
+     * Data managers may be bound after tags are updated on the client, so caches which depend on their contents need to be reloaded again.
+     */
+    public static void onDataManagersUpdated()
+    {
+        final @Nullable RecipeManager recipeManager = ClientHelpers.tryGetSafeRecipeManager();
+        if (recipeManager != null)
+        {
+            ForgeEventHandler.reloadStaticDataCaches(recipeManager);
+        }
+    }
+
+    private static <T> boolean load(DataManager<T> manager, long hash, RegistryAccess registryAccess)
+    {
+        final @Nullable Path directory = directory(manager);
+        if (directory == null)
+        {
+            return false;
+        }
+        final Path file = directory.resolve(fileName(hash));
+        if (!Files.isRegularFile(file))
+        {
+            return false;
+        }
+        try
+        {
+            final byte[] bytes = Files.readAllBytes(file);
+            if (DataManager.hash(bytes) != hash)
+            {
+                return false; // Corrupt
+            }
+            manager.bindValues(manager.decodeElements(bytes, registryAccess), hash);
+            return true;
+        }
+        catch (Exception e)
+        {
+            LOGGER.warn("Unable to load cached {}(s): {}", manager.getName(), e.toString());
+            return false;
+        }
+    }
+
+    @Nullable
+    private static Path directory(DataManager<?> manager)
+    {
+        final @Nullable ServerData server = Minecraft.getInstance().getCurrentServer();
+        final @Nullable ResourceLocation id = DataManagers.REGISTRY.getKey(manager);
+        if (server == null || id == null)
+        {
+            return null;
+        }
+        return FMLPaths.GAMEDIR.get()
+            .resolve("tfc")
+            .resolve("data_managers")
+            .resolve(sanitize(server.ip))
+            .resolve(sanitize(id.toString()));
+    }
+
+    @Nullable
+    private static RegistryAccess registryAccess()
+    {
+        final @Nullable ClientPacketListener connection = Minecraft.getInstance().getConnection();
+        return connection != null ? connection.registryAccess() : null;
+    }
+
+    private static String fileName(long hash)
+    {
+        return Long.toHexString(hash) + ".bin";
+    }
+
+    private static String sanitize(String name)
+    {
+        return name.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9._-]", "_");
+    }
+}
@@ -64,6 +64,7 @@ import net.neoforged.neoforge.client.extensions.common.IClientFluidTypeExtension
 import net.neoforged.neoforge.client.model.data.ModelData;
 import net.neoforged.neoforge.fluids.FluidStack;
 import org.joml.Matrix4f;
+import org.joml.Vector3f;
 
 import net.dries007.tfc.common.component.heat.HeatCapability;
 import net.dries007.tfc.common.entities.GenderedRenderAnimal;
@@ -77,6 +78,46 @@ public final class RenderHelpers
     @SuppressWarnings("deprecation") public static final ResourceLocation BLOCKS_ATLAS = TextureAtlas.LOCATION_BLOCKS;
     public static final Button.CreateNarration NARRATION = Supplier::get;
 
+    /**
+     * Constant templates for each pair of faces of a (trapezoidal) cuboid, matching the vertices from {@link #getXVertices}, {@link #getYVertices}, and
+     * {@link #getZVertices}. Each vertex is (x, y, z, u, v, normalSign), where (x, y, z) are either 0 (the minimum) or 1 (the maximum) along that axis.
+     */
+    private static final byte[] X_FACES = {
+        0, 0, 0, 0, 1, 1, // +X
+        0, 0, 1, 1, 1, 1,
+        0, 1, 1, 1, 0, 1,
+        0, 1, 0, 0, 0, 1,
+
+        1, 0, 1, 1, 0, -1, // -X
+        1, 0, 0, 0, 0, -1,
+        1, 1, 0, 0, 1, -1,
+        1, 1, 1, 1, 1, -1,
+    };
+    private static final byte[] Y_FACES = {
+        0, 1, 0, 0, 1, 1, // +Y
+        0, 1, 1, 1, 1, 1,
+        1, 1, 1, 1, 0, 1,
+        1, 1, 0, 0, 0, 1,
+
+        0, 0, 1, 1, 0, -1, // -Y
+        0, 0, 0, 0, 0, -1,
+        1, 0, 0, 0, 1, -1,
+        1, 0, 1, 1, 1, -1,
+    };
+    private static final byte[] Z_FACES = {
+        1, 0, 0, 0, 1, 1, // +Z
+        0, 0, 0, 1, 1, 1,
+        0, 1, 0, 1, 0, 1,
+        1, 1, 0, 0, 0, 1,
+
+        0, 0, 1, 1, 0, -1, // -Z
+        1, 0, 1, 0, 0, -1,
+        1, 1, 1, 0, 1, -1,
+        0, 1, 1, 1, 1, -1,
+    };
+
+    private static final int FACE_STRIDE = 6;
+
     public static <K, V, S extends Supplier<? extends K>> Map<K, V> mapOf(Consumer<BiConsumer<S, V>> factory)
     {
         final Map<K, V> map = new Reference2ObjectOpenHashMap<>(); // Used with `Block` or `Item` keys
@@ -161,9 +202,11 @@ public final class RenderHelpers
      */
     public static void renderTexturedCuboid(PoseStack poseStack, VertexConsumer buffer, TextureAtlasSprite sprite, int packedLight, int packedOverlay, float minX, float minY, float minZ, float maxX, float maxY, float maxZ, float xPixels, float yPixels, float zPixels, boolean doShade)
     {
-        renderTexturedQuads(poseStack, buffer, sprite, packedLight, packedOverlay, getXVertices(minX, minY, minZ, maxX, maxY, maxZ), zPixels, yPixels, 1, 0, 0, doShade);
-        renderTexturedQuads(poseStack, buffer, sprite, packedLight, packedOverlay, getYVertices(minX, minY, minZ, maxX, maxY, maxZ), zPixels, xPixels, 0, 1, 0, doShade);
-        renderTexturedQuads(poseStack, buffer, sprite, packedLight, packedOverlay, getZVertices(minX, minY, minZ, maxX, maxY, maxZ), xPixels, yPixels, 0, 0, 1, doShade);
+        // A cuboid is a trapezoidal cuboid where both planes are the same
+        final PoseStack.Pose pose = poseStack.last();
+        renderTrapezoidalFaces(pose, buffer, sprite, packedLight, packedOverlay, X_FACES, minX, maxX, minZ, maxZ, minX, maxX, minZ, maxZ, minY, maxY, zPixels, yPixels, 1, 0, 0, doShade);
+        renderTrapezoidalFaces(pose, buffer, sprite, packedLight, packedOverlay, Y_FACES, minX, maxX, minZ, maxZ, minX, maxX, minZ, maxZ, minY, maxY, zPixels, xPixels, 0, 1, 0, doShade);
+        renderTrapezoidalFaces(pose, buffer, sprite, packedLight, packedOverlay, Z_FACES, minX, maxX, minZ, maxZ, minX, maxX, minZ, maxZ, minY, maxY, xPixels, yPixels, 0, 0, 1, doShade);
     }
 
     /**
@@ -182,9 +225,42 @@ public final class RenderHelpers
      */
     public static void renderTexturedTrapezoidalCuboid(PoseStack poseStack, VertexConsumer buffer, TextureAtlasSprite sprite, int packedLight, int packedOverlay, float pMinX, float pMaxX, float pMinZ, float pMaxZ, float qMinX, float qMaxX, float qMinZ, float qMaxZ, float minY, float maxY, float xPixels, float yPixels, float zPixels, boolean invertNormal)
     {
-        renderTexturedQuads(poseStack, buffer, sprite, packedLight, packedOverlay, getTrapezoidalCuboidXVertices(pMinX, pMaxX, pMinZ, pMaxZ, qMinX, qMaxX, qMinZ, qMaxZ, minY, maxY), zPixels, yPixels, invertNormal ? 0 : 1, 0, invertNormal ? 1 : 0, true);
-        renderTexturedQuads(poseStack, buffer, sprite, packedLight, packedOverlay, getTrapezoidalCuboidYVertices(pMinX, pMaxX, pMinZ, pMaxZ, qMinX, qMaxX, qMinZ, qMaxZ, minY, maxY), zPixels, xPixels, 0, 1, 0, true);
-        renderTexturedQuads(poseStack, buffer, sprite, packedLight, packedOverlay, getTrapezoidalCuboidZVertices(pMinX, pMaxX, pMinZ, pMaxZ, qMinX, qMaxX, qMinZ, qMaxZ, minY, maxY), xPixels, yPixels, invertNormal ? 1 : 0, 0, invertNormal ? 0 : 1, true);
+        final PoseStack.Pose pose = poseStack.last();
+        renderTrapezoidalFaces(pose, buffer, sprite, packedLight, packedOverlay, X_FACES, pMinX, pMaxX, pMinZ, pMaxZ, qMinX, qMaxX, qMinZ, qMaxZ, minY, maxY, zPixels, yPixels, invertNormal ? 0 : 1, 0, invertNormal ? 1 : 0, true);
+        renderTrapezoidalFaces(pose, buffer, sprite, packedLight, packedOverlay, Y_FACES, pMinX, pMaxX, pMinZ, pMaxZ, qMinX, qMaxX, qMinZ, qMaxZ, minY, maxY, zPixels, xPixels, 0, 1, 0, true);
+        renderTrapezoidalFaces(pose, buffer, sprite, packedLight, packedOverlay, Z_FACES, pMinX, pMaxX, pMinZ, pMaxZ, qMinX, qMaxX, qMinZ, qMaxZ, minY, maxY, xPixels, yPixels, invertNormal ? 1 : 0, 0, invertNormal ? 0 : 1, true);
+    }
+
+    /**
+     * Renders two opposite faces of a trapezoidal cuboid (which includes regular cuboids, where the planes P and Q are the same), directly from
+     * one of the constant {@code faces} templates, rather than building an array of vertices. This is equivalent to {@link #renderTexturedQuads}
+     * with the vertices from i.e. {@link #getTrapezoidalCuboidXVertices}, but does not allocate, as these are rendered every frame, for every block entity.
+     */
+    private static void renderTrapezoidalFaces(PoseStack.Pose pose, VertexConsumer buffer, TextureAtlasSprite sprite, int packedLight, int packedOverlay, byte[] faces, float pMinX, float pMaxX, float pMinZ, float pMaxZ, float qMinX, float qMaxX, float qMinZ, float qMaxZ, float minY, float maxY, float uSize, float vSize, float normalX, float normalY, float normalZ, boolean doShade)
+    {
+        // Scratch vectors, local as this is also called from chunk builder threads, when baking static block entity models
+        final Vector3f position = new Vector3f(), normal = new Vector3f();
+        for (int i = 0; i < faces.length; i += FACE_STRIDE)
+        {
+            final boolean isQ = faces[i + 1] == 1; // The P plane is always at minY, and the Q plane at maxY
+            final float x = faces[i] == 0 ? (isQ ? qMinX : pMinX) : (isQ ? qMaxX : pMaxX);
+            final float y = isQ ? maxY : minY;
+            final float z = faces[i + 2] == 0 ? (isQ ? qMinZ : pMinZ) : (isQ ? qMaxZ : pMaxZ);
+            final float u = sprite.getU(faces[i + 3] * uSize * 1f / 16f);
+            final float v = sprite.getV(faces[i + 4] * vSize * 1f / 16f);
+            final float sign = faces[i + 5];
+            final float shade = doShade ? getShade(sign * normalX, sign * normalY, sign * normalZ) : 1f;
+
+            // Transform into the scratch vectors directly, as the default methods on VertexConsumer allocate a new vector for each vertex
+            pose.pose().transformPosition(x, y, z, position);
+            pose.transformNormal(sign * normalX, sign * normalY, sign * normalZ, normal);
+            buffer.addVertex(position.x(), position.y(), position.z())
+                .setColor(shade, shade, shade, 1f)
+                .setUv(u, v)
+                .setLight(packedLight)
+                .setOverlay(packedOverlay)
+                .setNormal(normal.x(), normal.y(), normal.z());
+        }
     }
 
     /**
@@ -28,6 +28,11 @@ public class AxleBlockEntityRenderer implements BlockEntityRenderer<AxleBlockEnt
     public static void renderAxle(PoseStack stack, MultiBufferSource bufferSource, ConnectedAxleBlock axle, Direction.Axis axis, int packedLight, int packedOverlay, float rotationAngle)
     {
         final TextureAtlasSprite sprite = RenderHelpers.blockTexture(axle.getAxleTextureLocation());
+        if (AxleRenderBatch.add(stack, bufferSource, sprite, axis, packedLight, packedOverlay, rotationAngle))
+        {
+            return; // Will be rendered at the end of the block entity pass, along with all other axles in the same network
+        }
+
         final VertexConsumer buffer = bufferSource.getBuffer(RenderType.cutout());
 
         stack.pushPose();
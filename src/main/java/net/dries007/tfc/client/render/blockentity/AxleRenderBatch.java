@@ -0,0 +1,216 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.client.render.blockentity;
+
+import java.util.Map;
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.core.Direction;
+import net.neoforged.fml.ModList;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix3f;
+import org.joml.Matrix4f;
+
+import net.dries007.tfc.client.RenderHelpers;
+import net.dries007.tfc.config.TFCConfig;
+
+/**
+ * Batches the rendering of axles, which are by far the most numerous rotating block entities, as they form long shafts.
+ * <p>
+ * Rather than each axle pushing a pose, computing its rotation, and transforming every vertex of its cuboid, all axles rendered during the block
+ * entity pass are grouped by texture, axis, and rotation angle (which is shared by all axles in the same network). At the end of the pass, each group
+ * transforms its cuboid <strong>once</strong>, and then emits it for every axle in the group, offset by that axle's position.
+ * <p>
+ * This is only enabled between the {@code AFTER_ENTITIES} and {@code AFTER_BLOCK_ENTITIES} render stages, which is exactly the block entity pass.
+ * Outside of that, or when disabled (i.e. when a shader mod is present, as they may depend on each block entity's geometry being submitted by itself),
+ * axles render immediately, as before. Axles which are being broken also render immediately, as they are rendered to a separate buffer source, which
+ * adds the crack overlay.
+ */
+public final class AxleRenderBatch
+{
+    private static final boolean SHADERS = ModList.get().isLoaded("iris") || ModList.get().isLoaded("oculus");
+
+    private static final Map<Key, Group> GROUPS = new Object2ObjectOpenHashMap<>();
+    private static final Matrix4f BASE_POSE = new Matrix4f();
+    private static final Matrix3f BASE_NORMAL = new Matrix3f();
+    private static @Nullable MultiBufferSource.BufferSource open = null; // The buffer source of the block entity pass, if a batch is open
+    private static boolean hasBase = false;
+
+    public static boolean isEnabled()
+    {
+        return !SHADERS && TFCConfig.CLIENT.enableBatchedAxleRendering.get();
+    }
+
+    /**
+     * Called at the start of the block entity pass.
+     *
+     * @param bufferSource The buffer source which block entities are rendered to.
+     */
+    public static void begin(MultiBufferSource.BufferSource bufferSource)
+    {
+        open = isEnabled() ? bufferSource : null;
+        hasBase = false;
+        GROUPS.clear();
+    }
+
+    /**
+     * Called at the end of the block entity pass. Renders all batched axles, and then ends the batch of the render type they were rendered to.
+     */
+    public static void end()
+    {
+        final MultiBufferSource.BufferSource bufferSource = open;
+        if (bufferSource == null)
+        {
+            return;
+        }
+        open = null;
+        if (GROUPS.isEmpty())
+        {
+            return;
+        }
+
+        final VertexConsumer buffer = bufferSource.getBuffer(RenderType.cutout());
+        final CapturingVertexConsumer capture = new CapturingVertexConsumer();
+        final PoseStack stack = new PoseStack();
+
+        for (Map.Entry<Key, Group> entry : GROUPS.entrySet())
+        {
+            final Key key = entry.getKey();
+            final Group group = entry.getValue();
+
+            // Transform the cuboid once, for every axle in the group, with the shared (rotation only) part of the block entity pose
+            capture.clear();
+            stack.last().pose().identity().set3x3(BASE_POSE);
+            stack.last().normal().set(BASE_NORMAL);
+            AxleBlockEntityRenderer.applyRotation(stack, key.axis, Float.intBitsToFloat(key.angleBits));
+            RenderHelpers.renderTexturedCuboid(stack, capture, key.sprite, 0, 0, 6f / 16f, 6f / 16f, 0f, 10f / 16f, 10f / 16f, 1f, false);
+
+            final float[] vertices = capture.vertices.elements();
+            for (int i = 0; i < group.lights.size(); i++)
+            {
+                final float x = group.offsets.getFloat(i * 3), y = group.offsets.getFloat(i * 3 + 1), z = group.offsets.getFloat(i * 3 + 2);
+                final int light = group.lights.getInt(i), overlay = group.overlays.getInt(i);
+                for (int j = 0; j < capture.vertices.size(); j += CapturingVertexConsumer.STRIDE)
+                {
+                    buffer.addVertex(vertices[j] + x, vertices[j + 1] + y, vertices[j + 2] + z)
+                        .setColor(1f, 1f, 1f, 1f)
+                        .setUv(vertices[j + 3], vertices[j + 4])
+                        .setLight(light)
+                        .setOverlay(overlay)
+                        .setNormal(vertices[j + 5], vertices[j + 6], vertices[j + 7]);
+                }
+            }
+        }
+        GROUPS.clear();
+        bufferSource.endBatch(RenderType.cutout());
+    }
+
+    /**
+     * Adds an axle to the current batch, if one is open.
+     *
+     * @param stack The pose of the block entity being rendered. This must only differ from other block entities by a translation, which is true of all block entities rendered in the same pass.
+     * @param bufferSource The buffer source the block entity is being rendered to. Block entities which are being broken are rendered to a different one, which also renders the crack overlay, and so cannot be batched.
+     * @return {@code true} if the axle was added, otherwise it should be rendered immediately.
+     */
+    public static boolean add(PoseStack stack, MultiBufferSource bufferSource, TextureAtlasSprite sprite, Direction.Axis axis, int packedLight, int packedOverlay, float rotationAngle)
+    {
+        if (open == null || open != bufferSource)
+        {
+            return false;
+        }
+
+        final PoseStack.Pose pose = stack.last();
+        if (!hasBase)
+        {
+            BASE_POSE.set3x3(pose.pose());
+            BASE_NORMAL.set(pose.normal());
+            hasBase = true;
+        }
+
+        final Group group = GROUPS.computeIfAbsent(new Key(sprite, axis, Float.floatToIntBits(rotationAngle)), key -> new Group());
+        group.offsets.add(pose.pose().m30());
+        group.offsets.add(pose.pose().m31());
+        group.offsets.add(pose.pose().m32());
+        group.lights.add(packedLight);
+        group.overlays.add(packedOverlay);
+        return true;
+    }
+
+    record Key(TextureAtlasSprite sprite, Direction.Axis axis, int angleBits) {}
+
+    static final class Group
+    {
+        final FloatArrayList offsets = new FloatArrayList(); // (x, y, z) translation of each axle
+        final IntArrayList lights = new IntArrayList();
+        final IntArrayList overlays = new IntArrayList();
+    }
+
+    /**
+     * Records the position, texture, and normal of each vertex, discarding color, light, and overlay, which are set per axle.
+     */
+    static final class CapturingVertexConsumer implements VertexConsumer
+    {
+        static final int STRIDE = 8;
+
+        final FloatArrayList vertices = new FloatArrayList();
+
+        void clear()
+        {
+            vertices.clear();
+        }
+
+        @Override
+        public VertexConsumer addVertex(float x, float y, float z)
+        {
+            vertices.add(x);
+            vertices.add(y);
+            vertices.add(z);
+            return this;
+        }
+
+        @Override
+        public VertexConsumer setColor(int red, int green, int blue, int alpha)
+        {
+            return this;
+        }
+
+        @Override
+        public VertexConsumer setUv(float u, float v)
+        {
+            vertices.add(u);
+            vertices.add(v);
+            return this;
+        }
+
+        @Override
+        public VertexConsumer setUv1(int u, int v)
+        {
+            return this;
+        }
+
+        @Override
+        public VertexConsumer setUv2(int u, int v)
+        {
+            return this;
+        }
+
+        @Override
+        public VertexConsumer setNormal(float normalX, float normalY, float normalZ)
+        {
+            vertices.add(normalX);
+            vertices.add(normalY);
+            vertices.add(normalZ);
+            return this;
+        }
+    }
+}
@@ -21,11 +21,14 @@ import net.neoforged.neoforge.registries.NeoForgeRegistries;
 
 import net.dries007.tfc.TerraFirmaCraft;
 import net.dries007.tfc.mixin.accessor.ChunkAccessAccessor;
+import net.dries007.tfc.util.data.SupportIndex;
 import net.dries007.tfc.util.registry.RegistryHolder;
+import net.dries007.tfc.util.tracker.SnowIndex;
 import net.dries007.tfc.util.tracker.WorldTracker;
 import net.dries007.tfc.world.ChunkGeneratorExtension;
 import net.dries007.tfc.world.chunkdata.ChunkData;
 import net.dries007.tfc.world.chunkdata.ChunkDataGenerator;
+import net.dries007.tfc.world.chunkdata.ChunkWatchTracker;
 
 public final class TFCAttachments
 {
@@ -56,6 +59,28 @@ public final class TFCAttachments
         })
         .build());
 
+    public static final Id<SnowIndex> SNOW_INDEX = register("snow_index", () -> AttachmentType.builder(SnowIndex::new)
+        .serialize(new IAttachmentSerializer<CompoundTag, SnowIndex>() {
+            @Override
+            public SnowIndex read(IAttachmentHolder holder, CompoundTag tag, HolderLookup.Provider provider)
+            {
+                final SnowIndex index = new SnowIndex();
+                index.deserializeNBT(tag);
+                return index;
+            }
+
+            @Override
+            public CompoundTag write(SnowIndex index, HolderLookup.Provider provider)
+            {
+                return index.serializeNBT();
+            }
+        })
+        .build());
+
+    public static final Id<SupportIndex> SUPPORT_INDEX = register("support_index", () -> AttachmentType.builder(SupportIndex::new).build());
+
+    public static final Id<ChunkWatchTracker> CHUNK_WATCH = register("chunk_watch", () -> AttachmentType.builder(ChunkWatchTracker::new).build());
+
     public static final Id<WorldTracker> WORLD_TRACKER = register("world", () -> AttachmentType.builder(
         holder -> new WorldTracker((Level) holder))
         .serialize(new IAttachmentSerializer<CompoundTag, WorldTracker>() {
@@ -183,9 +183,12 @@ public class BlastFurnaceBlockEntity extends TickableInventoryBlockEntity<BlastF
                     // And merge into the output fluid stack
                     entity.outputFluidTank.fill(newOutputFluid, IFluidHandler.FluidAction.EXECUTE);
                 }
+                entity.markForSync();
+            }
+            else
+            {
+                entity.markForHeatSync();
             }
-
-            entity.markForSync();
         }
 
         if (!entity.outputFluidTank.isEmpty())
@@ -197,7 +200,7 @@ public class BlastFurnaceBlockEntity extends TickableInventoryBlockEntity<BlastF
                 // And if transfer happened, provide heat to the container below
                 HeatCapability.provideHeatTo(level, pos.below(), Direction.UP, entity.temperature);
             }
-            entity.markForSync();
+            entity.markForPeriodicSync();
         }
         entity.setChanged();
     }
@@ -36,6 +36,7 @@ import net.dries007.tfc.common.component.food.FoodCapability;
 import net.dries007.tfc.common.component.food.FoodTraits;
 import net.dries007.tfc.common.component.heat.Heat;
 import net.dries007.tfc.common.component.heat.HeatCapability;
+import net.dries007.tfc.common.component.heat.HeatingScheduler;
 import net.dries007.tfc.common.component.heat.IHeat;
 import net.dries007.tfc.common.container.CharcoalForgeContainer;
 import net.dries007.tfc.common.recipes.HeatingRecipe;
@@ -71,6 +72,7 @@ public class CharcoalForgeBlockEntity extends TickableInventoryBlockEntity<ItemS
         {
             forge.needsRecipeUpdate = false;
             forge.updateCachedRecipes();
+            forge.heatingScheduler.markAllDue();
         }
 
         if (level.getGameTime() % 20 == 0)
@@ -120,21 +122,29 @@ public class CharcoalForgeBlockEntity extends TickableInventoryBlockEntity<ItemS
 
             HeatCapability.provideHeatTo(level, pos.above(), Direction.DOWN, forge.temperature);
 
+            // Only heat items which have been scheduled this tick, i.e. those which may reach their recipe or the forge's temperature
+            final long tick = level.getGameTime();
+            forge.heatingScheduler.tick(forge.temperature);
             for (int slot = SLOT_INPUT_MIN; slot <= SLOT_INPUT_MAX; slot++)
             {
+                if (!forge.heatingScheduler.isDue(slot - SLOT_INPUT_MIN, tick))
+                {
+                    continue;
+                }
+
                 final ItemStack stack = forge.inventory.getStackInSlot(slot);
                 final @Nullable IHeat heat = HeatCapability.get(stack);
 
                 if (heat != null)
                 {
                     // Update temperature of item
-                    HeatCapability.addTemp(heat, forge.temperature);
+                    forge.heatingScheduler.heat(slot - SLOT_INPUT_MIN, heat, forge.temperature, forge.cachedRecipes[slot - SLOT_INPUT_MIN], tick);
 
                     // Handle possible melting, or conversion (if reach 1599 = pit kiln temperature)
                     forge.handleInputMelting(stack, slot);
                 }
             }
-            forge.markForSync();
+            forge.markForHeatSync();
         }
 
         // This is here to avoid duplication glitches
@@ -146,6 +156,7 @@ public class CharcoalForgeBlockEntity extends TickableInventoryBlockEntity<ItemS
 
     protected final ContainerData syncableData;
     private final HeatingRecipe[] cachedRecipes = new HeatingRecipe[5];
+    private final HeatingScheduler heatingScheduler = new HeatingScheduler(5);
     private boolean needsSlotUpdate = false;
     private float temperature; // Current Temperature
     private int burnTicks; // Ticks remaining on the current item of fuel
@@ -202,6 +213,7 @@ public class CharcoalForgeBlockEntity extends TickableInventoryBlockEntity<ItemS
             {
                 // Consumed all fuel, so extinguish and cool instantly
                 extinguish(state);
+                heatingScheduler.markAllDirty();
                 for (int i = SLOT_INPUT_MIN; i <= SLOT_INPUT_MAX; i++)
                 {
                     final ItemStack stack = inventory.getStackInSlot(i);
@@ -282,6 +294,10 @@ public class CharcoalForgeBlockEntity extends TickableInventoryBlockEntity<ItemS
         super.setAndUpdateSlots(slot);
         needsSlotUpdate = true;
         updateCachedRecipes();
+        if (slot >= SLOT_INPUT_MIN && slot <= SLOT_INPUT_MAX)
+        {
+            heatingScheduler.markDirty(slot - SLOT_INPUT_MIN);
+        }
     }
 
     @Override
@@ -385,6 +401,9 @@ public class CharcoalForgeBlockEntity extends TickableInventoryBlockEntity<ItemS
 
             FoodCapability.applyTrait(outputStack, FoodTraits.CHARCOAL_GRILLED);
             this.inventory.setStackInSlot(startIndex, outputStack);
+
+            // Both the input slot and any molds have changed, which is not covered by a heat sync
+            markForSync();
         }
     }
 
@@ -140,7 +140,7 @@ public class CrucibleBlockEntity extends TickableInventoryBlockEntity<CrucibleBl
                         {
                             crucible.lastFillTicks = TFCConfig.SERVER.cruciblePouringRate.get();
                         }
-                        crucible.markForSync();
+                        crucible.markForPeriodicSync();
                     }
                 }
             }
@@ -161,7 +161,7 @@ public class CrucibleBlockEntity extends TickableInventoryBlockEntity<CrucibleBl
                 // Remainder was emptied, so do the extraction for real
                 crucible.inventory.drain(1, IFluidHandler.FluidAction.EXECUTE);
             }
-            crucible.markForSync();
+            crucible.markForPeriodicSync();
         }
     }
 
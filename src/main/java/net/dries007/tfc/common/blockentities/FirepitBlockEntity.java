@@ -21,6 +21,7 @@ import org.jetbrains.annotations.Nullable;
 
 import net.dries007.tfc.common.capabilities.PartialItemHandler;
 import net.dries007.tfc.common.component.heat.HeatCapability;
+import net.dries007.tfc.common.component.heat.HeatingScheduler;
 import net.dries007.tfc.common.component.heat.IHeat;
 import net.dries007.tfc.common.container.FirepitContainer;
 import net.dries007.tfc.common.recipes.HeatingRecipe;
@@ -36,6 +37,7 @@ public class FirepitBlockEntity extends AbstractFirepitBlockEntity<ItemStackHand
     public static final int SLOT_OUTPUT_2 = 6; // extra output slot
 
     @Nullable protected HeatingRecipe cachedRecipe;
+    private final HeatingScheduler heatingScheduler = new HeatingScheduler(1);
 
     public FirepitBlockEntity(BlockPos pos, BlockState state)
     {
@@ -60,14 +62,16 @@ public class FirepitBlockEntity extends AbstractFirepitBlockEntity<ItemStackHand
     protected void handleCooking()
     {
         assert level != null;
-        if (temperature > 0)
+        final long tick = level.getGameTime();
+        heatingScheduler.tick(temperature);
+        if (temperature > 0 && heatingScheduler.isDue(0, tick))
         {
             final ItemStack inputStack = inventory.getStackInSlot(SLOT_ITEM_INPUT);
             final @Nullable IHeat cap = HeatCapability.get(inputStack);
             if (cap != null)
             {
                 final float itemTemp = cap.getTemperature();
-                HeatCapability.addTemp(cap, temperature);
+                heatingScheduler.heat(0, cap, temperature, cachedRecipe, tick);
 
                 if (cachedRecipe != null && cachedRecipe.isValidTemperature(itemTemp))
                 {
@@ -88,12 +92,24 @@ public class FirepitBlockEntity extends AbstractFirepitBlockEntity<ItemStackHand
     protected void coolInstantly()
     {
         HeatCapability.setTemperature(inventory.getStackInSlot(SLOT_ITEM_INPUT), 0);
+        heatingScheduler.markAllDirty();
     }
 
     @Override
     protected void updateCachedRecipe()
     {
         cachedRecipe = HeatingRecipe.getRecipe(inventory.getStackInSlot(FirepitBlockEntity.SLOT_ITEM_INPUT));
+        heatingScheduler.markAllDue();
+    }
+
+    @Override
+    public void setAndUpdateSlots(int slot)
+    {
+        super.setAndUpdateSlots(slot);
+        if (slot == SLOT_ITEM_INPUT)
+        {
+            heatingScheduler.markDirty(0);
+        }
     }
 
     /**
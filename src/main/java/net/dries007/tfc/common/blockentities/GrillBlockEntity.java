@@ -21,6 +21,7 @@ import net.dries007.tfc.common.capabilities.PartialItemHandler;
 import net.dries007.tfc.common.component.food.FoodCapability;
 import net.dries007.tfc.common.component.food.FoodTraits;
 import net.dries007.tfc.common.component.heat.HeatCapability;
+import net.dries007.tfc.common.component.heat.HeatingScheduler;
 import net.dries007.tfc.common.component.heat.IHeat;
 import net.dries007.tfc.common.container.GrillContainer;
 import net.dries007.tfc.common.recipes.HeatingRecipe;
@@ -35,6 +36,7 @@ public class GrillBlockEntity extends AbstractFirepitBlockEntity<ItemStackHandle
     public static final int SLOT_EXTRA_INPUT_END = 8;
 
     private final HeatingRecipe[] cachedRecipes;
+    private final HeatingScheduler heatingScheduler = new HeatingScheduler(5);
 
     public GrillBlockEntity(BlockPos pos, BlockState state)
     {
@@ -77,14 +79,21 @@ public class GrillBlockEntity extends AbstractFirepitBlockEntity<ItemStackHandle
     protected void handleCooking()
     {
         assert level != null;
+        final long tick = level.getGameTime();
+        heatingScheduler.tick(temperature);
         for (int slot = SLOT_EXTRA_INPUT_START; slot <= SLOT_EXTRA_INPUT_END; slot++)
         {
+            if (!heatingScheduler.isDue(slot - SLOT_EXTRA_INPUT_START, tick))
+            {
+                continue;
+            }
+
             final ItemStack inputStack = inventory.getStackInSlot(slot);
             final @Nullable IHeat inputHeat = HeatCapability.get(inputStack);
             if (inputHeat != null)
             {
-                HeatCapability.addTemp(inputHeat, temperature);
                 HeatingRecipe recipe = cachedRecipes[slot - SLOT_EXTRA_INPUT_START];
+                heatingScheduler.heat(slot - SLOT_EXTRA_INPUT_START, inputHeat, temperature, recipe, tick);
                 if (recipe != null && recipe.isValidTemperature(inputHeat.getTemperature()))
                 {
                     ItemStack output = recipe.assembleItem(inputStack);
@@ -103,6 +112,7 @@ public class GrillBlockEntity extends AbstractFirepitBlockEntity<ItemStackHandle
         {
             HeatCapability.setTemperature(stack, 0);
         }
+        heatingScheduler.markAllDirty();
     }
 
     @Override
@@ -113,6 +123,17 @@ public class GrillBlockEntity extends AbstractFirepitBlockEntity<ItemStackHandle
             final ItemStack stack = inventory.getStackInSlot(slot);
             cachedRecipes[slot - SLOT_EXTRA_INPUT_START] = stack.isEmpty() ? null : HeatingRecipe.getRecipe(stack);
         }
+        heatingScheduler.markAllDue();
+    }
+
+    @Override
+    public void setAndUpdateSlots(int slot)
+    {
+        super.setAndUpdateSlots(slot);
+        if (slot >= SLOT_EXTRA_INPUT_START && slot <= SLOT_EXTRA_INPUT_END)
+        {
+            heatingScheduler.markDirty(slot - SLOT_EXTRA_INPUT_START);
+        }
     }
 
 }
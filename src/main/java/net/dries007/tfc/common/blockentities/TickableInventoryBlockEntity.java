@@ -6,32 +6,91 @@
 
 package net.dries007.tfc.common.blockentities;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 import net.neoforged.neoforge.common.util.INBTSerializable;
 import net.neoforged.neoforge.items.IItemHandlerModifiable;
+import net.neoforged.neoforge.network.PacketDistributor;
+
+import net.dries007.tfc.common.component.heat.Heat;
+import net.dries007.tfc.common.component.heat.HeatCapability;
+import net.dries007.tfc.config.ServerConfig;
+import net.dries007.tfc.config.TFCConfig;
+import net.dries007.tfc.network.BlockEntityHeatPacket;
 
 /**
  * An extension of {@link InventoryBlockEntity} for block entities that are ticking. This batches sync updates so that they
  * only occur at most once per tick.
+ * <p>
+ * Heat devices, which change their contents every tick, can additionally mark gradual changes, which are synced at most once every
+ * {@link ServerConfig#heatDeviceSyncInterval} ticks:
+ * <ul>
+ *     <li>{@link #markForHeatSync()} for changes which only affect the temperature of items. These only sync the temperature of items that have
+ *     visibly changed, rather than the entire block entity.</li>
+ *     <li>{@link #markForPeriodicSync()} for other small, incremental changes, such as fluid being drained one unit at a time.</li>
+ * </ul>
  */
 public abstract class TickableInventoryBlockEntity<C extends IItemHandlerModifiable & INBTSerializable<CompoundTag>> extends InventoryBlockEntity<C>
 {
+    private static final Map<BlockEntityType<?>, SyncStats> SYNC_STATS = new Reference2ObjectOpenHashMap<>();
+
+    /**
+     * @return Statistics of the syncs sent by each type of block entity, since the last reset. Only accessed on server thread.
+     */
+    public static Map<BlockEntityType<?>, SyncStats> syncStats()
+    {
+        return SYNC_STATS;
+    }
+
+    public static void resetSyncStats()
+    {
+        SYNC_STATS.clear();
+    }
+
     private boolean needsClientUpdate;
+    private boolean needsPeriodicUpdate;
+    private boolean needsHeatUpdate;
+    private long lastSyncTick;
+    private int[] syncedHeatSteps; // The visible heat step of each slot, as last synced to clients
 
     protected TickableInventoryBlockEntity(BlockEntityType<?> type, BlockPos pos, BlockState state, InventoryFactory<C> inventory)
     {
         super(type, pos, state, inventory);
+        this.syncedHeatSteps = new int[0];
     }
 
     public void checkForLastTickSync()
     {
-        if (needsClientUpdate)
+        final boolean canSyncPeriodically = level != null && level.getGameTime() - lastSyncTick >= TFCConfig.SERVER.heatDeviceSyncInterval.get();
+        if (needsClientUpdate || (needsPeriodicUpdate && canSyncPeriodically))
         {
             needsClientUpdate = false;
-            super.markForSync();
+            needsPeriodicUpdate = false;
+            needsHeatUpdate = false;
+            if (level instanceof ServerLevel serverLevel)
+            {
+                sendFullSync(serverLevel);
+            }
+            setChanged();
+        }
+        else if (needsHeatUpdate && canSyncPeriodically && level instanceof ServerLevel serverLevel)
+        {
+            needsHeatUpdate = false;
+            sendHeatSync(serverLevel);
         }
     }
 
@@ -40,4 +99,136 @@ public abstract class TickableInventoryBlockEntity<C extends IItemHandlerModifia
     {
         needsClientUpdate = true;
     }
+
+    /**
+     * Marks this block entity as having changed gradually, which will be synced to clients in full, but not more often than the configured interval.
+     */
+    public void markForPeriodicSync()
+    {
+        needsPeriodicUpdate = true;
+        markDirty();
+    }
+
+    /**
+     * Marks this block entity as changed, where the only change clients need to observe is the temperature of items in the inventory.
+     */
+    public void markForHeatSync()
+    {
+        needsHeatUpdate = true;
+        markDirty();
+    }
+
+    /**
+     * Called on client, upon receiving a {@link BlockEntityHeatPacket}.
+     */
+    public void onHeatSync(int[] slots, float[] temperatures)
+    {
+        for (int i = 0; i < slots.length; i++)
+        {
+            if (slots[i] < inventory.getSlots())
+            {
+                HeatCapability.setTemperature(inventory.getStackInSlot(slots[i]), temperatures[i]);
+            }
+        }
+    }
+
+    private void sendFullSync(ServerLevel level)
+    {
+        final ClientboundBlockEntityDataPacket packet = getUpdatePacket();
+        if (packet != null)
+        {
+            final List<ServerPlayer> players = level.getChunkSource().chunkMap.getPlayers(new ChunkPos(worldPosition), false);
+            for (ServerPlayer player : players)
+            {
+                player.connection.send(packet);
+            }
+            stats().recordFull(players.isEmpty() ? 0 : encodedSize(level, packet), players.size());
+        }
+
+        // Clients now observe the current temperature of all items
+        lastSyncTick = level.getGameTime();
+        if (syncedHeatSteps.length != inventory.getSlots())
+        {
+            syncedHeatSteps = new int[inventory.getSlots()];
+        }
+        for (int slot = 0; slot < syncedHeatSteps.length; slot++)
+        {
+            syncedHeatSteps[slot] = Heat.getVisibleStep(HeatCapability.getTemperature(inventory.getStackInSlot(slot)));
+        }
+    }
+
+    private void sendHeatSync(ServerLevel level)
+    {
+        lastSyncTick = level.getGameTime();
+        if (syncedHeatSteps.length != inventory.getSlots())
+        {
+            syncedHeatSteps = new int[inventory.getSlots()];
+            Arrays.fill(syncedHeatSteps, -1);
+        }
+
+        final IntArrayList slots = new IntArrayList();
+        final FloatArrayList temperatures = new FloatArrayList();
+        for (int slot = 0; slot < syncedHeatSteps.length; slot++)
+        {
+            final float temperature = HeatCapability.getTemperature(inventory.getStackInSlot(slot));
+            final int step = Heat.getVisibleStep(temperature);
+            if (step != syncedHeatSteps[slot])
+            {
+                syncedHeatSteps[slot] = step;
+                slots.add(slot);
+                temperatures.add(temperature);
+            }
+        }
+
+        if (!slots.isEmpty())
+        {
+            final BlockEntityHeatPacket packet = new BlockEntityHeatPacket(worldPosition, slots.toIntArray(), temperatures.toFloatArray());
+            final List<ServerPlayer> players = level.getChunkSource().chunkMap.getPlayers(new ChunkPos(worldPosition), false);
+            for (ServerPlayer player : players)
+            {
+                PacketDistributor.sendToPlayer(player, packet);
+            }
+            stats().recordHeat(packet.sizeInBytes(), players.size());
+        }
+    }
+
+    /**
+     * @return The size of the encoded packet, in bytes, not including the packet type. This encodes the packet an additional time, which is only
+     * done for full syncs, which should be infrequent from heat devices.
+     */
+    private static int encodedSize(ServerLevel level, ClientboundBlockEntityDataPacket packet)
+    {
+        final RegistryFriendlyByteBuf buffer = new RegistryFriendlyByteBuf(Unpooled.buffer(), level.registryAccess());
+        ClientboundBlockEntityDataPacket.STREAM_CODEC.encode(buffer, packet);
+        final int size = buffer.readableBytes();
+        buffer.release();
+        return size;
+    }
+
+    private SyncStats stats()
+    {
+        return SYNC_STATS.computeIfAbsent(getType(), key -> new SyncStats());
+    }
+
+    public static final class SyncStats
+    {
+        private long fullSyncs, fullBytes, heatSyncs, heatBytes;
+
+        public long fullSyncs() { return fullSyncs; }
+        public long fullBytes() { return fullBytes; }
+        public long heatSyncs() { return heatSyncs; }
+        public long heatBytes() { return heatBytes; }
+
+        void recordFull(int bytes, int players)
+        {
+            fullSyncs++;
+            fullBytes += (long) bytes * players;
+        }
+
+        void recordHeat(int bytes, int players)
+        {
+            heatSyncs++;
+            heatBytes += (long) bytes * players;
+        }
+    }
 }
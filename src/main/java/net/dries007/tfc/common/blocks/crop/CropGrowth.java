@@ -0,0 +1,175 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.blocks.crop;
+
+import net.minecraft.util.RandomSource;
+import org.jetbrains.annotations.Nullable;
+
+import net.dries007.tfc.common.blockentities.CropBlockEntity;
+import net.dries007.tfc.common.blockentities.FarmlandBlockEntity;
+import net.dries007.tfc.common.blockentities.IFarmland;
+import net.dries007.tfc.util.Helpers;
+import net.dries007.tfc.util.climate.ClimateRange;
+
+import static net.dries007.tfc.common.blocks.crop.CropHelpers.*;
+
+/**
+ * The state of a single crop while simulating one or more growth steps. This does not modify the crop, or the world, except for consuming
+ * nutrients from the farmland. The caller is responsible for killing the crop, or saving the result with {@link #save}.
+ *
+ * @see CropHelpers#growthTick
+ */
+public final class CropGrowth
+{
+    private final ClimateRange range;
+    private final int hydration;
+    private final @Nullable IFarmland farmland;
+    private final FarmlandBlockEntity.NutrientType primaryNutrient;
+    private final float growthModifier, localExpiryLimit, growthLimit;
+
+    private float growth, expiry, actualYield;
+
+    /**
+     * @param growthModifier The config crop growth modifier. Higher = Slower growth
+     * @param expiryModifier The config crop expiry modifier. Higher = Slower expiry
+     */
+    public CropGrowth(ClimateRange range, int hydration, @Nullable IFarmland farmland, FarmlandBlockEntity.NutrientType primaryNutrient, float growthLimit, float growthModifier, float expiryModifier, float growth, float expiry, float yield)
+    {
+        this.range = range;
+        this.hydration = hydration;
+        this.farmland = farmland;
+        this.primaryNutrient = primaryNutrient;
+        this.growthModifier = growthModifier;
+        this.localExpiryLimit = EXPIRY_LIMIT * expiryModifier * (1f / growthModifier);
+        this.growthLimit = growthLimit;
+
+        this.growth = growth;
+        this.expiry = expiry;
+        this.actualYield = yield;
+    }
+
+    /**
+     * @return {@code true} if the crop survived. If not, it should die with the current {@link #growth()}.
+     */
+    public boolean step(RandomSource random, long tickDelta, float startTemperature, float endTemperature)
+    {
+        final boolean growing = checkClimate(range, hydration, startTemperature, endTemperature, false);
+        final boolean healthy = growing || checkClimate(range, hydration, startTemperature, endTemperature, true);
+
+        // Nutrients are consumed first, since they are independent of growth or health.
+        // As long as the crop exists it consumes nutrients.
+
+        float nutrientsAvailable = 0, nutrientsRequired = NUTRIENT_CONSUMPTION * tickDelta, nutrientsConsumed = 0;
+        if (farmland != null)
+        {
+            nutrientsAvailable = farmland.getNutrient(primaryNutrient);
+            nutrientsConsumed = farmland.consumeNutrientAndResupplyOthers(primaryNutrient, nutrientsRequired);
+        }
+
+        // Total growth is based on the ticks and the nutrients consumed. It is then allocated to actual growth or expiry based on other factors.
+        final float totalGrowthDelta = (1f / growthModifier) * Helpers.uniform(random, 0.9f, 1.1f) * tickDelta * CropHelpers.GROWTH_FACTOR + nutrientsConsumed * NUTRIENT_GROWTH_FACTOR;
+        final float initialGrowth = growth;
+        float remainingGrowthDelta = totalGrowthDelta;
+
+        // Re-scale expiry to within our imaginary limits
+        expiry *= localExpiryLimit / EXPIRY_LIMIT;
+
+        if (remainingGrowthDelta > 0 && growing && growth < growthLimit)
+        {
+            // Allocate to growth
+            final float delta = Math.min(remainingGrowthDelta, growthLimit - growth);
+
+            growth += delta;
+            remainingGrowthDelta -= delta;
+        }
+        if (remainingGrowthDelta > 0)
+        {
+            // Allocate remaining growth to expiry
+            final float delta = Math.min(remainingGrowthDelta, localExpiryLimit - expiry);
+
+            expiry += delta;
+        }
+
+        // Calculate yield, which depends both on a flat rate per growth, and on the nutrient satisfaction, which is a measure of nutrient consumption over the growth time.
+        final float growthDelta = growth - initialGrowth;
+        final float nutrientSatisfaction;
+        if (growthDelta <= 0 || nutrientsRequired <= 0)
+        {
+            nutrientSatisfaction = 1; // Either condition causes the below formula to result in NaN
+        }
+        else
+        {
+            nutrientSatisfaction = Math.min(1, (totalGrowthDelta / growthDelta) * (nutrientsAvailable / nutrientsRequired));
+        }
+
+        actualYield += growthDelta * Helpers.lerp(nutrientSatisfaction, YIELD_MIN, YIELD_LIMIT);
+
+        // Check if the crop should've expired.
+        if (expiry >= localExpiryLimit || !healthy)
+        {
+            // Lenient here - instead of assuming it expired at the start of the duration, we assume at the end. Including growth during this period.
+            return false;
+        }
+
+        // Re-scale expiry to constant values to maintain invariance if the config value is updated
+        expiry *= EXPIRY_LIMIT / localExpiryLimit;
+        return true;
+    }
+
+    /**
+     * Once a crop has reached its growth limit, all further growth is allocated to expiry, at a rate of at least the minimum random growth
+     * rate. If that is enough to reach the expiry limit within {@code remainingTicks}, the outcome is already determined, and the crop will
+     * die with its current growth. In that case, this consumes the nutrients the crop would have consumed until it died.
+     *
+     * @return {@code true} if the crop is certain to expire, and should die with the current {@link #growth()}.
+     */
+    public boolean expireIfCertain(long remainingTicks)
+    {
+        if (growth < growthLimit)
+        {
+            return false;
+        }
+
+        final float expiryRemaining = (EXPIRY_LIMIT - expiry) * localExpiryLimit / EXPIRY_LIMIT;
+        final float minExpiryRate = (1f / growthModifier) * 0.9f * CropHelpers.GROWTH_FACTOR;
+        if (minExpiryRate * remainingTicks <= expiryRemaining)
+        {
+            return false;
+        }
+
+        // The crop would have continued to consume nutrients until it expired, which is at least as long as it would take at the maximum rate
+        if (farmland != null)
+        {
+            final float maxExpiryRate = (1f / growthModifier) * 1.1f * CropHelpers.GROWTH_FACTOR + NUTRIENT_CONSUMPTION * NUTRIENT_GROWTH_FACTOR;
+            farmland.consumeNutrientAndResupplyOthers(primaryNutrient, NUTRIENT_CONSUMPTION * (expiryRemaining / maxExpiryRate));
+        }
+        return true;
+    }
+
+    public float growth()
+    {
+        return growth;
+    }
+
+    public float expiry()
+    {
+        return expiry;
+    }
+
+    public float yield()
+    {
+        return actualYield;
+    }
+
+    public void save(CropBlockEntity crop, long tick)
+    {
+        crop.setGrowth(growth);
+        crop.setYield(actualYield);
+        crop.setExpiry(expiry);
+        crop.setLastGrowthTick(tick);
+    }
+}
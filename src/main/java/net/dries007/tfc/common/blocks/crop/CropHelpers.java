@@ -29,7 +29,9 @@ import net.dries007.tfc.util.calendar.Calendars;
 import net.dries007.tfc.util.calendar.ICalendar;
 import net.dries007.tfc.util.climate.Climate;
 import net.dries007.tfc.util.climate.ClimateRange;
+import net.dries007.tfc.util.climate.ClimateSampleCache;
 import net.dries007.tfc.util.data.Fertilizer;
+import net.dries007.tfc.util.tracker.WorldTracker;
 
 /**
  * Common growth logic for crop blocks
@@ -47,6 +49,11 @@ public final class CropHelpers
     public static final float YIELD_MIN = 0.2f;
     public static final float YIELD_LIMIT = 1f;
 
+    /**
+     * Crops which have not been updated for longer than this catch up using {@link #catchUpGrowthTick}.
+     */
+    public static final long CATCH_UP_THRESHOLD = 4 * UPDATE_INTERVAL;
+
     public static boolean lightValid(Level level, BlockPos pos)
     {
         return level.getRawBrightness(pos, 0) >= 12;
@@ -58,6 +65,11 @@ public final class CropHelpers
     public static boolean growthTick(Level level, BlockPos pos, BlockState state, CropBlockEntity crop)
     {
         final long firstTick = crop.getLastGrowthTick(), thisTick = Calendars.SERVER.getTicks();
+        if (thisTick - firstTick > CATCH_UP_THRESHOLD)
+        {
+            return catchUpGrowthTick(level, pos, state, crop, firstTick, thisTick);
+        }
+
         long tick = firstTick + CropHelpers.UPDATE_INTERVAL, lastTick = firstTick;
         for (; tick < thisTick; tick += CropHelpers.UPDATE_INTERVAL)
         {
@@ -74,92 +86,79 @@ public final class CropHelpers
     {
         // Calculate invariants
         final ICalendar calendar = Calendars.get(level);
-        final BlockPos sourcePos = pos.below();
-        final int hydration = FarmlandBlock.getHydration(level, sourcePos);
+        final int hydration = FarmlandBlock.getHydration(level, pos.below());
         final float startTemperature = Climate.getTemperature(level, pos, calendar, Calendars.SERVER.getFixedCalendarTicksFromTick(fromTick));
         final float endTemperature = Climate.getTemperature(level, pos, calendar, Calendars.SERVER.getFixedCalendarTicksFromTick(toTick));
-        final long tickDelta = toTick - fromTick;
-
-        final ICropBlock cropBlock = (ICropBlock) state.getBlock();
-        final ClimateRange range = cropBlock.getClimateRange();
-        final boolean growing = checkClimate(range, hydration, startTemperature, endTemperature, false);
-        final boolean healthy = growing || checkClimate(range, hydration, startTemperature, endTemperature, true);
-
-        // Nutrients are consumed first, since they are independent of growth or health.
-        // As long as the crop exists it consumes nutrients.
-
-        final FarmlandBlockEntity.NutrientType primaryNutrient = cropBlock.getPrimaryNutrient();
-        float nutrientsAvailable = 0, nutrientsRequired = NUTRIENT_CONSUMPTION * tickDelta, nutrientsConsumed = 0;
-        if (level.getBlockEntity(sourcePos) instanceof IFarmland farmland)
-        {
-            nutrientsAvailable = farmland.getNutrient(primaryNutrient);
-            nutrientsConsumed = farmland.consumeNutrientAndResupplyOthers(primaryNutrient, nutrientsRequired);
-        }
-
-        final float growthModifier = TFCConfig.SERVER.cropGrowthModifier.get().floatValue(); // Higher = Slower growth
-        final float expiryModifier = TFCConfig.SERVER.cropExpiryModifier.get().floatValue(); // Higher = Slower expiry
-        final float localExpiryLimit = EXPIRY_LIMIT * expiryModifier * (1f / growthModifier);
-
-        // Total growth is based on the ticks and the nutrients consumed. It is then allocated to actual growth or expiry based on other factors.
-        final float totalGrowthDelta = (1f / growthModifier) * Helpers.uniform(random, 0.9f, 1.1f) * tickDelta * CropHelpers.GROWTH_FACTOR + nutrientsConsumed * NUTRIENT_GROWTH_FACTOR;
-        final float initialGrowth = crop.getGrowth();
-        float remainingGrowthDelta = totalGrowthDelta;
-        float growth = initialGrowth, expiry = crop.getExpiry(), actualYield = crop.getYield();
-
-        // Re-scale expiry to within our imaginary limits
-        expiry *= localExpiryLimit / EXPIRY_LIMIT;
-
-        final float growthLimit = cropBlock.getGrowthLimit(level, pos, state);
-        if (remainingGrowthDelta > 0 && growing && growth < growthLimit)
-        {
-            // Allocate to growth
-            final float delta = Math.min(remainingGrowthDelta, growthLimit - growth);
-
-            growth += delta;
-            remainingGrowthDelta -= delta;
-        }
-        if (remainingGrowthDelta > 0)
-        {
-            // Allocate remaining growth to expiry
-            final float delta = Math.min(remainingGrowthDelta, localExpiryLimit - expiry);
-
-            expiry += delta;
-        }
 
-        // Calculate yield, which depends both on a flat rate per growth, and on the nutrient satisfaction, which is a measure of nutrient consumption over the growth time.
-        final float growthDelta = growth - initialGrowth;
-        final float nutrientSatisfaction;
-        if (growthDelta <= 0 || nutrientsRequired <= 0)
+        final CropGrowth growth = createGrowth(level, pos, state, hydration, crop);
+        if (!growth.step(random, toTick - fromTick, startTemperature, endTemperature))
         {
-            nutrientSatisfaction = 1; // Either condition causes the below formula to result in NaN
-        }
-        else
-        {
-            nutrientSatisfaction = Math.min(1, (totalGrowthDelta / growthDelta) * (nutrientsAvailable / nutrientsRequired));
+            die(level, pos, state, growth);
+            return false;
         }
+        growth.save(crop, calendar.getTicks());
+        return true;
+    }
 
-        actualYield += growthDelta * Helpers.lerp(nutrientSatisfaction, YIELD_MIN, YIELD_LIMIT);
-
-        // Check if the crop should've expired.
-        if (expiry >= localExpiryLimit || !healthy)
+    /**
+     * Simulates growth for a crop which has not been updated in a long time, i.e. after a chunk is reloaded after a long time. This is equivalent
+     * to a series of {@link #growthTickStep} calls, except:
+     * <ul>
+     *     <li>Steps are aligned to multiples of {@link #UPDATE_INTERVAL}, and the temperature is sampled per chunk, via a shared {@link ClimateSampleCache}, so crops in the same chunk all share climate samples.</li>
+     *     <li>Hydration, and other invariants, are only calculated once, and the crop is only updated (and synced) once, at the end.</li>
+     *     <li>Once a crop cannot grow further, and is certain to expire before the end of the period, it dies immediately.</li>
+     * </ul>
+     */
+    private static boolean catchUpGrowthTick(Level level, BlockPos pos, BlockState state, CropBlockEntity crop, long firstTick, long thisTick)
+    {
+        final ICalendar calendar = Calendars.get(level);
+        final ClimateSampleCache climate = WorldTracker.get(level).getClimateSamples();
+        final RandomSource random = level.getRandom();
+        final CropGrowth growth = createGrowth(level, pos, state, FarmlandBlock.getHydration(level, pos.below()), crop);
+
+        long lastTick = firstTick;
+        long tick = Math.floorDiv(firstTick, UPDATE_INTERVAL) * UPDATE_INTERVAL + UPDATE_INTERVAL;
+        float lastTemperature = climate.getTemperature(pos, calendar, lastTick);
+        while (lastTick < thisTick)
         {
-            // Lenient here - instead of assuming it expired at the start of the duration, we assume at the end. Including growth during this period.
-            cropBlock.die(level, pos, state, growth >= 1);
-            return false;
+            final long nextTick = Math.min(tick, thisTick);
+            final float nextTemperature = climate.getTemperature(pos, calendar, nextTick);
+            if (!growth.step(random, nextTick - lastTick, lastTemperature, nextTemperature) || growth.expireIfCertain(thisTick - nextTick))
+            {
+                die(level, pos, state, growth);
+                return false;
+            }
+            lastTick = nextTick;
+            lastTemperature = nextTemperature;
+            tick += UPDATE_INTERVAL;
         }
+        growth.save(crop, calendar.getTicks());
+        return true;
+    }
 
-        // Re-scale expiry to constant values to maintain invariance if the config value is updated
-        expiry *= EXPIRY_LIMIT / localExpiryLimit;
-
-        crop.setGrowth(growth);
-        crop.setYield(actualYield);
-        crop.setExpiry(expiry);
-        crop.setLastGrowthTick(calendar.getTicks());
+    private static void die(Level level, BlockPos pos, BlockState state, CropGrowth growth)
+    {
+        ((ICropBlock) state.getBlock()).die(level, pos, state, growth.growth() >= 1);
+    }
 
-        return true;
+    static CropGrowth createGrowth(Level level, BlockPos pos, BlockState state, int hydration, CropBlockEntity crop)
+    {
+        final ICropBlock cropBlock = (ICropBlock) state.getBlock();
+        return new CropGrowth(
+            cropBlock.getClimateRange(),
+            hydration,
+            level.getBlockEntity(pos.below()) instanceof IFarmland farmland ? farmland : null,
+            cropBlock.getPrimaryNutrient(),
+            cropBlock.getGrowthLimit(level, pos, state),
+            TFCConfig.SERVER.cropGrowthModifier.get().floatValue(),
+            TFCConfig.SERVER.cropExpiryModifier.get().floatValue(),
+            crop.getGrowth(),
+            crop.getExpiry(),
+            crop.getYield()
+        );
     }
 
-    private static boolean checkClimate(ClimateRange range, int hydration, float firstTemperature, float secondTemperature, boolean allowWiggle)
+    static boolean checkClimate(ClimateRange range, int hydration, float firstTemperature, float secondTemperature, boolean allowWiggle)
     {
         return range.checkBoth(hydration, firstTemperature, allowWiggle) && range.checkTemperature(secondTemperature, allowWiggle) == ClimateRange.Result.VALID;
     }
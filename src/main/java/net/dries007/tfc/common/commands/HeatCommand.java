@@ -6,29 +6,41 @@
 
 package net.dries007.tfc.common.commands;
 
+import java.util.Map;
 import com.mojang.brigadier.Command;
 import com.mojang.brigadier.arguments.IntegerArgumentType;
 import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
+import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.entity.BlockEntityType;
 import org.jetbrains.annotations.Nullable;
 
+import net.dries007.tfc.common.blockentities.TickableInventoryBlockEntity;
 import net.dries007.tfc.common.component.heat.HeatCapability;
 import net.dries007.tfc.common.component.heat.IHeat;
 
 public final class HeatCommand
 {
     private static final String SET_HEAT = "tfc.commands.heat.set_heat";
+    private static final String SYNC = "tfc.commands.heat.sync";
+    private static final String SYNC_RESET = "tfc.commands.heat.sync_reset";
 
     public static LiteralArgumentBuilder<CommandSourceStack> create()
     {
         return Commands.literal("heat").requires(source -> source.hasPermission(2))
             .then(Commands.argument("value", IntegerArgumentType.integer(0))
                 .executes(cmd -> heatItem(cmd.getSource(), IntegerArgumentType.getInteger(cmd, "value")))
+            )
+            .then(Commands.literal("sync")
+                .then(Commands.literal("reset")
+                    .executes(cmd -> resetSyncStats(cmd.getSource()))
+                )
+                .executes(cmd -> querySyncStats(cmd.getSource()))
             );
     }
 
@@ -47,4 +59,21 @@ public final class HeatCommand
         }
         return Command.SINGLE_SUCCESS;
     }
-}
\ No newline at end of file
+
+    private static int querySyncStats(CommandSourceStack source)
+    {
+        for (Map.Entry<BlockEntityType<?>, TickableInventoryBlockEntity.SyncStats> entry : TickableInventoryBlockEntity.syncStats().entrySet())
+        {
+            final TickableInventoryBlockEntity.SyncStats stats = entry.getValue();
+            source.sendSuccess(() -> Component.translatable(SYNC, String.valueOf(BuiltInRegistries.BLOCK_ENTITY_TYPE.getKey(entry.getKey())), stats.fullSyncs(), stats.fullBytes(), stats.heatSyncs(), stats.heatBytes()), false);
+        }
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private static int resetSyncStats(CommandSourceStack source)
+    {
+        TickableInventoryBlockEntity.resetSyncStats();
+        source.sendSuccess(() -> Component.translatable(SYNC_RESET), true);
+        return Command.SINGLE_SUCCESS;
+    }
+}
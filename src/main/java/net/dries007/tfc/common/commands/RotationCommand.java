@@ -0,0 +1,60 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.commands;
+
+import java.util.Locale;
+import com.mojang.brigadier.Command;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+
+import net.dries007.tfc.util.rotation.NetworkAction;
+import net.dries007.tfc.util.rotation.RotationNetworkManager;
+
+public final class RotationCommand
+{
+    private static final String NETWORKS = "tfc.commands.rotation.networks";
+    private static final String TIMING = "tfc.commands.rotation.timing";
+    private static final String RESET = "tfc.commands.rotation.reset";
+
+    public static LiteralArgumentBuilder<CommandSourceStack> create()
+    {
+        return Commands.literal("rotation")
+            .requires(source -> source.hasPermission(2))
+            .then(Commands.literal("timings")
+                .then(Commands.literal("reset")
+                    .executes(cmd -> resetTimings(cmd.getSource()))
+                )
+                .executes(cmd -> queryTimings(cmd.getSource()))
+            );
+    }
+
+    private static int queryTimings(CommandSourceStack source)
+    {
+        final RotationNetworkManager manager = RotationNetworkManager.get(source.getLevel());
+        source.sendSuccess(() -> Component.translatable(NETWORKS, manager.networkCount(), manager.nodeCount()), false);
+        for (NetworkAction action : NetworkAction.values())
+        {
+            final RotationNetworkManager.Timing timing = manager.timing(action);
+            source.sendSuccess(() -> Component.translatable(TIMING, action.name().toLowerCase(Locale.ROOT), timing.count(), formatMicros(timing.averageNanos()), formatMicros(timing.maxNanos()), formatMicros(timing.lastNanos())), false);
+        }
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private static int resetTimings(CommandSourceStack source)
+    {
+        RotationNetworkManager.get(source.getLevel()).resetTimings();
+        source.sendSuccess(() -> Component.translatable(RESET), true);
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private static String formatMicros(long nanos)
+    {
+        return "%.1f".formatted(nanos / 1000f);
+    }
+}
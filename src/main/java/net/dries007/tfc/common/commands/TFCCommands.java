@@ -35,6 +35,8 @@ public final class TFCCommands
             .then(PropickCommand.create())
             .then(ForgeCommand.create())
             .then(AddTrimCommand.create(context))
+            .then(WorldgenCommand.create())
+            .then(RotationCommand.create())
         );
 
         // For command modifications / replacements, we register directly
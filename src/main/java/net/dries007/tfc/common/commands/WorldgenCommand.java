@@ -0,0 +1,93 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.commands;
+
+import com.mojang.brigadier.Command;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+
+import net.dries007.tfc.world.FastConcurrentCache;
+import net.dries007.tfc.world.TFCChunkGenerator;
+import net.dries007.tfc.world.layer.framework.AreaCache;
+import net.dries007.tfc.world.region.RegionGenerator;
+
+public final class WorldgenCommand
+{
+    private static final String AREA_CACHE = "tfc.commands.worldgen.area_cache";
+    private static final String AREA_CACHE_DISABLED = "tfc.commands.worldgen.area_cache_disabled";
+    private static final String CACHE = "tfc.commands.worldgen.cache";
+    private static final String RESET = "tfc.commands.worldgen.reset";
+    private static final String NOT_TFC = "tfc.commands.worldgen.not_tfc";
+
+    public static LiteralArgumentBuilder<CommandSourceStack> create()
+    {
+        return Commands.literal("worldgen")
+            .requires(source -> source.hasPermission(2))
+            .then(Commands.literal("caches")
+                .then(Commands.literal("reset")
+                    .executes(cmd -> resetCaches(cmd.getSource()))
+                )
+                .executes(cmd -> queryCaches(cmd.getSource()))
+            );
+    }
+
+    private static int queryCaches(CommandSourceStack source)
+    {
+        if (AreaCache.statistics())
+        {
+            source.sendSuccess(() -> Component.translatable(AREA_CACHE, AreaCache.mode().name(), AreaCache.size(), AreaCache.hits(), AreaCache.misses(), AreaCache.evictions(), formatRate(AreaCache.hitRate())), false);
+        }
+        else
+        {
+            source.sendSuccess(() -> Component.translatable(AREA_CACHE_DISABLED, AreaCache.mode().name(), AreaCache.size()), false);
+        }
+        if (source.getLevel().getChunkSource().getGenerator() instanceof TFCChunkGenerator generator)
+        {
+            final RegionGenerator regionGenerator = generator.regionGenerator();
+            if (regionGenerator != null)
+            {
+                sendCache(source, "regions", regionGenerator.cellCache());
+                sendCache(source, "partitions", regionGenerator.partitionCache());
+            }
+            sendCache(source, "aquifers", generator.aquiferCache());
+        }
+        else
+        {
+            source.sendFailure(Component.translatable(NOT_TFC));
+        }
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private static int resetCaches(CommandSourceStack source)
+    {
+        AreaCache.resetStatistics();
+        if (source.getLevel().getChunkSource().getGenerator() instanceof TFCChunkGenerator generator)
+        {
+            final RegionGenerator regionGenerator = generator.regionGenerator();
+            if (regionGenerator != null)
+            {
+                regionGenerator.cellCache().resetStatistics();
+                regionGenerator.partitionCache().resetStatistics();
+            }
+            generator.aquiferCache().resetStatistics();
+        }
+        source.sendSuccess(() -> Component.translatable(RESET), true);
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private static void sendCache(CommandSourceStack source, String name, FastConcurrentCache<?> cache)
+    {
+        source.sendSuccess(() -> Component.translatable(CACHE, name, cache.size(), cache.hits(), cache.misses(), cache.evictions(), formatRate(cache.hitRate())), false);
+    }
+
+    private static String formatRate(float rate)
+    {
+        return "%.1f".formatted(100 * rate);
+    }
+}
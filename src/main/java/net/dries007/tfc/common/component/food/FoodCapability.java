@@ -30,7 +30,7 @@ import net.dries007.tfc.util.data.DataManager;
 public final class FoodCapability
 {
     public static final DataManager<FoodDefinition> MANAGER = new DataManager<>(Helpers.identifier("food"), FoodDefinition.CODEC, FoodDefinition.STREAM_CODEC);
-    public static final IndirectHashCollection<Item, FoodDefinition> CACHE = IndirectHashCollection.create(r -> RecipeHelpers.itemKeys(r.ingredient()), MANAGER::getValues);
+    public static final IndirectHashCollection<Item, FoodDefinition> CACHE = IndirectHashCollection.createForItems(FoodDefinition::ingredient, MANAGER::getValues);
 
     /**
      * @return An immutable view of the food component on an item stack.
@@ -47,6 +47,22 @@ public enum Heat
         return BRILLIANT_WHITE.getMax();
     }
 
+    /**
+     * Quantizes a temperature into steps which are visibly distinct. Below {@code 400} this is each change in brightness of a heated item when rendered
+     * in world, and above that, each change in {@link Heat} level.
+     *
+     * @return An index of the visible step of {@code temperature}, which only changes if the temperature visibly changes.
+     */
+    public static int getVisibleStep(float temperature)
+    {
+        if (temperature < 400f)
+        {
+            return (int) (Math.max(0, temperature) * 16 / 400f);
+        }
+        final @Nullable Heat heat = getHeat(temperature);
+        return 16 + (heat == null ? 0 : heat.ordinal());
+    }
+
     @Nullable
     public static Heat getHeat(float temperature)
     {
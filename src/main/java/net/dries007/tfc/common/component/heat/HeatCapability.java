@@ -29,7 +29,7 @@ import net.dries007.tfc.util.data.Fuel;
 public final class HeatCapability
 {
     public static final DataManager<HeatDefinition> MANAGER = new DataManager<>(Helpers.identifier("item_heat"), HeatDefinition.CODEC, HeatDefinition.STREAM_CODEC);
-    public static final IndirectHashCollection<Item, HeatDefinition> CACHE = IndirectHashCollection.create(r -> RecipeHelpers.itemKeys(r.ingredient()), MANAGER::getValues);
+    public static final IndirectHashCollection<Item, HeatDefinition> CACHE = IndirectHashCollection.createForItems(HeatDefinition::ingredient, MANAGER::getValues);
 
     public static final float POTTERY_HEAT_CAPACITY = 1.2f;
 
@@ -238,6 +238,56 @@ public final class HeatCapability
         }
     }
 
+    /**
+     * Increases the heat on an {@link IHeat} instance, as if {@link #addTemp(IHeat, float, float)} was called once per tick for {@code ticks} ticks,
+     * where the temperature of the instance was {@code lastTemperature}, {@code ticks} ticks ago, and it has not otherwise been modified since.
+     * <p>
+     * The current temperature of the instance can't be used for this, as passive cooling is clamped at zero, which would lose any cooling beyond
+     * that point. Instead, each tick is simulated, from {@code lastTemperature}, without touching the instance until the end.
+     */
+    public static void addTemp(IHeat instance, float targetTemperature, float modifier, float lastTemperature, long ticks)
+    {
+        modifier = TFCConfig.SERVER.itemCoolingModifier.get().floatValue() - 1 + modifier * TFCConfig.SERVER.itemHeatingModifier.get().floatValue();
+
+        final float heatCapacity = instance.getHeatCapacity();
+        final float heatingPerTick = modifier / heatCapacity;
+        final float coolingPerTick = TFCConfig.SERVER.itemCoolingModifier.get().floatValue() / heatCapacity; // As adjustTemp(), for a single tick
+
+        float temperature = lastTemperature;
+        boolean heated = false;
+        for (long tick = 0; tick < ticks; tick++)
+        {
+            final float initialTemperature = temperature - coolingPerTick < 0 ? 0 : temperature - coolingPerTick;
+            float newTemperature = initialTemperature + heatingPerTick;
+            if (newTemperature > targetTemperature)
+            {
+                newTemperature = targetTemperature;
+            }
+            if (newTemperature > initialTemperature)
+            {
+                temperature = newTemperature;
+                heated = true;
+            }
+            else
+            {
+                temperature = initialTemperature;
+            }
+        }
+        if (heated)
+        {
+            instance.setTemperature(temperature);
+        }
+    }
+
+    /**
+     * @return The net change in temperature per tick of an item with the given {@code heatCapacity}, which is heated with {@link #addTemp(IHeat, float, float)}
+     * while below the target temperature, including passive cooling.
+     */
+    public static float netHeatingRate(float heatCapacity, float modifier)
+    {
+        return (modifier * TFCConfig.SERVER.itemHeatingModifier.get().floatValue() - 1) / heatCapacity;
+    }
+
     /**
      * Common logic for block entities to consume fuel during larger time skips.
      *
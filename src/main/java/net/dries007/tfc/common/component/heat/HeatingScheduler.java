@@ -0,0 +1,147 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.component.heat;
+
+import java.util.Arrays;
+import net.minecraft.util.Mth;
+import org.jetbrains.annotations.Nullable;
+
+import net.dries007.tfc.common.recipes.HeatingRecipe;
+import net.dries007.tfc.config.ServerConfig;
+import net.dries007.tfc.config.TFCConfig;
+
+/**
+ * Schedules the heating of items in the input slots of a heat device, so each slot is only heated when it could next do something observable.
+ * <p>
+ * Heating an item by {@link HeatCapability#addTemp(IHeat, float, float)} is linear in time, while the item is below the temperature of the device,
+ * and passive cooling is applied lazily on query. So, while the temperature of the device is unchanged, we can compute exactly when an item will
+ * next reach either the temperature of its {@link HeatingRecipe}, or the temperature of the device, and heat it once at that point, for all the
+ * ticks since it was last heated, with {@link HeatCapability#addTemp(IHeat, float, float, float, long)}. An item is always heated at least once
+ * every {@link ServerConfig#heatDeviceHeatingInterval} ticks, so its temperature is never far out of date. If a slot was not heated for longer than
+ * that, the device was not ticked in between, and so the item is heated for a single tick from its current temperature.
+ * <p>
+ * Every slot is heated each tick in which the temperature of the device changes, or after it is {@linkplain #markDue(int) marked due}. A slot must be
+ * {@linkplain #markDirty(int) marked dirty} when its contents change, as the skipped ticks are then no longer applicable.
+ */
+public final class HeatingScheduler
+{
+    private static final long NONE = Long.MIN_VALUE;
+
+    private final long[] lastTick; // The tick each slot was last heated, or NONE
+    private final long[] nextTick; // The tick each slot should next be heated, or NONE
+    private final float[] lastTemperature; // The temperature of each slot when it was last heated
+    private float lastDeviceTemperature;
+    private boolean deviceChanged;
+
+    public HeatingScheduler(int slots)
+    {
+        this.lastTick = new long[slots];
+        this.nextTick = new long[slots];
+        this.lastTemperature = new float[slots];
+        this.lastDeviceTemperature = Float.NaN;
+        markAllDirty();
+    }
+
+    /**
+     * Must be called once per tick, before querying any slots.
+     */
+    public void tick(float deviceTemperature)
+    {
+        deviceChanged = deviceTemperature != lastDeviceTemperature;
+        lastDeviceTemperature = deviceTemperature;
+    }
+
+    /**
+     * @return {@code true} if the item in {@code slot} should be heated, with {@link #heat}, this tick.
+     */
+    public boolean isDue(int slot, long tick)
+    {
+        return deviceChanged || tick >= nextTick[slot];
+    }
+
+    /**
+     * Heats an item by all the ticks since it was last heated, and schedules when it should next be heated.
+     *
+     * @param recipe The recipe of the item in {@code slot}, if it has one.
+     */
+    public void heat(int slot, IHeat heat, float deviceTemperature, @Nullable HeatingRecipe recipe, long tick)
+    {
+        if (lastTick[slot] == NONE || tick - lastTick[slot] > maxInterval())
+        {
+            HeatCapability.addTemp(heat, deviceTemperature, 3);
+        }
+        else
+        {
+            HeatCapability.addTemp(heat, deviceTemperature, 3, lastTemperature[slot], Math.max(1, tick - lastTick[slot]));
+        }
+
+        final float temperature = heat.getTemperature();
+        lastTick[slot] = tick;
+        lastTemperature[slot] = temperature;
+        nextTick[slot] = tick + ticksUntilNextEvent(temperature, heat.getHeatCapacity(), deviceTemperature, recipe);
+    }
+
+    /**
+     * Marks a slot as needing to be heated on the next tick, i.e. when its recipe may have changed, while keeping the ticks it has skipped.
+     */
+    public void markDue(int slot)
+    {
+        nextTick[slot] = NONE;
+    }
+
+    public void markAllDue()
+    {
+        Arrays.fill(nextTick, NONE);
+    }
+
+    /**
+     * Marks a slot as needing to be heated on the next tick, and discards the ticks it has skipped, i.e. when its contents have changed.
+     */
+    public void markDirty(int slot)
+    {
+        lastTick[slot] = NONE;
+        nextTick[slot] = NONE;
+    }
+
+    public void markAllDirty()
+    {
+        Arrays.fill(lastTick, NONE);
+        Arrays.fill(nextTick, NONE);
+    }
+
+    private int ticksUntilNextEvent(float temperature, float heatCapacity, float deviceTemperature, @Nullable HeatingRecipe recipe)
+    {
+        if (recipe != null && recipe.isValidTemperature(temperature))
+        {
+            return 1; // Devices may check the recipe before heating, so it must be checked next tick
+        }
+
+        float threshold = deviceTemperature;
+        if (recipe != null && recipe.getTemperature() < threshold)
+        {
+            threshold = recipe.getTemperature();
+        }
+
+        final int maxInterval = maxInterval();
+        if (temperature >= threshold)
+        {
+            return maxInterval; // Held at the temperature of the device
+        }
+
+        final float rate = heatCapacity > 0 ? HeatCapability.netHeatingRate(heatCapacity, 3) : 0;
+        if (rate <= 0)
+        {
+            return 1; // Not heated, which can only be the case with unusual config values
+        }
+        return (int) Mth.clamp(Math.ceil((threshold - temperature) / rate), 1, maxInterval);
+    }
+
+    private int maxInterval()
+    {
+        return Math.max(1, TFCConfig.SERVER.heatDeviceHeatingInterval.get());
+    }
+}
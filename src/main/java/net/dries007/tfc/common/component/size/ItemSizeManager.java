@@ -16,8 +16,8 @@ import net.minecraft.world.item.BucketItem;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.TieredItem;
+import org.jetbrains.annotations.Nullable;
 
-import net.dries007.tfc.common.recipes.RecipeHelpers;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.collections.IndirectHashCollection;
 import net.dries007.tfc.util.data.DataManager;
@@ -25,7 +25,7 @@ import net.dries007.tfc.util.data.DataManager;
 public final class ItemSizeManager
 {
     public static final DataManager<ItemSizeDefinition> MANAGER = new DataManager<>(Helpers.identifier("item_size"), ItemSizeDefinition.CODEC, ItemSizeDefinition.STREAM_CODEC);
-    public static final IndirectHashCollection<Item, ItemSizeDefinition> CACHE = IndirectHashCollection.create(r -> RecipeHelpers.itemKeys(r.ingredient()), MANAGER::getValues);
+    public static final IndirectHashCollection<Item, ItemSizeDefinition> CACHE = IndirectHashCollection.createForItems(ItemSizeDefinition::ingredient, MANAGER::getValues);
 
 
     private static final ItemSizeDefinition TOOL_SIZE = new ItemSizeDefinition(Size.LARGE, Weight.MEDIUM); // Stored only in chests, stack size should be limited to 1 since it is a tool
@@ -66,12 +66,10 @@ public final class ItemSizeManager
     {
         // Definitions
         final Item item = stack.getItem();
-        for (ItemSizeDefinition def : CACHE.getAll(stack.getItem()))
+        final @Nullable ItemSizeDefinition def = CACHE.findFirst(item, stack, (d, s) -> d.ingredient().test(s));
+        if (def != null)
         {
-            if (def.ingredient().test(stack))
-            {
-                return def;
-            }
+            return def;
         }
 
         // Default rules
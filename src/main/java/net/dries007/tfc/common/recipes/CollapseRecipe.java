@@ -32,6 +32,7 @@ import net.dries007.tfc.common.recipes.ingredients.BlockIngredient;
 import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.collections.IndirectHashCollection;
+import net.dries007.tfc.util.data.BlockStateFlags;
 import net.dries007.tfc.util.data.Support;
 import net.dries007.tfc.util.events.CollapseEvent;
 import net.dries007.tfc.util.tracker.Collapse;
@@ -63,7 +64,7 @@ public class CollapseRecipe extends BlockRecipe
      */
     public static boolean canCollapse(BlockState input)
     {
-        return getRecipe(input) != null;
+        return BlockStateFlags.is(input, BlockStateFlags.CAN_COLLAPSE);
     }
 
     @Nullable
@@ -28,6 +28,7 @@ import net.dries007.tfc.common.recipes.ingredients.BlockIngredient;
 import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.collections.IndirectHashCollection;
+import net.dries007.tfc.util.data.BlockStateFlags;
 import net.dries007.tfc.util.data.Support;
 
 /**
@@ -51,7 +52,7 @@ public class LandslideRecipe extends BlockRecipe
      */
     public static boolean canLandslide(BlockState input)
     {
-        return getRecipe(input) != null;
+        return BlockStateFlags.is(input, BlockStateFlags.CAN_LANDSLIDE);
     }
 
     @Nullable
@@ -143,7 +143,7 @@ public final class RecipeHelpers
     @Nullable
     public static <R extends IRecipePredicate<C>, C, K> R getRecipe(IndirectHashCollection<K, R> cache, C input, K key)
     {
-        return getRecipe(cache.getAll(key), input);
+        return cache.findFirst(key, input, IRecipePredicate::matches);
     }
 
     @Nullable
@@ -46,6 +46,7 @@ public class ClientConfig extends BaseConfig
     public final Supplier<Boolean> displayItemContentsAsImages;
     public final Supplier<Boolean> displayItemHeatBars;
     public final Supplier<Boolean> enableWindParticles;
+    public final Supplier<Boolean> enableBatchedAxleRendering;
 
     // Compatibility
     public final Supplier<List<String>> additionalSpecialModels;
@@ -130,6 +131,10 @@ public class ClientConfig extends BaseConfig
         displayItemContentsAsImages = builder.comment("For items like bundles, their contents inside will be rendered using Bundle Technology to show their items.").define("displayItemContentsAsImages", true);
         displayItemHeatBars = builder.comment("If true, for items that are hot, they will show a bar on the item like a durability bar").define("displayItemHeatBars", true);
         enableWindParticles = builder.comment("If true, particles specifically for wind will appear.").define("enableWindParticles", true);
+        enableBatchedAxleRendering = builder.comment(
+            "If true, all visible axles are rendered together at the end of the block entity pass, transforming each axle model once per rotation network, rather than once per axle.",
+            "This is always disabled if a shader mod (Iris or Oculus) is present."
+        ).define("enableBatchedAxleRendering", true);
 
         builder.swap("compatibility");
 
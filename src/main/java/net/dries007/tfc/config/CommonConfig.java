@@ -10,6 +10,7 @@ import java.util.function.Supplier;
 import net.neoforged.fml.loading.FMLEnvironment;
 
 import net.dries007.tfc.util.calendar.Calendar;
+import net.dries007.tfc.world.layer.framework.AreaCache;
 
 /**
  * Common Config
@@ -26,6 +27,11 @@ public class CommonConfig extends BaseConfig
     public final Supplier<Integer> defaultCalendarStartDay;
     public final Supplier<Integer> defaultCalendarDayLength;
 
+    // World Generation
+    public final Supplier<Boolean> enableRegionStore;
+    public final Supplier<Integer> areaCacheSize;
+    public final Supplier<AreaCache.Mode> areaCacheMode;
+
     // Debug
     public final Supplier<Boolean> enableDatapackTests;
 
@@ -56,6 +62,22 @@ public class CommonConfig extends BaseConfig
             "This can be modified in existing worlds using the /time command"
         ).define("defaultCalendarDayLength", 24);
 
+        builder.swap("worldgen");
+
+        enableRegionStore = builder.comment(
+            "If enabled, generated regions (~12 km areas used by TFC world generation) are saved to disk in the world folder, under 'data/tfc_regions'.",
+            "This avoids regenerating regions after a restart, at the cost of some disk space. Stored regions are discarded if the world seed or world generation settings change."
+        ).define("enableRegionStore", false);
+        areaCacheSize = builder.comment(
+            "The number of entries in each cache used by world generation layers. There is one cache per layer, per world generation thread.",
+            "Larger caches use more memory, but may reduce repeated work. This is rounded up to the nearest power of two."
+        ).define("areaCacheSize", AreaCache.DEFAULT_SIZE, 64, 1 << 20);
+        areaCacheMode = builder.comment(
+            "The type of cache used by world generation layers.",
+            "  DIRECT_MAPPED = Each position may only be stored in one location in the cache.",
+            "  TWO_WAY = Each position may be stored in either of two locations in the cache, which reduces collisions."
+        ).define("areaCacheMode", AreaCache.Mode.TWO_WAY);
+
         builder.swap("debug");
 
         enableDatapackTests = builder.comment("If enabled, TFC will validate that certain pieces of reloadable data fit the conditions we expect, for example heating recipes having heatable items. It will error or warn in the log if these conditions are not met.").define("enableDatapackTests", !FMLEnvironment.production);
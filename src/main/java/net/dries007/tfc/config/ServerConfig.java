@@ -37,6 +37,7 @@ public class ServerConfig extends BaseConfig
     public final Supplier<Boolean> enableLightning;
     public final Supplier<Boolean> enableLightningStrippingLogs;
     public final Supplier<Integer> oceanWindScale;
+    public final Supplier<Boolean> enableChunkClimateTables;
     public final Supplier<List<String>> excludedMetalTagNames;
 
     // Blocks - Farmland
@@ -53,6 +54,7 @@ public class ServerConfig extends BaseConfig
     public final Supplier<Boolean> enableSnowSlowEntities;
     public final Supplier<Integer> snowAccumulateChance;
     public final Supplier<Integer> snowMeltChance;
+    public final Supplier<Integer> snowCatchUpUpdatesPerTick;
     // Blocks - Leaves
     public final Supplier<Double> leavesMovementModifier;
     // Blocks - Plants
@@ -201,6 +203,8 @@ public class ServerConfig extends BaseConfig
     public final Supplier<Double> itemHeatingModifier;
     public final Supplier<Double> itemCoolingModifier;
     public final Supplier<Integer> ticksBeforeItemCool;
+    public final Supplier<Integer> heatDeviceSyncInterval;
+    public final Supplier<Integer> heatDeviceHeatingInterval;
     public final Supplier<Boolean> coolHotItemEntities;
     // Mechanics - Collapses
     public final Supplier<Boolean> enableBlockCollapsing;
@@ -213,6 +217,7 @@ public class ServerConfig extends BaseConfig
     public final Supplier<Double> collapseExplosionPropagateChance;
     public final Supplier<Integer> collapseMinRadius;
     public final Supplier<Integer> collapseRadiusVariance;
+    public final Supplier<Integer> collapsePositionsPerTick;
     // Mechanics - Player
     public final Supplier<Boolean> enablePeacefulDifficultyPassiveRegeneration;
     public final Supplier<Double> passiveExhaustionModifier;
@@ -299,6 +304,10 @@ public class ServerConfig extends BaseConfig
         enableLightning = builder.comment("If false, vanilla lightning will not strike.").define("enableLightning", true);
         enableLightningStrippingLogs = builder.comment("If true, lightning has a chance of stripping bark off of trees.").define("enableLightningStrippingLogs", true);
         oceanWindScale = builder.comment("Every time the z coordinate reaches a multiple of this point, the wind over oceans will switch directions.").define("oceanWindScale", 5000, 128, Integer.MAX_VALUE);
+        enableChunkClimateTables = builder.comment(
+            "If true, average temperature, rainfall and monthly temperature are cached per chunk, at a 4x4 block resolution, rather than being calculated per block.",
+            "This makes climate queries (i.e. by crops, snow, food, and the HUD) faster, at the cost of slightly coarser climate values within a chunk."
+        ).define("enableChunkClimateTables", false);
         excludedMetalTagNames = builder.comment(
             "TFC will try and infer metals from tags that match the pattern 'c:type/...', where 'type' is one of 'ingots', 'double_ingots', or 'sheets'",
             "These will be used to determine what metal is an item for the purpose of rendering it in an ingot or sheet pile",
@@ -330,6 +339,10 @@ public class ServerConfig extends BaseConfig
         enableSnowSlowEntities = builder.comment("[Requires MC Restart] If snow will slow players that move on top of it similar to soul sand or honey.").define("enableSnowSlowEntities", true);
         snowAccumulateChance = builder.comment("The chance that snow will accumulate during a storm. Lower values = faster snow accumulation, but also more block updates (aka lag).").define("snowAccumulateChance", 20, 1, Integer.MAX_VALUE);
         snowMeltChance = builder.comment("The chance that snow will melt during a storm. Lower values = faster snow melting, but also more block updates (aka lag).").define("snowMeltChance", 36, 1, Integer.MAX_VALUE);
+        snowCatchUpUpdatesPerTick = builder.comment(
+            "The maximum number of snow accumulation or melting updates done per tick, across all chunks catching up on weather after not being ticked for a while (i.e. when they are first loaded).",
+            "Chunks that are waiting to catch up are processed over multiple ticks. Lower values = less lag when many chunks are loaded at once, but snow will take longer to appear or melt."
+        ).define("snowCatchUpUpdatesPerTick", 256, 1, Integer.MAX_VALUE);
 
         builder.swap("plants");
 
@@ -566,6 +579,14 @@ public class ServerConfig extends BaseConfig
         itemCoolingModifier = builder.comment("A multiplier for how fast items cool. Higher = faster.").define("itemCoolingModifier", 0.8, 0, Double.MAX_VALUE);
         coolHotItemEntities = builder.comment("Should hot item entities cool off when in contact with blocks like water or snow?").define("coolHotItemEntities", true);
         ticksBeforeItemCool = builder.comment("Ticks between each time an item loses temperature when sitting on a cold block. 20 ticks = 1 second.").define("ticksBeforeItemCool", 10, 1, Integer.MAX_VALUE);
+        heatDeviceSyncInterval = builder.comment(
+            "The minimum number of ticks between syncing gradual changes in heat devices (charcoal forges, crucibles, blast furnaces) to clients, such as the temperature of items, or fluid being poured.",
+            "Only visible changes in item temperature are synced. Higher values reduce network usage, but heated items will change color, and fluids will drain, less smoothly. 20 ticks = 1 second."
+        ).define("heatDeviceSyncInterval", 5, 1, Integer.MAX_VALUE);
+        heatDeviceHeatingInterval = builder.comment(
+            "The maximum number of ticks that items in charcoal forges, fire pits, and grills are left without being heated, while they are not close to a heating recipe, or the temperature of the device.",
+            "Higher values heat those items less often, but allow their temperature to be more out of date when they are removed. 20 ticks = 1 second."
+        ).define("heatDeviceHeatingInterval", 5, 1, 1200);
 
         builder.swap("collapses");
 
@@ -580,6 +601,10 @@ public class ServerConfig extends BaseConfig
         collapseExplosionPropagateChance = builder.comment("Chance for a block to fall from an explosion triggered collapse. Higher = mor likely.").define("collapseExplosionPropagateChance", 0.3, 0, 1);
         collapseMinRadius = builder.comment("Minimum radius for a collapse").define("collapseMinRadius", 3, 1, 32);
         collapseRadiusVariance = builder.comment("Variance of the radius of a collapse. Total size is in [minRadius, minRadius + radiusVariance]").define("collapseRadiusVariance", 16, 1, 32);
+        collapsePositionsPerTick = builder.comment(
+            "The maximum number of positions checked per tick, across all collapses in progress in a level. This is shared evenly between them.",
+            "Large collapses will continue over multiple ticks, rather than all at once. Lower values spread the work of a collapse over more ticks."
+        ).define("collapsePositionsPerTick", 256, 1, 65536);
 
         builder.swap("player");
 
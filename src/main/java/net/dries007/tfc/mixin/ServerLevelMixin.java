@@ -8,6 +8,7 @@ package net.dries007.tfc.mixin;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.chunk.LevelChunk;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
@@ -16,6 +17,8 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 import net.dries007.tfc.util.calendar.CalendarEventHandler;
 import net.dries007.tfc.util.climate.Climate;
+import net.dries007.tfc.util.data.SupportIndex;
+import net.dries007.tfc.util.tracker.SnowIndex;
 import net.dries007.tfc.util.tracker.WeatherHelpers;
 
 @Mixin(ServerLevel.class)
@@ -28,6 +31,15 @@ public abstract class ServerLevelMixin
         WeatherHelpers.onTickChunk((ServerLevel) (Object) this, chunk);
     }
 
+    @Inject(method = "onBlockStateChange", at = @At("HEAD"))
+    private void updateBlockIndexes(BlockPos pos, BlockState oldState, BlockState newState, CallbackInfo ci)
+    {
+        // Keep the per-chunk snow and support indexes in sync, in the same place that points of interest are updated
+        final ServerLevel level = (ServerLevel) (Object) this;
+        SnowIndex.onBlockStateChange(level, pos, oldState, newState);
+        SupportIndex.onBlockStateChange(level, pos, oldState, newState);
+    }
+
     @Inject(method = "tickPrecipitation", at = @At("HEAD"), cancellable = true)
     private void preventVanillaSnowAndIce(BlockPos blockPos, CallbackInfo ci)
     {
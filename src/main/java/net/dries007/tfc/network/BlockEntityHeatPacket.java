@@ -0,0 +1,81 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.network;
+
+import io.netty.buffer.ByteBuf;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.VarInt;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+import net.dries007.tfc.client.ClientHelpers;
+import net.dries007.tfc.common.blockentities.TickableInventoryBlockEntity;
+
+/**
+ * Sent from server -> client, containing only the temperature of items in the inventory of a heat device which have visibly changed since they were
+ * last synced, as opposed to the entire block entity. See {@link TickableInventoryBlockEntity#markForHeatSync()}
+ */
+public record BlockEntityHeatPacket(BlockPos pos, int[] slots, float[] temperatures) implements CustomPacketPayload
+{
+    public static final CustomPacketPayload.Type<BlockEntityHeatPacket> TYPE = PacketHandler.type("block_entity_heat");
+    public static final StreamCodec<ByteBuf, BlockEntityHeatPacket> CODEC = StreamCodec.of((buffer, packet) -> packet.encode(buffer), BlockEntityHeatPacket::decode);
+
+    private static BlockEntityHeatPacket decode(ByteBuf buffer)
+    {
+        final BlockPos pos = BlockPos.of(buffer.readLong());
+        final int count = VarInt.read(buffer);
+        final int[] slots = new int[count];
+        final float[] temperatures = new float[count];
+        for (int i = 0; i < count; i++)
+        {
+            slots[i] = VarInt.read(buffer);
+            temperatures[i] = buffer.readFloat();
+        }
+        return new BlockEntityHeatPacket(pos, slots, temperatures);
+    }
+
+    /**
+     * @return The size of the encoded packet, in bytes, not including the payload type.
+     */
+    public int sizeInBytes()
+    {
+        int size = Long.BYTES + VarInt.getByteSize(slots.length);
+        for (int slot : slots)
+        {
+            size += VarInt.getByteSize(slot) + Float.BYTES;
+        }
+        return size;
+    }
+
+    @Override
+    public Type<? extends CustomPacketPayload> type()
+    {
+        return TYPE;
+    }
+
+    void handle()
+    {
+        final Level level = ClientHelpers.getLevel();
+        if (level != null && level.isLoaded(pos) && level.getBlockEntity(pos) instanceof TickableInventoryBlockEntity<?> entity)
+        {
+            entity.onHeatSync(slots, temperatures);
+        }
+    }
+
+    private void encode(ByteBuf buffer)
+    {
+        buffer.writeLong(pos.asLong());
+        VarInt.write(buffer, slots.length);
+        for (int i = 0; i < slots.length; i++)
+        {
+            VarInt.write(buffer, slots[i]);
+            buffer.writeFloat(temperatures[i]);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.network;
+
+import java.util.ArrayList;
+import java.util.List;
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.DecoderException;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.network.VarInt;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.world.level.ChunkPos;
+import org.jetbrains.annotations.Nullable;
+
+import net.dries007.tfc.world.chunkdata.ForestType;
+import net.dries007.tfc.world.chunkdata.LerpFloatLayer;
+
+/**
+ * Sent from server -> client, containing the {@link ChunkWatchPacket}s for all chunks watched by a player in a single tick.
+ * <p>
+ * Layer values are sent exactly. Each corner is encoded as the difference between its float bits and those of the same corner of an adjacent chunk,
+ * if that chunk was already encoded in this packet. Since adjacent chunks are generated from shared corners, this is almost always zero, and so
+ * encodes as a single byte. Otherwise, nearby values have nearby bits, so the difference is still usually smaller than the value. Chunk positions are
+ * also encoded as a delta from the previous chunk.
+ */
+public record ChunkWatchBatchPacket(List<ChunkWatchPacket> chunks) implements CustomPacketPayload
+{
+    public static final CustomPacketPayload.Type<ChunkWatchBatchPacket> TYPE = PacketHandler.type("chunk_watch_batch");
+    public static final StreamCodec<ByteBuf, ChunkWatchBatchPacket> CODEC = StreamCodec.of((buffer, packet) -> packet.encode(buffer), ChunkWatchBatchPacket::decode);
+
+    /** The maximum number of chunks sent in a single packet */
+    public static final int MAX_CHUNKS = 1024;
+
+    private static final int LAYERS = 4;
+
+    private static ChunkWatchBatchPacket decode(ByteBuf buffer)
+    {
+        final int count = VarInt.read(buffer);
+        if (count < 0 || count > MAX_CHUNKS)
+        {
+            throw new DecoderException("Received " + count + " chunks, but at most " + MAX_CHUNKS + " are sent in a single packet");
+        }
+        final List<ChunkWatchPacket> chunks = new ArrayList<>(count);
+        final Long2ObjectMap<int[]> decoded = new Long2ObjectOpenHashMap<>(count);
+
+        int x = 0, z = 0;
+        int @Nullable [] prev = null;
+        for (int i = 0; i < count; i++)
+        {
+            x += unzigzag(VarInt.read(buffer));
+            z += unzigzag(VarInt.read(buffer));
+
+            final ForestType forestType = ForestType.valueOf(buffer.readByte());
+            final int[] values = new int[LAYERS * 4];
+            final int[] west = decoded.get(ChunkPos.asLong(x - 1, z));
+            final int[] north = decoded.get(ChunkPos.asLong(x, z - 1));
+            for (int layer = 0; layer < LAYERS; layer++)
+            {
+                for (int corner = 0; corner < 4; corner++)
+                {
+                    final int index = layer * 4 + corner;
+                    values[index] = predict(values, west, north, prev, layer, corner) + unzigzag(VarInt.read(buffer));
+                }
+            }
+
+            decoded.put(ChunkPos.asLong(x, z), values);
+            chunks.add(new ChunkWatchPacket(new ChunkPos(x, z), layer(values, 0), layer(values, 1), layer(values, 2), layer(values, 3), forestType));
+            prev = values;
+        }
+        return new ChunkWatchBatchPacket(chunks);
+    }
+
+    /**
+     * Predicts the bits of a corner value from the already encoded values. Corners are indexed as {@code 00, 01, 10, 11}, matching {@link LerpFloatLayer},
+     * so a chunk's low x corners are shared with the high x corners of its west neighbor, and its low z corners with the high z corners of its north neighbor.
+     */
+    private static int predict(int[] values, int @Nullable [] west, int @Nullable [] north, int @Nullable [] prev, int layer, int corner)
+    {
+        final int base = layer * 4;
+        return switch (corner)
+        {
+            case 0 -> west != null ? west[base + 2] : north != null ? north[base + 1] : prev != null ? prev[base] : 0;
+            case 1 -> west != null ? west[base + 3] : values[base];
+            case 2 -> north != null ? north[base + 3] : values[base];
+            default -> values[base + 1];
+        };
+    }
+
+    private static LerpFloatLayer layer(int[] values, int layer)
+    {
+        final int base = layer * 4;
+        return new LerpFloatLayer(Float.intBitsToFloat(values[base]), Float.intBitsToFloat(values[base + 1]), Float.intBitsToFloat(values[base + 2]), Float.intBitsToFloat(values[base + 3]));
+    }
+
+    private static void toBits(int[] values, int layer, LerpFloatLayer value)
+    {
+        final int base = layer * 4;
+        values[base] = Float.floatToRawIntBits(value.value00());
+        values[base + 1] = Float.floatToRawIntBits(value.value01());
+        values[base + 2] = Float.floatToRawIntBits(value.value10());
+        values[base + 3] = Float.floatToRawIntBits(value.value11());
+    }
+
+    private static int zigzag(int value)
+    {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unzigzag(int value)
+    {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    @Override
+    public Type<? extends CustomPacketPayload> type()
+    {
+        return TYPE;
+    }
+
+    void handle()
+    {
+        for (ChunkWatchPacket chunk : chunks)
+        {
+            chunk.handle();
+        }
+    }
+
+    private void encode(ByteBuf buffer)
+    {
+        VarInt.write(buffer, chunks.size());
+
+        final Long2ObjectMap<int[]> encoded = new Long2ObjectOpenHashMap<>(chunks.size());
+
+        int x = 0, z = 0;
+        int @Nullable [] prev = null;
+        for (ChunkWatchPacket chunk : chunks)
+        {
+            final ChunkPos pos = chunk.pos();
+            VarInt.write(buffer, zigzag(pos.x - x));
+            VarInt.write(buffer, zigzag(pos.z - z));
+            x = pos.x;
+            z = pos.z;
+
+            buffer.writeByte(chunk.forestType().ordinal());
+
+            final int[] values = new int[LAYERS * 4];
+            toBits(values, 0, chunk.rainfall());
+            toBits(values, 1, chunk.rainVariance());
+            toBits(values, 2, chunk.baseGroundwater());
+            toBits(values, 3, chunk.temperature());
+
+            final int[] west = encoded.get(ChunkPos.asLong(x - 1, z));
+            final int[] north = encoded.get(ChunkPos.asLong(x, z - 1));
+            for (int layer = 0; layer < LAYERS; layer++)
+            {
+                for (int corner = 0; corner < 4; corner++)
+                {
+                    final int index = layer * 4 + corner;
+                    VarInt.write(buffer, zigzag(values[index] - predict(values, west, north, prev, layer, corner)));
+                }
+            }
+
+            encoded.put(ChunkPos.asLong(x, z), values);
+            prev = values;
+        }
+    }
+}
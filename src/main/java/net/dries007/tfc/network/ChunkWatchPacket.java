@@ -19,7 +19,7 @@ import net.dries007.tfc.world.chunkdata.ForestType;
 import net.dries007.tfc.world.chunkdata.LerpFloatLayer;
 
 /**
- * Sent from server -> client on chunk watch, partially syncs chunk data and updates the client cache
+ * Sent from server -> client on chunk watch, partially syncs chunk data and updates the client cache. Normally sent as part of a {@link ChunkWatchBatchPacket}
  */
 public record ChunkWatchPacket(
     ChunkPos pos,
@@ -0,0 +1,100 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.network;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import com.mojang.logging.LogUtils;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.server.network.ServerGamePacketListenerImpl;
+import net.neoforged.neoforge.network.PacketDistributor;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import net.dries007.tfc.client.DataManagerCache;
+import net.dries007.tfc.util.data.DataManager;
+import net.dries007.tfc.util.data.DataManagers;
+
+/**
+ * Sent from server -> client, on joining and after each reload, containing only the hash of the contents of each synced data manager. The client
+ * loads any data managers it has cached with the same hash from the {@link DataManagerCache}, and sends a {@link DataManagerRequestPacket} for the
+ * rest, which the server responds to with a {@link DataManagerSyncPacket}.
+ */
+public record DataManagerHashesPacket(Map<DataManager<?>, Long> hashes) implements CustomPacketPayload
+{
+    public static final CustomPacketPayload.Type<DataManagerHashesPacket> TYPE = PacketHandler.type("data_manager_hashes");
+    public static final StreamCodec<RegistryFriendlyByteBuf, DataManagerHashesPacket> CODEC = ByteBufCodecs.<RegistryFriendlyByteBuf, DataManager<?>, Long, Map<DataManager<?>, Long>>map(HashMap::new, ByteBufCodecs.registry(DataManagers.KEY), ByteBufCodecs.LONG)
+        .map(DataManagerHashesPacket::new, DataManagerHashesPacket::hashes);
+
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    /**
+     * The data managers offered to each connected player by the last packet sent to them, which have not been requested yet. This is keyed by
+     * connection, which outlives the player entity, and is weak so that disconnected players are forgotten. Only accessed on server thread.
+     */
+    private static final Map<ServerGamePacketListenerImpl, Set<DataManager<?>>> OFFERED = new WeakHashMap<>();
+
+    /**
+     * @return {@code true} if {@code manager} was offered to {@code player} by the last packet sent to them, and has not been requested since.
+     */
+    static boolean takeOffered(ServerPlayer player, DataManager<?> manager)
+    {
+        final @Nullable Set<DataManager<?>> offered = OFFERED.get(player.connection);
+        return offered != null && offered.remove(manager);
+    }
+
+    public DataManagerHashesPacket(RegistryAccess registryAccess)
+    {
+        this(hashesOf(registryAccess));
+    }
+
+    private static Map<DataManager<?>, Long> hashesOf(RegistryAccess registryAccess)
+    {
+        final Map<DataManager<?>, Long> hashes = new HashMap<>();
+        for (DataManager<?> manager : DataManagers.REGISTRY)
+        {
+            if (manager.isSynced())
+            {
+                hashes.put(manager, manager.getSyncHash(registryAccess));
+            }
+        }
+        return hashes;
+    }
+
+    /**
+     * Sends this packet to {@code player}, which replaces the data managers they may request.
+     */
+    public void sendTo(ServerPlayer player)
+    {
+        OFFERED.put(player.connection, new HashSet<>(hashes.keySet()));
+        PacketDistributor.sendToPlayer(player, this);
+    }
+
+    @Override
+    public Type<? extends CustomPacketPayload> type()
+    {
+        return TYPE;
+    }
+
+    void handle(boolean isMemoryConnection)
+    {
+        if (isMemoryConnection)
+        {
+            LOGGER.info("Ignoring DataManager sync on logical server");
+            return;
+        }
+        DataManagerCache.onHashes(hashes);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.network;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import io.netty.handler.codec.DecoderException;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.VarInt;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.server.level.ServerPlayer;
+import net.neoforged.neoforge.network.PacketDistributor;
+import org.jetbrains.annotations.Nullable;
+
+import net.dries007.tfc.util.data.DataManager;
+import net.dries007.tfc.util.data.DataManagers;
+
+/**
+ * Sent from client -> server, in response to a {@link DataManagerHashesPacket}, requesting the contents of data managers the client does not have
+ * cached. The server only responds with data managers that were offered to the player by the last {@link DataManagerHashesPacket}, and only once.
+ */
+public record DataManagerRequestPacket(Set<DataManager<?>> managers) implements CustomPacketPayload
+{
+    public static final CustomPacketPayload.Type<DataManagerRequestPacket> TYPE = PacketHandler.type("request_data_managers");
+    private static final StreamCodec<RegistryFriendlyByteBuf, DataManager<?>> MANAGER_CODEC = ByteBufCodecs.registry(DataManagers.KEY);
+    public static final StreamCodec<RegistryFriendlyByteBuf, DataManagerRequestPacket> CODEC = StreamCodec.of((buffer, packet) -> packet.encode(buffer), DataManagerRequestPacket::decode);
+
+    private static DataManagerRequestPacket decode(RegistryFriendlyByteBuf buffer)
+    {
+        // There can't be more unique requests than there are data managers
+        final int count = VarInt.read(buffer);
+        if (count < 0 || count > DataManagers.REGISTRY.size())
+        {
+            throw new DecoderException("Requested " + count + " data managers, but only " + DataManagers.REGISTRY.size() + " exist");
+        }
+        final Set<DataManager<?>> managers = new HashSet<>(count);
+        for (int i = 0; i < count; i++)
+        {
+            managers.add(MANAGER_CODEC.decode(buffer));
+        }
+        return new DataManagerRequestPacket(managers);
+    }
+
+    @Override
+    public Type<? extends CustomPacketPayload> type()
+    {
+        return TYPE;
+    }
+
+    void handle(@Nullable ServerPlayer player)
+    {
+        if (player != null)
+        {
+            final List<DataManager<?>> offered = managers.stream()
+                .filter(manager -> DataManagerHashesPacket.takeOffered(player, manager))
+                .toList();
+            if (!offered.isEmpty())
+            {
+                PacketDistributor.sendToPlayer(player, new DataManagerSyncPacket(offered, player.server.registryAccess()));
+            }
+        }
+    }
+
+    private void encode(RegistryFriendlyByteBuf buffer)
+    {
+        VarInt.write(buffer, managers.size());
+        for (DataManager<?> manager : managers)
+        {
+            MANAGER_CODEC.encode(buffer, manager);
+        }
+    }
+}
@@ -6,39 +6,39 @@
 
 package net.dries007.tfc.network;
 
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 import com.mojang.logging.LogUtils;
+import net.minecraft.core.RegistryAccess;
 import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
-import net.minecraft.resources.ResourceLocation;
 import org.slf4j.Logger;
 
+import net.dries007.tfc.client.DataManagerCache;
 import net.dries007.tfc.util.data.DataManager;
 import net.dries007.tfc.util.data.DataManagers;
 
-public record DataManagerSyncPacket(List<Entry<?>> values) implements CustomPacketPayload
+/**
+ * Sent from server -> client, containing the contents of data managers that the client has requested, as they were not present in its
+ * {@link DataManagerCache}. See {@link DataManagerHashesPacket}
+ * <p>
+ * The contents are sent as encoded by the server, which the client decodes, and caches verbatim, so the cache always contains exactly the bytes
+ * identified by the hash.
+ */
+public record DataManagerSyncPacket(List<Entry> values) implements CustomPacketPayload
 {
     public static final CustomPacketPayload.Type<DataManagerSyncPacket> TYPE = PacketHandler.type("data_managers");
-    public static final StreamCodec<RegistryFriendlyByteBuf, DataManagerSyncPacket> CODEC = ByteBufCodecs.registry(DataManagers.KEY)
-        .<Entry<?>>dispatch(Entry::manager, DataManagerSyncPacket::streamCodec)
+    public static final StreamCodec<RegistryFriendlyByteBuf, DataManagerSyncPacket> CODEC = Entry.CODEC
         .apply(ByteBufCodecs.list())
         .map(DataManagerSyncPacket::new, DataManagerSyncPacket::values);
 
     private static final Logger LOGGER = LogUtils.getLogger();
 
-    private static <T> StreamCodec<RegistryFriendlyByteBuf, Entry<T>> streamCodec(DataManager<T> manager)
-    {
-        return ByteBufCodecs.<RegistryFriendlyByteBuf, ResourceLocation, T, Map<ResourceLocation, T>>map(HashMap::new, ResourceLocation.STREAM_CODEC, manager.streamCodec())
-            .map(e -> new Entry<>(manager, e), e -> e.values);
-    }
-
-    public DataManagerSyncPacket()
+    public DataManagerSyncPacket(Collection<DataManager<?>> managers, RegistryAccess registryAccess)
     {
-        this(DataManagers.REGISTRY.stream().filter(DataManager::isSynced).<Entry<?>>map(Entry::new).toList());
+        this(managers.stream().filter(DataManager::isSynced).map(manager -> new Entry(manager, registryAccess)).toList());
     }
 
     @Override
@@ -54,24 +54,28 @@ public record DataManagerSyncPacket(List<Entry<?>> values) implements CustomPack
             LOGGER.info("Ignoring DataManager sync on logical server");
             return;
         }
-        for (Entry<?> v : values)
+        for (Entry v : values)
         {
-            v.handle();
+            DataManagerCache.onReceived(v.manager, v.hash, v.bytes);
         }
+        DataManagerCache.onDataManagersUpdated();
     }
 
-    record Entry<T>(
-        DataManager<T> manager,
-        Map<ResourceLocation, T> values
+    record Entry(
+        DataManager<?> manager,
+        long hash,
+        byte[] bytes
     ) {
-        Entry(DataManager<T> manager)
-        {
-            this(manager, manager.getElements());
-        }
+        static final StreamCodec<RegistryFriendlyByteBuf, Entry> CODEC = StreamCodec.composite(
+            ByteBufCodecs.registry(DataManagers.KEY), Entry::manager,
+            ByteBufCodecs.LONG, Entry::hash,
+            ByteBufCodecs.BYTE_ARRAY, Entry::bytes,
+            Entry::new
+        );
 
-        void handle()
+        Entry(DataManager<?> manager, RegistryAccess registryAccess)
         {
-            manager.bindValues(values);
+            this(manager, manager.getSyncHash(registryAccess), manager.getSyncBytes(registryAccess));
         }
     }
 }
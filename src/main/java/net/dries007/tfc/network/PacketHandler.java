@@ -32,12 +32,15 @@ public final class PacketHandler
 
         // Server -> Client
         register.playToClient(ChunkWatchPacket.TYPE, ChunkWatchPacket.CODEC, onClient(ChunkWatchPacket::handle));
+        register.playToClient(ChunkWatchBatchPacket.TYPE, ChunkWatchBatchPacket.CODEC, onClient(ChunkWatchBatchPacket::handle));
         register.playToClient(CalendarUpdatePacket.TYPE, CalendarUpdatePacket.CODEC, onClient(CalendarUpdatePacket::handle));
         register.playToClient(PlayerInfoPacket.TYPE, PlayerInfoPacket.CODEC, onClient(PlayerInfoPacket::handle));
         register.playToClient(ProspectedPacket.TYPE, ProspectedPacket.CODEC, onClient(ProspectedPacket::handle));
         register.playToClient(EffectExpirePacket.TYPE, EffectExpirePacket.CODEC, onClient(EffectExpirePacket::handle));
         register.playToClient(UpdateClimateModelPacket.TYPE, UpdateClimateModelPacket.CODEC, onClient(UpdateClimateModelPacket::handle));
+        register.playToClient(BlockEntityHeatPacket.TYPE, BlockEntityHeatPacket.CODEC, onClient(BlockEntityHeatPacket::handle));
         register.playToClient(DataManagerSyncPacket.TYPE, DataManagerSyncPacket.CODEC, (packet, context) -> context.enqueueWork(() -> packet.handle(context.connection().isMemoryConnection())));
+        register.playToClient(DataManagerHashesPacket.TYPE, DataManagerHashesPacket.CODEC, (packet, context) -> context.enqueueWork(() -> packet.handle(context.connection().isMemoryConnection())));
 
         // Client -> Server
         register.playToServer(SwitchInventoryTabPacket.TYPE, SwitchInventoryTabPacket.CODEC, onServer(SwitchInventoryTabPacket::handle));
@@ -52,6 +55,7 @@ public final class PacketHandler
         register.playToServer(PetCommandPacket.TYPE, PetCommandPacket.CODEC, onServer(PetCommandPacket::handle));
         register.playToServer(PourFasterPacket.TYPE, PourFasterPacket.CODEC, onServer(PourFasterPacket::handle));
         register.playToServer(SelectAnvilPlanPacket.TYPE, SelectAnvilPlanPacket.CODEC, onServer(SelectAnvilPlanPacket::handle));
+        register.playToServer(DataManagerRequestPacket.TYPE, DataManagerRequestPacket.CODEC, onServer(DataManagerRequestPacket::handle));
     }
 
     private static <T extends CustomPacketPayload> IPayloadHandler<T> onClient(Consumer<T> handler)
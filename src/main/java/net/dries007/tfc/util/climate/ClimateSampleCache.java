@@ -0,0 +1,90 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.climate;
+
+import java.util.function.LongSupplier;
+import it.unimi.dsi.fastutil.longs.Long2FloatMap;
+import it.unimi.dsi.fastutil.longs.Long2FloatOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.Level;
+
+import net.dries007.tfc.util.calendar.Calendars;
+import net.dries007.tfc.util.calendar.ICalendar;
+
+/**
+ * A coarse cache of temperature samples, used when many positions need to simulate the climate over the same (long) period of time, for
+ * instance, a field of crops catching up after being unloaded. Positions within the same chunk, at the same y level, share samples taken from
+ * the center of the chunk.
+ * <p>
+ * Samples are only kept for the current game tick, and are only intended to be accessed from the server thread.
+ */
+public final class ClimateSampleCache
+{
+    private final Sampler sampler;
+    private final LongSupplier gameTimeSupplier;
+    private final Long2ObjectMap<Long2FloatMap> samples;
+    private long gameTime;
+
+    public ClimateSampleCache(Level level)
+    {
+        this((pos, calendar, tick) -> Climate.getTemperature(level, pos, calendar, Calendars.SERVER.getFixedCalendarTicksFromTick(tick)), level::getGameTime);
+    }
+
+    public ClimateSampleCache(Sampler sampler, LongSupplier gameTimeSupplier)
+    {
+        this.sampler = sampler;
+        this.gameTimeSupplier = gameTimeSupplier;
+        this.samples = new Long2ObjectOpenHashMap<>();
+        this.gameTime = Long.MIN_VALUE;
+    }
+
+    /**
+     * @param pos  The position to sample. This is rounded to the center of its chunk.
+     * @param tick A tick, in the same units as {@link Calendars#SERVER}'s ticks, which is converted to calendar ticks.
+     * @return The temperature at the center of the chunk containing {@code pos}, at the given tick.
+     */
+    public float getTemperature(BlockPos pos, ICalendar calendar, long tick)
+    {
+        final long currentGameTime = gameTimeSupplier.getAsLong();
+        if (currentGameTime != gameTime)
+        {
+            gameTime = currentGameTime;
+            samples.clear();
+        }
+
+        final int x = SectionPos.sectionToBlockCoord(SectionPos.blockToSectionCoord(pos.getX()), 8);
+        final int z = SectionPos.sectionToBlockCoord(SectionPos.blockToSectionCoord(pos.getZ()), 8);
+        final long key = BlockPos.asLong(x, pos.getY(), z);
+
+        Long2FloatMap chunkSamples = samples.get(key);
+        if (chunkSamples == null)
+        {
+            chunkSamples = new Long2FloatOpenHashMap();
+            samples.put(key, chunkSamples);
+        }
+        if (chunkSamples.containsKey(tick))
+        {
+            return chunkSamples.get(tick);
+        }
+
+        final float temperature = sampler.getTemperature(new BlockPos(x, pos.getY(), z), calendar, tick);
+        chunkSamples.put(tick, temperature);
+        return temperature;
+    }
+
+    @FunctionalInterface
+    public interface Sampler
+    {
+        /**
+         * @see ClimateSampleCache#getTemperature(BlockPos, ICalendar, long)
+         */
+        float getTemperature(BlockPos pos, ICalendar calendar, long tick);
+    }
+}
@@ -32,6 +32,7 @@ import net.dries007.tfc.util.calendar.Month;
 import net.dries007.tfc.util.tracker.WeatherHelpers;
 import net.dries007.tfc.world.ChunkGeneratorExtension;
 import net.dries007.tfc.world.TFCChunkGenerator;
+import net.dries007.tfc.world.chunkdata.ChunkClimateTable;
 import net.dries007.tfc.world.chunkdata.ChunkData;
 
 /**
@@ -80,6 +81,13 @@ public class OverworldClimateModel implements ClimateModel
     protected final long climateSeed;
     protected final float temperatureScale;
 
+    // Weather is a pure function of the calendar time, but is queried very frequently (per chunk tick, per client tick), so the random terms
+    // for each segment or day are cached, rather than re-seeding a random for every query.
+    private final TimelineCache<RainSegment> rainSegments = new TimelineCache<>(this::computeRainSegment);
+    private final TimelineCache<ThunderSegment> thunderSegments = new TimelineCache<>(this::computeThunderSegment);
+    private final TimelineCache<DailyWeather> days = new TimelineCache<>(this::computeDailyWeather);
+    private final ChunkClimateTable.MonthlyTemperature monthlyTemperature = this::calculateMonthlyTemperature;
+
     public OverworldClimateModel(ServerLevel level, ChunkGeneratorExtension extension)
     {
         this(
@@ -109,7 +117,11 @@ public class OverworldClimateModel implements ClimateModel
     @Override
     public float getAverageTemperature(LevelReader level, BlockPos pos)
     {
-        return ChunkData.get(level, pos).getAverageTemp(pos);
+        final ChunkData data = ChunkData.get(level, pos);
+        final @Nullable ChunkClimateTable table = getClimateTable(data);
+        return table != null
+            ? table.getAverageTemp(pos.getX(), pos.getZ())
+            : data.getAverageTemp(pos);
     }
 
     @Override
@@ -120,6 +132,15 @@ public class OverworldClimateModel implements ClimateModel
         // Month temperature
         final Month currentMonth = ICalendar.getMonthOfYear(calendarTicks, daysInMonth);
         final float delta = ICalendar.getFractionOfMonth(calendarTicks, daysInMonth);
+        final @Nullable ChunkClimateTable table = getClimateTable(data);
+        if (table != null)
+        {
+            final float monthTemperature = table.getMonthlyTemperature(pos.getZ(), currentMonth, delta);
+            final float dailyTemperature = calculateDailyTemperature(calendarTicks);
+
+            return adjustTemperatureByElevation(pos.getY(), table.getAverageTemp(pos.getX(), pos.getZ()), monthTemperature, dailyTemperature);
+        }
+
         final float monthFactor = Mth.lerp(delta, currentMonth.getTemperatureModifier(), currentMonth.next().getTemperatureModifier());
 
         final float monthTemperature = calculateMonthlyTemperature(pos.getZ(), monthFactor);
@@ -131,7 +152,7 @@ public class OverworldClimateModel implements ClimateModel
     @Override
     public float getAverageRainfall(LevelReader level, BlockPos pos)
     {
-        return ChunkData.get(level, pos).getRainfall(pos);
+        return getAverageRainfall(ChunkData.get(level, pos), pos);
     }
 
     @Override
@@ -145,7 +166,7 @@ public class OverworldClimateModel implements ClimateModel
     {
         final ChunkData data = ChunkData.get(level, pos);
         final float rainVariance = data.getRainVariance(pos);
-        final float rainAverage = data.getRainfall(pos);
+        final float rainAverage = getAverageRainfall(data, pos);
         final float fractionOfYear = ICalendar.getFractionOfYear(calendarTicks, daysInMonth);
 
         // For positive values of variance, drought in winter, rain in summer, reverse for negative values
@@ -162,7 +183,7 @@ public class OverworldClimateModel implements ClimateModel
     public float getAverageGroundwater(LevelReader level, BlockPos pos)
     {
         final ChunkData data = ChunkData.get(level, pos);
-        return Math.clamp(data.getBaseGroundwater(pos) + data.getRainfall(pos), MIN_RAINFALL, MAX_RAINFALL);
+        return Math.clamp(data.getBaseGroundwater(pos) + getAverageRainfall(data, pos), MIN_RAINFALL, MAX_RAINFALL);
     }
 
     @Override
@@ -176,66 +197,32 @@ public class OverworldClimateModel implements ClimateModel
 
     /**
      * In vanilla, rain is simulated as {@code [12_000, 24_000]} ticks on, {@code [12_000, 180_000]} ticks off.
+     * @see #computeRainSegment(long)
      */
     @Override
     public float getRain(long calendarTicks)
     {
-        final long salt = 8917234598231321L;
-        final long segmentLength = 66_000;
-        final long segmentId = Math.floorDiv(calendarTicks, segmentLength);
-        final long segmentLeft = segmentId * segmentLength;
-
-        // This works by breaking up the entire timeline into "segments", of exactly 66_000 in length. We generate exactly
-        // one rainfall section into each segment, of a random length between 12_000 and 24_000. This mirrors vanilla behavior
-        // fairly well, although is a bit more regular overall. It is roughly twice vanilla P(rain), which we scale down
-        // based on rainfall and intensity.
-        //
-        // Vanilla has rain as [12_000, 24_000] ticks on, [12_000, 180_000] ticks off. Our baseline here is 2x vanilla,
-        // and then we interpolate based on the rainfall at a given position to know if it is truly raining.
-
-        // Infer the default position of the next segment rainfall, in order to apply boundary conditions
-        final RandomSource nextSegment = seededRandom(segmentId + 1, salt);
-        final int nextLength = nextSegment.nextIntBetweenInclusive(12_000, 24_000);
-        final int nextLeft = (int) (nextSegment.nextFloat() * (segmentLength - 12_000 - nextLength)); // Need to use `nextFloat()` here for stability
-
-        // The boundary we leave on the right, in order to prevent merging
-        final int boundaryRight = Math.min(0, 12_000 - nextLeft);
-
-        // Calculate the current segment
-        final RandomSource segment = seededRandom(segmentId, salt);
-        final int length = segment.nextIntBetweenInclusive(12_000, 24_000);
-        final int left = (int) (segment.nextFloat() * (segmentLength - boundaryRight - nextLength));
-
-        if (calendarTicks < segmentLeft + left || calendarTicks > segmentLeft + left + length)
+        final RainSegment segment = rainSegments.get(Math.floorDiv(calendarTicks, RainSegment.LENGTH));
+        if (calendarTicks < segment.left() || calendarTicks > segment.left() + segment.length())
         {
             return -1; // Not raining, since we're not within the target segment
         }
 
         // We are raining, so calculate intensity, and distance to center
-        final int halfLength = length / 2;
-        final float rainIntensity = segment.nextFloat();
-        final float timeIntensity = 1f - Math.abs((segmentLeft + left + halfLength) - calendarTicks) / (float) halfLength;
+        final int halfLength = segment.length() / 2;
+        final float timeIntensity = 1f - Math.abs((segment.left() + halfLength) - calendarTicks) / (float) halfLength;
 
         // Average the two factors
-        return 0.5f * (rainIntensity + timeIntensity);
+        return 0.5f * (segment.intensity() + timeIntensity);
     }
 
     @Override
     public boolean getThunder(long calendarTicks)
     {
-        // Thunder is simulated using a similar segment system, and checking for overlap with rain. In vanilla, thunder is
-        // [3600, 15600] ticks on, [12000, 180000] ticks off, or 9600 on / 96000 off. P(thunder | rain) = 0.1, and P(thunder) = 0.01875
-        final long salt = 9871293851234123L;
-        final int segmentLength = 105_600;
-        final long segmentId = Math.floorDiv(calendarTicks, segmentLength);
-        final long segmentLeft = segmentId * segmentLength;
-
-        final RandomSource segment = seededRandom(segmentId, salt);
-        final int length = segment.nextIntBetweenInclusive(3600, 15_600);
-        final int left = segment.nextInt(segmentLength - length);
+        final ThunderSegment segment = thunderSegments.get(Math.floorDiv(calendarTicks, ThunderSegment.LENGTH));
 
         // Thunder|Rain if we are within the segment
-        return calendarTicks >= segmentLeft + left && calendarTicks <= segmentLeft + left + length;
+        return calendarTicks >= segment.left() && calendarTicks <= segment.left() + segment.length();
     }
 
     @Override
@@ -249,13 +236,13 @@ public class OverworldClimateModel implements ClimateModel
     {
         // seed as if we're 2 hours in the future, in order to start the cycle at 4am (2 hours before sunrise)
         final ICalendar calendar = Calendars.get(level);
-        final RandomSource random = seededRandom(calendar.getTotalDays(), 129341623413L);
-        if (random.nextInt(FOGGY_DAY_RARITY) != 0)
+        final DailyWeather day = days.get(calendar.getTotalDays());
+        if (!day.foggy())
         {
             return 0;
         }
 
-        final float fogModifier = random.nextFloat(); // untransformed value of the fog
+        final float fogModifier = day.fog(); // untransformed value of the fog
         final float hourOfDay = 24 * calendar.getCalendarFractionOfDay();
 
         final float scaledTime;
@@ -293,7 +280,7 @@ public class OverworldClimateModel implements ClimateModel
             return Vec2.ZERO;
         }
 
-        final RandomSource random = seededRandom(ICalendar.getTotalCalendarDays(calendarTicks), 129341623413L);
+        final DailyWeather day = days.get(ICalendar.getTotalCalendarDays(calendarTicks));
         final boolean isRaining = WeatherHelpers.isPrecipitating(getRain(calendarTicks), getRainfall(level, pos, calendarTicks, daysInMonth));
         final Holder<Biome> biome = level.getBiome(pos);
 
@@ -311,7 +298,7 @@ public class OverworldClimateModel implements ClimateModel
             final boolean oddBand = pos.getZ() < 0 ?
                 pos.getZ() % (windScale * 2) < windScale :
                 pos.getZ() % (windScale * 2) > windScale;
-            final float intensity = random.nextFloat() * 0.3f + 0.3f + (isRaining ? 0.4f : 0);
+            final float intensity = day.wind0() * 0.3f + 0.3f + (isRaining ? 0.4f : 0);
             float angle;
             if (isDay && oddBand)
                 angle = Mth.PI / 4;
@@ -321,15 +308,17 @@ public class OverworldClimateModel implements ClimateModel
                 angle = 5 * Mth.PI / 4;
             else
                 angle = 3 * Mth.PI / 4;
-            angle += random.nextFloat() * 0.2f - 0.1f;
+            angle += day.wind1() * 0.2f - 0.1f;
             return new Vec2(Mth.cos(angle), Mth.sin(angle)).scale(intensity);
         }
 
-        final float preventFrequentWindyDays = random.nextFloat() < 0.1f ? 1f : random.nextFloat();
-        final float intensity = Math.min(0.5f * random.nextFloat() * preventFrequentWindyDays
+        // Equivalent to drawing from the day's random in order, where the first value is only used if it is < 0.1
+        final boolean windyDay = day.wind0() < 0.1f;
+        final float preventFrequentWindyDays = windyDay ? 1f : day.wind1();
+        final float intensity = Math.min(0.5f * (windyDay ? day.wind1() : day.wind2()) * preventFrequentWindyDays
             + 0.4f * Mth.clampedMap(y, SEA_LEVEL, SEA_LEVEL + 65, 0f, 1f)
             + (isRaining ? 0.6f : 0), 1f);
-        final float angle = random.nextFloat() * Mth.TWO_PI;
+        final float angle = (windyDay ? day.wind2() : day.wind3()) * Mth.TWO_PI;
         return new Vec2(Mth.cos(angle) * intensity, Mth.sin(angle) * intensity);
     }
 
@@ -375,6 +364,27 @@ public class OverworldClimateModel implements ClimateModel
         }
     }
 
+    /**
+     * @return The climate table of {@code data}, if they are enabled, and it has one.
+     */
+    @Nullable
+    private ChunkClimateTable getClimateTable(ChunkData data)
+    {
+        return TFCConfig.SERVER.enableChunkClimateTables.get() ? data.getClimateTable(this, monthlyTemperature) : null;
+    }
+
+    /**
+     * All rainfall queries use this, so that seasonal rainfall and groundwater agree with the average rainfall, whether or not it is read from a
+     * climate table.
+     */
+    private float getAverageRainfall(ChunkData data, BlockPos pos)
+    {
+        final @Nullable ChunkClimateTable table = getClimateTable(data);
+        return table != null
+            ? table.getRainfall(pos.getX(), pos.getZ())
+            : data.getRainfall(pos);
+    }
+
     /**
      * Calculates the monthly temperature for a given latitude and month modifier
      */
@@ -395,14 +405,97 @@ public class OverworldClimateModel implements ClimateModel
             ? Mth.map(fractionOfDay, 0f, 0.5f, -1, 1)
             : Mth.map(fractionOfDay, 0.5f, 1f, 1, -1);
 
+        final DailyWeather day = days.get(ICalendar.getTotalCalendarDays(calendarTime));
+        return (day.temperature() + 0.3f * hourModifier) * 3f;
+    }
+
+    /**
+     * This works by breaking up the entire timeline into "segments", of exactly 66_000 in length. We generate exactly
+     * one rainfall section into each segment, of a random length between 12_000 and 24_000. This mirrors vanilla behavior
+     * fairly well, although is a bit more regular overall. It is roughly twice vanilla P(rain), which we scale down
+     * based on rainfall and intensity.
+     * <p>
+     * Vanilla has rain as [12_000, 24_000] ticks on, [12_000, 180_000] ticks off. Our baseline here is 2x vanilla,
+     * and then we interpolate based on the rainfall at a given position to know if it is truly raining.
+     */
+    protected RainSegment computeRainSegment(long segmentId)
+    {
+        final long salt = 8917234598231321L;
+        final long segmentLength = RainSegment.LENGTH;
+        final long segmentLeft = segmentId * segmentLength;
+
+        // Infer the default position of the next segment rainfall, in order to apply boundary conditions
+        final RandomSource nextSegment = seededRandom(segmentId + 1, salt);
+        final int nextLength = nextSegment.nextIntBetweenInclusive(12_000, 24_000);
+        final int nextLeft = (int) (nextSegment.nextFloat() * (segmentLength - 12_000 - nextLength)); // Need to use `nextFloat()` here for stability
+
+        // The boundary we leave on the right, in order to prevent merging
+        final int boundaryRight = Math.min(0, 12_000 - nextLeft);
+
+        // Calculate the current segment
+        final RandomSource segment = seededRandom(segmentId, salt);
+        final int length = segment.nextIntBetweenInclusive(12_000, 24_000);
+        final int left = (int) (segment.nextFloat() * (segmentLength - boundaryRight - nextLength));
+        final float rainIntensity = segment.nextFloat();
+
+        return new RainSegment(segmentLeft + left, length, rainIntensity);
+    }
+
+    /**
+     * Thunder is simulated using a similar segment system to rain, and checking for overlap with rain. In vanilla, thunder is
+     * [3600, 15600] ticks on, [12000, 180000] ticks off, or 9600 on / 96000 off. P(thunder | rain) = 0.1, and P(thunder) = 0.01875
+     */
+    protected ThunderSegment computeThunderSegment(long segmentId)
+    {
+        final long salt = 9871293851234123L;
+        final int segmentLength = ThunderSegment.LENGTH;
+        final long segmentLeft = segmentId * segmentLength;
+
+        final RandomSource segment = seededRandom(segmentId, salt);
+        final int length = segment.nextIntBetweenInclusive(3600, 15_600);
+        final int left = segment.nextInt(segmentLength - length);
+
+        return new ThunderSegment(segmentLeft + left, length);
+    }
+
+    protected DailyWeather computeDailyWeather(long day)
+    {
         // Note: this does not use world seed, as that is not synced from server - client, resulting in the seed being different
-        final long day = ICalendar.getTotalCalendarDays(calendarTime);
-        final RandomSource random = seededRandom(day, 1986239412341L);
-        return ((random.nextFloat() - random.nextFloat()) + 0.3f * hourModifier) * 3f;
+        final RandomSource temperature = seededRandom(day, 1986239412341L);
+        final float dailyTemperature = temperature.nextFloat() - temperature.nextFloat();
+
+        // Fog and wind share the same seed, but are drawn independently
+        final RandomSource fog = seededRandom(day, 129341623413L);
+        final boolean foggy = fog.nextInt(FOGGY_DAY_RARITY) == 0;
+        final float fogModifier = foggy ? fog.nextFloat() : 0f;
+
+        final RandomSource wind = seededRandom(day, 129341623413L);
+        return new DailyWeather(dailyTemperature, foggy, fogModifier, wind.nextFloat(), wind.nextFloat(), wind.nextFloat(), wind.nextFloat());
     }
 
     protected RandomSource seededRandom(long day, long salt)
     {
         return new XoroshiroRandomSource(LinearCongruentialGenerator.next(day, climateSeed), salt);
     }
+
+    /**
+     * A single rain event, starting at {@code left} (in calendar ticks), with a base intensity.
+     */
+    protected record RainSegment(long left, int length, float intensity)
+    {
+        static final long LENGTH = 66_000;
+    }
+
+    /**
+     * A single thunder event, starting at {@code left} (in calendar ticks).
+     */
+    protected record ThunderSegment(long left, int length)
+    {
+        static final int LENGTH = 105_600;
+    }
+
+    /**
+     * The random terms which are constant over a single day. The wind terms are the first four values drawn from the day's random.
+     */
+    protected record DailyWeather(float temperature, boolean foggy, float fog, float wind0, float wind1, float wind2, float wind3) {}
 }
@@ -0,0 +1,47 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.climate;
+
+import java.util.function.LongFunction;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A small cache of values computed from a timeline, keyed by a segment or day id. As the calendar only moves forward (mostly), ids are mapped
+ * directly to a slot in a ring of entries, so consecutive segments or days never evict each other.
+ * <p>
+ * Entries are immutable, so this is safe to query from multiple threads (i.e. both the client and server). A lookup of a cached id does not
+ * allocate. Concurrent misses of the same id may compute the value twice, which is harmless, as values must be a pure function of the id.
+ */
+final class TimelineCache<T>
+{
+    private static final int SIZE = 16; // Must be a power of two
+
+    private final @Nullable Entry<T>[] entries;
+    private final LongFunction<T> factory;
+
+    @SuppressWarnings("unchecked")
+    TimelineCache(LongFunction<T> factory)
+    {
+        this.entries = (Entry<T>[]) new Entry[SIZE];
+        this.factory = factory;
+    }
+
+    T get(long id)
+    {
+        final int slot = (int) (id & (SIZE - 1));
+        final Entry<T> entry = entries[slot];
+        if (entry != null && entry.id == id)
+        {
+            return entry.value;
+        }
+        final T value = factory.apply(id);
+        entries[slot] = new Entry<>(id, value);
+        return value;
+    }
+
+    private record Entry<T>(long id, T value) {}
+}
@@ -11,15 +11,24 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
+import net.minecraft.core.IdMap;
+import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.Recipe;
 import net.minecraft.world.item.crafting.RecipeHolder;
 import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.level.material.Fluid;
+import net.neoforged.neoforge.fluids.crafting.FluidIngredient;
+import org.jetbrains.annotations.Nullable;
 
 import net.dries007.tfc.common.recipes.RecipeHelpers;
 
@@ -38,6 +47,11 @@ import net.dries007.tfc.common.recipes.RecipeHelpers;
  *     <li>Using an LRU cache of size 1, delegating to the above took 273 us / recipe</li>
  *     <li>This took 11 us / recipe.</li>
  * </ul>
+ * <p>
+ * Collections created for a registry, i.e. via {@link #createForItems}, additionally resolve each key to its result on reload, into a table indexed
+ * by registry id. For any key where the first matching candidate uses a simple ingredient (one that only checks the item or fluid), that candidate
+ * must match every input with that key, so {@link #findFirst} does not need to test any candidates. Only keys whose first candidate depends on the
+ * rest of the input (i.e. components of the stack) fall back to testing each candidate.
  */
 public class IndirectHashCollection<K, R>
 {
@@ -54,6 +68,28 @@ public class IndirectHashCollection<K, R>
         return cache;
     }
 
+    /**
+     * Create a new {@link IndirectHashCollection} of values keyed by item ingredients, which is backed from the provided value supplier, and resolved
+     * per item on reload. This will manage the cache's overall lifecycle, including clearing and reloading, as necessary.
+     */
+    public static <R> IndirectHashCollection<Item, R> createForItems(Function<R, Ingredient> ingredient, Supplier<Collection<R>> values)
+    {
+        final IndirectHashCollection<Item, R> cache = new IndirectHashCollection<>(r -> RecipeHelpers.itemKeys(ingredient.apply(r)), BuiltInRegistries.ITEM, r -> ingredient.apply(r).isSimple());
+        create(new DirectCache<>(cache, values));
+        return cache;
+    }
+
+    /**
+     * Create a new {@link IndirectHashCollection} of values keyed by fluid ingredients, which is backed from the provided value supplier, and resolved
+     * per fluid on reload. This will manage the cache's overall lifecycle, including clearing and reloading, as necessary.
+     */
+    public static <R> IndirectHashCollection<Fluid, R> createForFluids(Function<R, FluidIngredient> ingredient, Supplier<Collection<R>> values)
+    {
+        final IndirectHashCollection<Fluid, R> cache = new IndirectHashCollection<>(r -> RecipeHelpers.fluidKeys(ingredient.apply(r)), BuiltInRegistries.FLUID, r -> ingredient.apply(r).isSimple());
+        create(new DirectCache<>(cache, values));
+        return cache;
+    }
+
     /**
      * Creates a new {@link IndirectHashCollection} that is backed from the given recipe type. This will manage the cache's overall
      * lifecycle, including clearing and reloading, as necessary.
@@ -96,13 +132,32 @@ public class IndirectHashCollection<K, R>
         CACHES.forEach(Cache::clear);
     }
 
+    /** Marks a key in {@link #resolvedTable} which needs all its candidates tested. */
+    private static final Object UNRESOLVED = new Object();
+
     private final Map<K, Collection<R>> indirectResultMap;
     private final Function<R, Iterable<? extends K>> keyExtractor;
 
+    private final @Nullable IdMap<K> registry;
+    private final Predicate<R> isSimple;
+    private @Nullable Object[] resolvedTable; // Registry id -> null (no candidates), the first candidate, or UNRESOLVED
+
     public IndirectHashCollection(Function<R, Iterable<? extends K>> keyExtractor)
+    {
+        this(keyExtractor, null, r -> false);
+    }
+
+    /**
+     * @param registry The registry of all keys, used to resolve results per key on reload
+     * @param isSimple A predicate which returns {@code true} if a result matches <strong>all</strong> inputs with a key that it is present under.
+     */
+    public IndirectHashCollection(Function<R, Iterable<? extends K>> keyExtractor, @Nullable IdMap<K> registry, Predicate<R> isSimple)
     {
         this.keyExtractor = keyExtractor;
         this.indirectResultMap = new HashMap<>();
+        this.registry = registry;
+        this.isSimple = isSimple;
+        this.resolvedTable = null;
     }
 
     public Collection<R> getAll(K key)
@@ -110,6 +165,34 @@ public class IndirectHashCollection<K, R>
         return indirectResultMap.getOrDefault(key, List.of());
     }
 
+    /**
+     * Finds the first result under {@code key} which matches {@code input}, according to {@code test}. This is equivalent to testing each of
+     * {@link #getAll(Object)}, but will skip testing entirely for keys that were resolved on reload.
+     * @param key The key of {@code input}
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <C> R findFirst(K key, C input, BiPredicate<R, C> test)
+    {
+        final @Nullable Object[] table = resolvedTable;
+        if (table != null)
+        {
+            final int id = registry.getId(key);
+            if (id >= 0 && id < table.length && table[id] != UNRESOLVED)
+            {
+                return (R) table[id];
+            }
+        }
+        for (R result : getAll(key))
+        {
+            if (test.test(result, input))
+            {
+                return result;
+            }
+        }
+        return null;
+    }
+
     public void reload(Collection<R> values)
     {
         indirectResultMap.clear();
@@ -119,11 +202,28 @@ public class IndirectHashCollection<K, R>
                 indirectResultMap.computeIfAbsent(directKey, k -> new ArrayList<>()).add(result);
             }
         });
+
+        if (registry != null)
+        {
+            final Object[] table = new Object[registry.size()];
+            indirectResultMap.forEach((key, results) -> {
+                final int id = registry.getId(key);
+                if (id >= 0 && id < table.length)
+                {
+                    // Results are always tested in order, so only the first result matters - if it is simple, it is always the result,
+                    // otherwise, it depends on the input, and we need to test every result
+                    final R first = results.iterator().next();
+                    table[id] = isSimple.test(first) ? first : UNRESOLVED;
+                }
+            });
+            resolvedTable = table;
+        }
     }
 
     public void clear()
     {
         indirectResultMap.clear();
+        resolvedTable = null;
     }
 
 
@@ -0,0 +1,81 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.data;
+
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+
+import net.dries007.tfc.common.TFCTags;
+import net.dries007.tfc.common.recipes.CollapseRecipe;
+import net.dries007.tfc.common.recipes.LandslideRecipe;
+import net.dries007.tfc.util.Helpers;
+
+/**
+ * Data driven behaviors of block states, which are queried very frequently (i.e. on every neighbor update, or every block change), resolved once per
+ * block state on reload into a table indexed by {@link Block#BLOCK_STATE_REGISTRY} id. This replaces a recipe lookup and ingredient test for each query
+ * with a single array read.
+ * <p>
+ * Until the table is built, i.e. before tags are first loaded, each query falls back to computing the flags of the state directly.
+ */
+public final class BlockStateFlags
+{
+    /** The block state can landslide, see {@link LandslideRecipe#canLandslide(BlockState)} */
+    public static final int CAN_LANDSLIDE = 1;
+    /** The block state can collapse, see {@link CollapseRecipe#canCollapse(BlockState)} */
+    public static final int CAN_COLLAPSE = 1 << 1;
+    /** The block state is in the {@link TFCTags.Blocks#BREAKS_WHEN_ISOLATED} tag */
+    public static final int BREAKS_WHEN_ISOLATED = 1 << 2;
+    /** The block state is a support, see {@link Support#get(BlockState)} */
+    public static final int SUPPORT = 1 << 3;
+
+    private static byte[] flags = new byte[0];
+
+    /**
+     * Rebuilds the table of flags. This must be called after all recipe and data caches, and tags, have been reloaded.
+     */
+    public static void updateCache()
+    {
+        final byte[] table = new byte[Block.BLOCK_STATE_REGISTRY.size()];
+        for (BlockState state : Block.BLOCK_STATE_REGISTRY)
+        {
+            table[Block.BLOCK_STATE_REGISTRY.getId(state)] = compute(state);
+        }
+        flags = table;
+    }
+
+    /**
+     * @return {@code true} if the given state has the given flag.
+     */
+    public static boolean is(BlockState state, int flag)
+    {
+        final byte[] table = flags;
+        final int id = Block.BLOCK_STATE_REGISTRY.getId(state);
+        return ((0 <= id && id < table.length ? table[id] : compute(state)) & flag) != 0;
+    }
+
+    private static byte compute(BlockState state)
+    {
+        int value = 0;
+        if (LandslideRecipe.getRecipe(state) != null)
+        {
+            value |= CAN_LANDSLIDE;
+        }
+        if (CollapseRecipe.getRecipe(state) != null)
+        {
+            value |= CAN_COLLAPSE;
+        }
+        if (Helpers.isBlock(state, TFCTags.Blocks.BREAKS_WHEN_ISOLATED))
+        {
+            value |= BREAKS_WHEN_ISOLATED;
+        }
+        if (Support.find(state) != null)
+        {
+            value |= SUPPORT;
+        }
+        return (byte) value;
+    }
+}
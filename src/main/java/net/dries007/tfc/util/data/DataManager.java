@@ -17,6 +17,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Supplier;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.Hashing;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParseException;
@@ -24,7 +25,10 @@ import com.mojang.logging.LogUtils;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.JsonOps;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.core.RegistryAccess;
 import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.VarInt;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.resources.RegistryOps;
 import net.minecraft.resources.ResourceLocation;
@@ -48,6 +52,7 @@ public class DataManager<T> extends SimpleJsonResourceReloadListener
 
     private Map<ResourceLocation, T> byKey = Map.of();
     private Map<T, ResourceLocation> toKey = Map.of();
+    private @Nullable Long syncHash = null;
 
     private final Codec<Reference<T>> byIdCodec = ResourceLocation.CODEC.xmap(this::getReference, Reference::id);
     private final StreamCodec<ByteBuf, Reference<T>> byIdStreamCodec = ResourceLocation.STREAM_CODEC.map(this::getReference, Reference::id);
@@ -186,10 +191,94 @@ public class DataManager<T> extends SimpleJsonResourceReloadListener
     {
         // Sync received from physical server
         byKey = ImmutableMap.copyOf(elements);
+        syncHash = null;
         updateReferences();
         LOGGER.info("Received {} {}(s) from physical server", byKey.size(), registryName);
     }
 
+    /**
+     * Updates the data manager with the state of the networked elements, which are identified by the physical server with {@code hash}.
+     * @see #getSyncHash(RegistryAccess)
+     */
+    public void bindValues(Map<ResourceLocation, T> elements, long hash)
+    {
+        bindValues(elements);
+        syncHash = hash;
+    }
+
+    /**
+     * @return {@code true} if the elements of this data manager were last bound from a physical server, with the given {@code hash}.
+     */
+    public boolean isSyncedWith(long hash)
+    {
+        return syncHash != null && syncHash == hash;
+    }
+
+    /**
+     * @return A hash of the encoded elements of this data manager, which identifies the contents that would be synced to a client. This is
+     * computed once per reload.
+     */
+    public long getSyncHash(RegistryAccess registryAccess)
+    {
+        if (syncHash == null)
+        {
+            syncHash = hash(getSyncBytes(registryAccess));
+        }
+        return syncHash;
+    }
+
+    /**
+     * @return The encoded elements of this data manager, exactly as they are synced to clients, which hash to {@link #getSyncHash(RegistryAccess)}.
+     */
+    public byte[] getSyncBytes(RegistryAccess registryAccess)
+    {
+        return encodeElements(byKey, registryAccess);
+    }
+
+    /**
+     * Encodes the given elements via the {@link #streamCodec()}, in a canonical order (sorted by id), so that equal elements always encode to the
+     * same bytes.
+     */
+    public byte[] encodeElements(Map<ResourceLocation, T> elements, RegistryAccess registryAccess)
+    {
+        final RegistryFriendlyByteBuf buffer = new RegistryFriendlyByteBuf(Unpooled.buffer(), registryAccess);
+        final List<ResourceLocation> ids = new ArrayList<>(elements.keySet());
+        ids.sort(null);
+
+        VarInt.write(buffer, ids.size());
+        for (ResourceLocation id : ids)
+        {
+            ResourceLocation.STREAM_CODEC.encode(buffer, id);
+            streamCodec().encode(buffer, elements.get(id));
+        }
+
+        final byte[] bytes = new byte[buffer.readableBytes()];
+        buffer.readBytes(bytes);
+        buffer.release();
+        return bytes;
+    }
+
+    /**
+     * Decodes elements previously encoded with {@link #encodeElements(Map, RegistryAccess)}
+     */
+    public Map<ResourceLocation, T> decodeElements(byte[] bytes, RegistryAccess registryAccess)
+    {
+        final RegistryFriendlyByteBuf buffer = new RegistryFriendlyByteBuf(Unpooled.wrappedBuffer(bytes), registryAccess);
+        final int size = VarInt.read(buffer);
+        final Map<ResourceLocation, T> elements = new HashMap<>(size);
+        for (int i = 0; i < size; i++)
+        {
+            final ResourceLocation id = ResourceLocation.STREAM_CODEC.decode(buffer);
+            elements.put(id, streamCodec().decode(buffer));
+        }
+        return elements;
+    }
+
+    public static long hash(byte[] bytes)
+    {
+        return Hashing.murmur3_128().hashBytes(bytes).asLong();
+    }
+
     /**
      * @return The registry name (excluding namespace) of this data manager
      */
@@ -219,6 +308,7 @@ public class DataManager<T> extends SimpleJsonResourceReloadListener
         }
 
         byKey = builder.build();
+        syncHash = null;
         updateReferences();
 
         LOGGER.info("Loaded {} {}(s).", byKey.size(), registryName);
@@ -46,7 +46,7 @@ public record Deposit(
     );
 
     public static final DataManager<Deposit> MANAGER = new DataManager<>(Helpers.identifier("deposit"), CODEC, STREAM_CODEC);
-    public static final IndirectHashCollection<Item, Deposit> CACHE = IndirectHashCollection.create(r -> RecipeHelpers.itemKeys(r.ingredient), MANAGER::getValues);
+    public static final IndirectHashCollection<Item, Deposit> CACHE = IndirectHashCollection.createForItems(Deposit::ingredient, MANAGER::getValues);
 
     /**
      * Returns the deposit represented by this stack. Note this does not access the stored deposit for pan items!
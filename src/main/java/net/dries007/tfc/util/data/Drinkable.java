@@ -39,7 +39,6 @@ import net.dries007.tfc.common.component.food.FoodData;
 import net.dries007.tfc.common.fluids.FluidHelpers;
 import net.dries007.tfc.common.player.IPlayerInfo;
 import net.dries007.tfc.common.player.PlayerInfo;
-import net.dries007.tfc.common.recipes.RecipeHelpers;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.collections.IndirectHashCollection;
 
@@ -79,7 +78,7 @@ public record Drinkable(
     );
 
     public static final DataManager<Drinkable> MANAGER = new DataManager<>(Helpers.identifier("drinkable"), CODEC, STREAM_CODEC);
-    public static final IndirectHashCollection<Fluid, Drinkable> CACHE = IndirectHashCollection.create(c -> RecipeHelpers.fluidKeys(c.ingredient), MANAGER::getValues);
+    public static final IndirectHashCollection<Fluid, Drinkable> CACHE = IndirectHashCollection.createForFluids(Drinkable::ingredient, MANAGER::getValues);
 
     /** Amount of mB drank when drinking by hand on a source block */
     private static final int HAND_DRINK_MB = 25;
@@ -87,14 +86,7 @@ public record Drinkable(
     @Nullable
     public static Drinkable get(Fluid fluid)
     {
-        for (Drinkable drinkable : CACHE.getAll(fluid))
-        {
-            if (drinkable.ingredient.test(new FluidStack(fluid, 1)))
-            {
-                return drinkable;
-            }
-        }
-        return null;
+        return CACHE.findFirst(fluid, fluid, (drinkable, f) -> drinkable.ingredient.test(new FluidStack(f, 1)));
     }
 
     /**
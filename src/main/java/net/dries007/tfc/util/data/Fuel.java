@@ -44,7 +44,7 @@ public record Fuel(
     );
 
     public static final DataManager<Fuel> MANAGER = new DataManager<>(Helpers.identifier("fuel"), CODEC, STREAM_CODEC);
-    public static final IndirectHashCollection<Item, Fuel> CACHE = IndirectHashCollection.create(r -> RecipeHelpers.itemKeys(r.ingredient), MANAGER::getValues);
+    public static final IndirectHashCollection<Item, Fuel> CACHE = IndirectHashCollection.createForItems(Fuel::ingredient, MANAGER::getValues);
 
     @Nullable
     public static Fuel get(ItemStack stack)
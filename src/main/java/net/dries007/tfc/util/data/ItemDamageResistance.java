@@ -38,7 +38,7 @@ public record ItemDamageResistance(
     );
 
     public static final DataManager<ItemDamageResistance> MANAGER = new DataManager<>(Helpers.identifier("item_damage_resistance"), CODEC, STREAM_CODEC);
-    public static final IndirectHashCollection<Item, ItemDamageResistance> CACHE = IndirectHashCollection.create(c -> RecipeHelpers.itemKeys(c.ingredient), MANAGER::getValues);
+    public static final IndirectHashCollection<Item, ItemDamageResistance> CACHE = IndirectHashCollection.createForItems(ItemDamageResistance::ingredient, MANAGER::getValues);
 
     @Nullable
     public static ItemDamageResistance get(ItemStack stack)
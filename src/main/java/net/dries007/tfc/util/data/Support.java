@@ -14,6 +14,7 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
@@ -62,9 +63,15 @@ public record Support(
 
     /**
      * Finds all unsupported positions in a large area. It's more efficient than checking each block individually and calling {@link Support#isSupported(BlockGetter, BlockPos)}
+     * In a server level, this uses the {@link SupportIndex}, rather than scanning every block in range.
      */
     public static Set<BlockPos> findUnsupportedPositions(BlockGetter worldIn, BlockPos from, BlockPos to)
     {
+        if (worldIn instanceof ServerLevel level)
+        {
+            return SupportIndex.findUnsupportedPositions(level, from, to);
+        }
+
         Set<BlockPos> listSupported = new HashSet<>();
         Set<BlockPos> listUnsupported = new HashSet<>();
         int minX = Math.min(from.getX(), to.getX());
@@ -98,6 +105,11 @@ public record Support(
 
     public static boolean isSupported(BlockGetter world, BlockPos pos)
     {
+        if (world instanceof ServerLevel level)
+        {
+            return SupportIndex.isSupported(level, pos);
+        }
+
         for (BlockPos supportPos : getMaximumSupportedAreaAround(pos, pos))
         {
             final BlockState supportState = world.getBlockState(supportPos);
@@ -117,6 +129,12 @@ public record Support(
 
     @Nullable
     public static Support get(BlockState state)
+    {
+        return BlockStateFlags.is(state, BlockStateFlags.SUPPORT) ? find(state) : null;
+    }
+
+    @Nullable
+    static Support find(BlockState state)
     {
         for (Support support : CACHE.getAll(state.getBlock()))
         {
@@ -140,6 +158,7 @@ public record Support(
         }
 
         RANGE = new SupportRange(up, down, horizontal);
+        SupportIndex.invalidateAll();
     }
 
     public boolean canSupport(BlockPos supportPos, BlockPos testPos)
@@ -0,0 +1,236 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.data;
+
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Set;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import org.jetbrains.annotations.Nullable;
+
+import net.dries007.tfc.common.TFCAttachments;
+
+/**
+ * A per-chunk index of all {@link Support} blocks, by section, which allows support checks to only consider the supports that are actually
+ * present near a position, rather than querying the block state of every position in range, as {@link Support#isSupported(net.minecraft.world.level.BlockGetter, BlockPos)}
+ * would otherwise need to.
+ * <p>
+ * The index is not saved. It is built once for each chunk on first use, only scanning sections which may contain a support block according to
+ * their palette, and is then kept up to date by observing every block change in the level. It is rebuilt whenever supports are reloaded.
+ */
+public final class SupportIndex
+{
+    private static int generation = 0;
+
+    /**
+     * Invalidates all existing indexes, as the set of support blocks may have changed.
+     */
+    static void invalidateAll()
+    {
+        generation++;
+    }
+
+    /**
+     * @return The index for the given chunk, which will be built if it does not exist yet, or is out of date.
+     */
+    public static SupportIndex get(ChunkAccess chunk)
+    {
+        final SupportIndex index = chunk.getData(TFCAttachments.SUPPORT_INDEX);
+        if (index.generation != generation)
+        {
+            index.initialize(chunk);
+        }
+        return index;
+    }
+
+    /**
+     * Called on every block change in a server level.
+     */
+    public static void onBlockStateChange(ServerLevel level, BlockPos pos, BlockState oldState, BlockState newState)
+    {
+        final @Nullable Support oldSupport = Support.get(oldState), newSupport = Support.get(newState);
+        if (oldSupport != newSupport)
+        {
+            final ChunkAccess chunk = level.getChunk(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
+            final SupportIndex index = chunk.getData(TFCAttachments.SUPPORT_INDEX);
+            if (index.generation == generation) // Otherwise, this will be picked up when the index is built
+            {
+                index.update(pos.asLong(), newSupport);
+            }
+        }
+    }
+
+    /**
+     * @return {@code true} if the given position is supported by any support block in range.
+     */
+    public static boolean isSupported(ServerLevel level, BlockPos pos)
+    {
+        final Support.SupportRange range = Support.getSupportCheckRange();
+        final int x = pos.getX(), y = pos.getY(), z = pos.getZ();
+        for (int chunkX = SectionPos.blockToSectionCoord(x - range.horizontal()); chunkX <= SectionPos.blockToSectionCoord(x + range.horizontal()); chunkX++)
+        {
+            for (int chunkZ = SectionPos.blockToSectionCoord(z - range.horizontal()); chunkZ <= SectionPos.blockToSectionCoord(z + range.horizontal()); chunkZ++)
+            {
+                final SupportIndex index = get(level.getChunk(chunkX, chunkZ));
+                for (int sectionY = SectionPos.blockToSectionCoord(y - range.down()); sectionY <= SectionPos.blockToSectionCoord(y + range.up()); sectionY++)
+                {
+                    final @Nullable Long2ObjectMap<Support> section = index.sections.get(sectionY);
+                    if (section != null)
+                    {
+                        for (Long2ObjectMap.Entry<Support> entry : section.long2ObjectEntrySet())
+                        {
+                            final long supportPos = entry.getLongKey();
+                            final Support support = entry.getValue();
+                            final int dx = BlockPos.getX(supportPos) - x, dy = BlockPos.getY(supportPos) - y, dz = BlockPos.getZ(supportPos) - z;
+                            if (Math.abs(dx) <= support.supportHorizontal() && -support.supportDown() <= dy && dy <= support.supportUp() && Math.abs(dz) <= support.supportHorizontal())
+                            {
+                                return true;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds all unsupported positions within the box between {@code from} and {@code to}, inclusive. The area covered by each support in range
+     * is marked in a bitmap over the box, and any unmarked positions are unsupported.
+     */
+    public static Set<BlockPos> findUnsupportedPositions(ServerLevel level, BlockPos from, BlockPos to)
+    {
+        final Support.SupportRange range = Support.getSupportCheckRange();
+        final int minX = Math.min(from.getX(), to.getX()), maxX = Math.max(from.getX(), to.getX());
+        final int minY = Math.min(from.getY(), to.getY()), maxY = Math.max(from.getY(), to.getY());
+        final int minZ = Math.min(from.getZ(), to.getZ()), maxZ = Math.max(from.getZ(), to.getZ());
+        final int sizeX = maxX - minX + 1, sizeY = maxY - minY + 1, sizeZ = maxZ - minZ + 1;
+        final BitSet covered = new BitSet(sizeX * sizeY * sizeZ);
+
+        for (int chunkX = SectionPos.blockToSectionCoord(minX - range.horizontal()); chunkX <= SectionPos.blockToSectionCoord(maxX + range.horizontal()); chunkX++)
+        {
+            for (int chunkZ = SectionPos.blockToSectionCoord(minZ - range.horizontal()); chunkZ <= SectionPos.blockToSectionCoord(maxZ + range.horizontal()); chunkZ++)
+            {
+                final SupportIndex index = get(level.getChunk(chunkX, chunkZ));
+                for (int sectionY = SectionPos.blockToSectionCoord(minY - range.down()); sectionY <= SectionPos.blockToSectionCoord(maxY + range.up()); sectionY++)
+                {
+                    final @Nullable Long2ObjectMap<Support> section = index.sections.get(sectionY);
+                    if (section != null)
+                    {
+                        for (Long2ObjectMap.Entry<Support> entry : section.long2ObjectEntrySet())
+                        {
+                            final long supportPos = entry.getLongKey();
+                            final Support support = entry.getValue();
+                            final int supportX = BlockPos.getX(supportPos), supportY = BlockPos.getY(supportPos), supportZ = BlockPos.getZ(supportPos);
+                            if (supportY < minY - range.down() || supportY > maxY + range.up())
+                            {
+                                continue; // Outside the area searched by Support.getMaximumSupportedAreaAround()
+                            }
+
+                            // The supported area of this support, as in Support.getSupportedArea(), clamped to the box
+                            final int x0 = Math.max(minX, supportX - support.supportHorizontal()), x1 = Math.min(maxX, supportX + support.supportHorizontal());
+                            final int y0 = Math.max(minY, supportY - support.supportDown()), y1 = Math.min(maxY, supportY + support.supportUp());
+                            final int z0 = Math.max(minZ, supportZ - support.supportHorizontal()), z1 = Math.min(maxZ, supportZ + support.supportHorizontal());
+                            if (x0 > x1)
+                            {
+                                continue;
+                            }
+                            for (int y = y0; y <= y1; y++)
+                            {
+                                for (int z = z0; z <= z1; z++)
+                                {
+                                    final int start = ((y - minY) * sizeZ + (z - minZ)) * sizeX;
+                                    covered.set(start + x0 - minX, start + x1 - minX + 1);
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        final Set<BlockPos> unsupported = new HashSet<>();
+        for (int i = covered.nextClearBit(0); i < sizeX * sizeY * sizeZ; i = covered.nextClearBit(i + 1))
+        {
+            unsupported.add(new BlockPos(minX + i % sizeX, minY + i / (sizeX * sizeZ), minZ + (i / sizeX) % sizeZ));
+        }
+        return unsupported;
+    }
+
+    private final Int2ObjectMap<Long2ObjectMap<Support>> sections; // Section Y -> packed position -> support
+    private int generation;
+
+    public SupportIndex()
+    {
+        this.sections = new Int2ObjectOpenHashMap<>();
+        this.generation = -1;
+    }
+
+    private void update(long pos, @Nullable Support support)
+    {
+        final int sectionY = SectionPos.blockToSectionCoord(BlockPos.getY(pos));
+        if (support != null)
+        {
+            sections.computeIfAbsent(sectionY, key -> new Long2ObjectOpenHashMap<>()).put(pos, support);
+        }
+        else
+        {
+            final @Nullable Long2ObjectMap<Support> section = sections.get(sectionY);
+            if (section != null)
+            {
+                section.remove(pos);
+                if (section.isEmpty())
+                {
+                    sections.remove(sectionY);
+                }
+            }
+        }
+    }
+
+    private void initialize(ChunkAccess chunk)
+    {
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        final LevelChunkSection[] chunkSections = chunk.getSections();
+        final int minX = chunk.getPos().getMinBlockX(), minZ = chunk.getPos().getMinBlockZ();
+
+        sections.clear();
+        for (int sectionIndex = 0; sectionIndex < chunkSections.length; sectionIndex++)
+        {
+            final LevelChunkSection section = chunkSections[sectionIndex];
+            if (section.hasOnlyAir() || !section.maybeHas(state -> Support.get(state) != null))
+            {
+                continue; // Palette based check, avoids scanning the majority of sections which have no supports at all
+            }
+
+            final int minY = SectionPos.sectionToBlockCoord(chunk.getSectionYFromSectionIndex(sectionIndex));
+            for (int y = 0; y < 16; y++)
+            {
+                for (int z = 0; z < 16; z++)
+                {
+                    for (int x = 0; x < 16; x++)
+                    {
+                        final @Nullable Support support = Support.get(section.getBlockState(x, y, z));
+                        if (support != null)
+                        {
+                            update(cursor.set(minX + x, minY + y, minZ + z).asLong(), support);
+                        }
+                    }
+                }
+            }
+        }
+        generation = SupportIndex.generation;
+    }
+}
@@ -8,11 +8,13 @@ package net.dries007.tfc.util.rotation;
 
 import java.util.ArrayDeque;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Queue;
 import java.util.Set;
 import java.util.stream.Collectors;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceArrayList;
 import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -194,6 +196,82 @@ final class RotationNetwork
         nodes.remove(toRemove.posKey());
     }
 
+    /**
+     * Removes a single node from the network, and updates only the part of the network which may have been affected.
+     * <p>
+     * As the network forms a directed tree, by each node's {@link Node#source()}, the only nodes which can lose connectivity are those
+     * downstream of the removed node. Every other node still has an unbroken path to the source, and keeps its current rotation. So, we
+     * first collect the downstream nodes, searching outwards from the removed node, and then try and reconnect them from any adjacent,
+     * still connected nodes (i.e. if they were part of a cycle). This only visits the downstream nodes and their immediate neighbors,
+     * rather than every node in the network, as {@link #updateNetwork()} does.
+     */
+    void removeNodeAndUpdate(Node toRemove)
+    {
+        assert toRemove.network() == id;
+        assert !isSource(toRemove);
+
+        nodes.remove(toRemove.posKey());
+
+        // Collect all nodes downstream of the removed node, in BFS order. These are any nodes which have their source pointing towards
+        // a node that is either removed, or already downstream. We check all directions from the removed node, as its connections may
+        // have been modified before being removed.
+        final List<Node> downstream = new ReferenceArrayList<>();
+        final Set<Node> detached = new ReferenceOpenHashSet<>();
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+
+        for (Direction direction : Direction.values())
+        {
+            cursor.setWithOffset(toRemove.pos(), direction);
+            collectDownstream(getNode(cursor), direction, downstream, detached);
+        }
+        for (int i = 0; i < downstream.size(); i++)
+        {
+            final Node current = downstream.get(i);
+            for (Direction direction : current.connections())
+            {
+                cursor.setWithOffset(current.pos(), direction);
+                collectDownstream(getNode(cursor), direction, downstream, detached);
+            }
+        }
+
+        if (downstream.isEmpty())
+        {
+            return; // Removed a leaf, so nothing else can be affected
+        }
+
+        // Any node adjacent to a detached node, which is itself not detached, is still connected to the source.
+        // Start from those, and BFS into the detached nodes, in the same manner as updateNetwork(), re-attaching them.
+        final Queue<Node> queue = new ArrayDeque<>();
+        final Set<Node> seen = new ReferenceOpenHashSet<>();
+
+        for (Node current : downstream)
+        {
+            for (Direction direction : current.connections())
+            {
+                cursor.setWithOffset(current.pos(), direction);
+
+                final @Nullable Node adjacent = getNode(cursor);
+                if (adjacent != null && // There is a node at this position
+                    !detached.contains(adjacent) && // Which is still connected
+                    adjacent.connections().contains(direction.getOpposite()) && // And connects in the matching direction
+                    seen.add(adjacent) // And we haven't already started from it
+                )
+                {
+                    queue.add(adjacent);
+                }
+            }
+        }
+
+        propagate(queue, detached, cursor);
+
+        // Any nodes that were not reached, are disconnected and are removed from the network
+        for (Node node : detached)
+        {
+            node.remove();
+            nodes.remove(node.posKey());
+        }
+    }
+
     /**
      * Update a network, once a node within it has been updated or removed.
      */
@@ -213,6 +291,22 @@ final class RotationNetwork
         // This leaves the final set as all disconnected nodes, which makes removing them trivial
         visited.addAll(nodes.values());
 
+        propagate(queue, visited, cursor);
+
+        // Any nodes that were not visited, are disconnected and are removed from the network
+        for (Node node : visited)
+        {
+            node.remove();
+            nodes.remove(node.posKey());
+        }
+    }
+
+    /**
+     * BFS outwards from all nodes in {@code queue}, which must be connected to the network, updating the rotation of each node in
+     * {@code unvisited} that is reached, and removing it from {@code unvisited}.
+     */
+    private void propagate(Queue<Node> queue, Set<Node> unvisited, BlockPos.MutableBlockPos cursor)
+    {
         while (!queue.isEmpty())
         {
             final Node current = queue.poll();
@@ -226,7 +320,7 @@ final class RotationNetwork
 
                 if (next != null && // There is a node at this position
                     next.connections().contains(inverseDirection) && // That connects in the matching direction
-                    visited.contains(next) // We haven't already visited this node, and updated its rotation (and source). Prevents cycles
+                    unvisited.contains(next) // We haven't already visited this node, and updated its rotation (and source). Prevents cycles
                 )
                 {
                     // This node connects in the given direction, so we need to (1) mark it as seen, (2) push it to the queue, and (3) update the rotation parameters
@@ -244,16 +338,24 @@ final class RotationNetwork
                     }
 
                     queue.add(next);
-                    visited.remove(next);
+                    unvisited.remove(next);
                 }
             }
         }
+    }
 
-        // Any nodes that were not visited, are disconnected and are removed from the network
-        for (Node node : visited)
+    /**
+     * Adds {@code node} to the downstream nodes, if it is sourced from the adjacent node, in the given {@code direction} (outgoing from the adjacent node).
+     */
+    private void collectDownstream(@Nullable Node node, Direction direction, List<Node> downstream, Set<Node> detached)
+    {
+        if (node != null && // There is a node at this position
+            !isSource(node) && // Which is not the source, which is never downstream of anything
+            node.source() == direction.getOpposite() && // And which is sourced from the adjacent node
+            detached.add(node) // And we haven't already found it
+        )
         {
-            node.remove();
-            nodes.remove(node.posKey());
+            downstream.add(node);
         }
     }
 
@@ -7,9 +7,13 @@
 package net.dries007.tfc.util.rotation;
 
 import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceArrayList;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.world.level.Level;
@@ -35,13 +39,20 @@ public final class RotationNetworkManager implements RotationAccess
     // This is a cache of all nodes in the world. It's probably not the most efficient data structure, but comparable to fetching block entities.
     // We maintain this mainly due to the fact that when nodes initially load on client, they don't exist in the world yet, so we can't do BFS to structure networks.
     private final Long2ObjectMap<Node> nodes;
+    private final Map<NetworkAction, Timing> timings;
     private long nextNetworkId;
 
     public RotationNetworkManager()
     {
         this.networks = new Long2ObjectOpenHashMap<>();
         this.nodes = new Long2ObjectOpenHashMap<>();
+        this.timings = new EnumMap<>(NetworkAction.class);
         this.nextNetworkId = 0;
+
+        for (NetworkAction action : NetworkAction.values())
+        {
+            timings.put(action, new Timing());
+        }
     }
 
     /**
@@ -51,7 +62,8 @@ public final class RotationNetworkManager implements RotationAccess
      */
     public boolean performAction(Node node, NetworkAction action)
     {
-        return switch (action)
+        final long start = System.nanoTime();
+        final boolean result = switch (action)
             {
                 case ADD -> add(node);
                 case ADD_SOURCE -> addSource((SourceNode) node);
@@ -61,6 +73,8 @@ public final class RotationNetworkManager implements RotationAccess
                     yield true;
                 }
             };
+        timings.get(action).record(System.nanoTime() - start);
+        return result;
     }
 
     /**
@@ -110,7 +124,7 @@ public final class RotationNetworkManager implements RotationAccess
     public boolean add(Node toAdd)
     {
         @Nullable RotationNetwork addedNetwork = null;
-        for (RotationNetwork network : networks.values())
+        for (RotationNetwork network : adjacentNetworks(toAdd))
         {
             switch (network.updateOnAdd(toAdd))
             {
@@ -167,7 +181,7 @@ public final class RotationNetworkManager implements RotationAccess
             // If so, this update needs to be reverted and the current block broken, which means removing it from its original network
             final RotationNetwork originNetwork = getNetwork(networkId);
 
-            for (RotationNetwork network : networks.values())
+            for (RotationNetwork network : adjacentNetworks(toUpdate))
             {
                 // Note that the node already belongs to a network, so if this returns true, it is already broken and will not add
                 switch (network.updateOnAdd(toUpdate))
@@ -182,8 +196,7 @@ public final class RotationNetworkManager implements RotationAccess
                         // Cannot be added here if this update connects in incompatible ways to the current network
 
                         // Remove from the original network, and then update any connected nodes
-                        originNetwork.removeNode(toUpdate);
-                        originNetwork.updateNetwork();
+                        originNetwork.removeNodeAndUpdate(toUpdate);
 
                         // Return false, indicating the node was broken and needs to be removed
                         return false;
@@ -228,9 +241,8 @@ public final class RotationNetworkManager implements RotationAccess
                 }
                 else
                 {
-                    // Otherwise, we need to update the network regularly, after removing the specific node
-                    network.removeNode(toRemove);
-                    network.updateNetwork();
+                    // Otherwise, we need to update the part of the network that was downstream of the specific node
+                    network.removeNodeAndUpdate(toRemove);
                 }
             }
         }
@@ -243,6 +255,29 @@ public final class RotationNetworkManager implements RotationAccess
         this.nextNetworkId = 0;
     }
 
+    public int networkCount()
+    {
+        return networks.size();
+    }
+
+    public int nodeCount()
+    {
+        return nodes.size();
+    }
+
+    /**
+     * @return The timing of all calls to {@link #performAction(Node, NetworkAction)} with the given {@code action}, for debugging.
+     */
+    public Timing timing(NetworkAction action)
+    {
+        return timings.get(action);
+    }
+
+    public void resetTimings()
+    {
+        timings.values().forEach(Timing::reset);
+    }
+
     @Nullable
     @Override
     public Node getNode(BlockPos pos)
@@ -260,6 +295,38 @@ public final class RotationNetworkManager implements RotationAccess
             .collect(Collectors.joining("\n"));
     }
 
+    /**
+     * Only networks which own a node adjacent to {@code node}, in one of its connecting directions, can ever return anything other than
+     * {@link NetworkAddAction#FAIL_NO_CONNECTION} from {@link RotationNetwork#updateOnAdd(Node)}, so we resolve those via the node cache,
+     * rather than querying every network in the world.
+     *
+     * @return The distinct networks adjacent to {@code node}. At most one per connection.
+     */
+    private List<RotationNetwork> adjacentNetworks(Node node)
+    {
+        final List<RotationNetwork> adjacentNetworks = new ReferenceArrayList<>(node.connections().size());
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+
+        for (Direction direction : node.connections())
+        {
+            cursor.setWithOffset(node.pos(), direction);
+
+            final @Nullable Node adjacent = getNode(cursor);
+            if (adjacent != null && // There is a node at this location
+                adjacent.network() != Node.NO_NETWORK && // Which belongs to a network
+                adjacent.connections().contains(direction.getOpposite()) // And could connect to this node
+            )
+            {
+                final @Nullable RotationNetwork network = networks.get(adjacent.network());
+                if (network != null && !adjacentNetworks.contains(network))
+                {
+                    adjacentNetworks.add(network);
+                }
+            }
+        }
+        return adjacentNetworks;
+    }
+
     private RotationNetwork getNetwork(long networkId)
     {
         final RotationNetwork network = networks.get(networkId);
@@ -269,4 +336,31 @@ public final class RotationNetworkManager implements RotationAccess
         }
         return network;
     }
+
+    /**
+     * Accumulated wall time of a single kind of {@link NetworkAction}, in nanoseconds.
+     */
+    public static final class Timing
+    {
+        private long count, total, max, last;
+
+        public long count() { return count; }
+        public long totalNanos() { return total; }
+        public long maxNanos() { return max; }
+        public long lastNanos() { return last; }
+        public long averageNanos() { return count == 0 ? 0 : total / count; }
+
+        void record(long nanos)
+        {
+            count++;
+            total += nanos;
+            max = Math.max(max, nanos);
+            last = nanos;
+        }
+
+        void reset()
+        {
+            count = total = max = last = 0;
+        }
+    }
 }
@@ -0,0 +1,149 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.tracker;
+
+import java.util.function.Consumer;
+import java.util.function.LongPredicate;
+import java.util.function.ObjIntConsumer;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+
+/**
+ * A schedule of block positions, each due after a number of ticks. Positions are stored in a timing wheel, with one slot per tick, and are grouped by chunk
+ * within each slot. This means each tick only visits the positions that are due, and positions in unloaded chunks are dropped, once per chunk, without
+ * loading the chunk. Positions are only scheduled in response to a change in a loaded chunk, and are due within a few ticks, so one which is in an
+ * unloaded chunk by then has missed its chance to act, much like a scheduled block tick in a chunk which stops ticking.
+ * <p>
+ * Delays longer than the size of the wheel are supported, but these entries will be visited (and skipped) once per rotation of the wheel.
+ */
+public final class BlockPosSchedule
+{
+    private static final int WHEEL_SIZE = 64;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private final Long2ObjectMap<LongArrayList>[] wheel; // Slot -> Chunk -> Pairs of (position, due tick)
+    private Long2ObjectMap<LongArrayList> spare;
+    private long tick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public BlockPosSchedule()
+    {
+        this.wheel = new Long2ObjectMap[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++)
+        {
+            wheel[i] = new Long2ObjectOpenHashMap<>();
+        }
+        this.spare = new Long2ObjectOpenHashMap<>();
+    }
+
+    /**
+     * Schedules {@code pos} to be visited after {@code delay} calls to {@link #tick}. Delays less than one will be visited on the next tick.
+     */
+    public void schedule(BlockPos pos, int delay)
+    {
+        schedule(pos.asLong(), tick + Math.max(1, delay));
+    }
+
+    /**
+     * Advances this schedule by one tick, and calls {@code action} for each position that is due, and within a loaded chunk. Positions which are due
+     * in an unloaded chunk are dropped. Positions may be scheduled, including from within {@code action}, and they will be visited on a later tick.
+     */
+    public void tick(Level level, Consumer<BlockPos> action)
+    {
+        tick(chunk -> level.hasChunk(ChunkPos.getX(chunk), ChunkPos.getZ(chunk)), action);
+    }
+
+    /**
+     * @param isChunkLoaded A predicate on a chunk position, as a long, if that chunk is loaded.
+     * @see #tick(Level, Consumer)
+     */
+    public void tick(LongPredicate isChunkLoaded, Consumer<BlockPos> action)
+    {
+        tick++;
+
+        final int slot = (int) (tick & WHEEL_MASK);
+        final Long2ObjectMap<LongArrayList> buckets = wheel[slot];
+        if (buckets.isEmpty())
+        {
+            return;
+        }
+
+        // Swap out the slot before visiting, so any positions scheduled by the action are not modifying the slot while it is iterated
+        wheel[slot] = spare;
+        for (Long2ObjectMap.Entry<LongArrayList> entry : Long2ObjectMaps.fastIterable(buckets))
+        {
+            final long chunk = entry.getLongKey();
+            final LongArrayList entries = entry.getValue();
+            final boolean loaded = isChunkLoaded.test(chunk);
+            for (int i = 0; i < entries.size(); i += 2)
+            {
+                final long pos = entries.getLong(i), due = entries.getLong(i + 1);
+                size--;
+                if (due > tick)
+                {
+                    schedule(pos, due); // Not due yet, this is scheduled for a later rotation of the wheel
+                }
+                else if (loaded)
+                {
+                    action.accept(BlockPos.of(pos));
+                }
+            }
+        }
+        buckets.clear();
+        spare = buckets;
+    }
+
+    /**
+     * Visits every scheduled position, along with the remaining number of ticks until it is due.
+     */
+    public void forEach(ObjIntConsumer<BlockPos> action)
+    {
+        for (Long2ObjectMap<LongArrayList> buckets : wheel)
+        {
+            for (LongArrayList entries : buckets.values())
+            {
+                for (int i = 0; i < entries.size(); i += 2)
+                {
+                    action.accept(BlockPos.of(entries.getLong(i)), (int) (entries.getLong(i + 1) - tick));
+                }
+            }
+        }
+    }
+
+    /**
+     * @return The number of scheduled positions.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    public void clear()
+    {
+        for (Long2ObjectMap<LongArrayList> buckets : wheel)
+        {
+            buckets.clear();
+        }
+        size = 0;
+    }
+
+    private void schedule(long pos, long due)
+    {
+        final long chunk = ChunkPos.asLong(SectionPos.blockToSectionCoord(BlockPos.getX(pos)), SectionPos.blockToSectionCoord(BlockPos.getZ(pos)));
+        final LongArrayList entries = wheel[(int) (due & WHEEL_MASK)].computeIfAbsent(chunk, key -> new LongArrayList());
+        entries.add(pos);
+        entries.add(due);
+        size++;
+    }
+}
@@ -6,39 +6,76 @@
 
 package net.dries007.tfc.util.tracker;
 
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
-
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.core.BlockPos;
 
+/**
+ * A collapse in progress. A collapse proceeds in waves: each wave checks a set of positions, and any that collapse mark the position above for the next
+ * wave. Waves may be spread over multiple ticks, as the number of positions checked per tick is limited. Positions are stored packed as longs.
+ */
 public class Collapse
 {
-    BlockPos centerPos;
-    List<BlockPos> nextPositions;
+    final BlockPos centerPos;
+    final LongArrayList positions; // The current wave
+    final LongOpenHashSet nextPositions; // The next wave
+    int cursor; // The index of the next position to check in the current wave
     double radiusSquared;
 
-    public Collapse(BlockPos centerPos, List<BlockPos> nextPositions, double radiusSquared)
+    public Collapse(BlockPos centerPos, List<BlockPos> positions, double radiusSquared)
     {
         this.centerPos = centerPos;
-        this.nextPositions = nextPositions;
+        this.positions = new LongArrayList(positions.size());
+        this.nextPositions = new LongOpenHashSet();
+        this.cursor = 0;
         this.radiusSquared = radiusSquared;
+
+        for (BlockPos pos : positions)
+        {
+            this.positions.add(pos.asLong());
+        }
     }
 
     public Collapse(CompoundTag nbt)
     {
         centerPos = BlockPos.of(nbt.getLong("centerPos"));
-        nextPositions = Arrays.stream(nbt.getLongArray("nextPositions")).mapToObj(BlockPos::of).collect(Collectors.toList());
+        positions = new LongArrayList(nbt.getLongArray("nextPositions"));
+        nextPositions = new LongOpenHashSet(nbt.getLongArray("followingPositions"));
+        cursor = Math.min(nbt.getInt("cursor"), positions.size());
         radiusSquared = nbt.getDouble("radiusSquared");
     }
 
+    /**
+     * @return {@code true} if the current wave has started, but not been completed.
+     */
+    boolean isWaveInProgress()
+    {
+        return cursor > 0;
+    }
+
+    boolean isDone()
+    {
+        return positions.isEmpty();
+    }
+
+    /**
+     * @return All positions remaining in the current wave.
+     */
+    List<BlockPos> remainingPositions()
+    {
+        return positions.subList(cursor, positions.size()).longStream().mapToObj(BlockPos::of).toList();
+    }
+
     public CompoundTag serializeNBT()
     {
         CompoundTag nbt = new CompoundTag();
         nbt.putLong("centerPos", centerPos.asLong());
-        nbt.putLongArray("nextPositions", nextPositions.stream().mapToLong(BlockPos::asLong).toArray());
+        nbt.putLongArray("nextPositions", positions.toLongArray());
+        nbt.putInt("cursor", cursor);
+        nbt.putLongArray("followingPositions", nextPositions.toLongArray());
         nbt.putDouble("radiusSquared", radiusSquared);
         return nbt;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,216 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.tracker;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.LongPredicate;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Holder;
+import net.minecraft.core.SectionPos;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.entity.ai.village.poi.PoiRecord;
+import net.minecraft.world.entity.ai.village.poi.PoiSection;
+import net.minecraft.world.entity.ai.village.poi.PoiType;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+
+import net.dries007.tfc.common.TFCAttachments;
+import net.dries007.tfc.common.TFCPoiTypes;
+import net.dries007.tfc.mixin.accessor.PoiSectionAccessor;
+import net.dries007.tfc.mixin.accessor.SectionStorageAccessor;
+
+/**
+ * A per-chunk index of all snow, ice, and icicle positions (all blocks with the {@link TFCPoiTypes#CLIMATE} point of interest type), which is
+ * used by {@link WeatherHelpers} to count and melt snow without walking the point of interest storage of every section in the chunk.
+ * <p>
+ * The index is saved with the chunk. Chunks without a saved index (i.e. from before this was added, or which were generated with snow) are indexed
+ * once from their point of interest records, on first use. After that, the index is kept up to date by observing every block change in the level,
+ * in the same manner as points of interest are.
+ */
+public final class SnowIndex
+{
+    private static final Holder<PoiType> CLIMATE = BuiltInRegistries.POINT_OF_INTEREST_TYPE.getHolderOrThrow(TFCPoiTypes.CLIMATE.unwrapKey().orElseThrow());
+
+    /**
+     * @return The index for the given chunk, which will be built if it does not exist yet.
+     */
+    public static SnowIndex get(ServerLevel level, ChunkAccess chunk)
+    {
+        final SnowIndex index = chunk.getData(TFCAttachments.SNOW_INDEX);
+        if (!index.initialized)
+        {
+            index.initialize(level, chunk.getPos());
+            chunk.setUnsaved(true);
+        }
+        return index;
+    }
+
+    /**
+     * Called on every block change in a server level.
+     */
+    public static void onBlockStateChange(ServerLevel level, BlockPos pos, BlockState oldState, BlockState newState)
+    {
+        final boolean wasIndexed = isIndexed(oldState), isIndexed = isIndexed(newState);
+        if (wasIndexed != isIndexed)
+        {
+            final ChunkAccess chunk = level.getChunk(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
+            final SnowIndex index = chunk.getData(TFCAttachments.SNOW_INDEX);
+            if (index.initialized) // Otherwise, this will be picked up from points of interest when the index is built
+            {
+                if (isIndexed)
+                {
+                    index.add(pos.asLong());
+                }
+                else
+                {
+                    index.remove(pos.asLong());
+                }
+            }
+        }
+    }
+
+    public static boolean isIndexed(BlockState state)
+    {
+        return CLIMATE.value().is(state);
+    }
+
+    /**
+     * The indexed positions, in no particular order, and the index of each position in that list. This allows both constant time removal, and
+     * sampling random positions without copying the whole index.
+     */
+    private final LongArrayList positions;
+    private final Long2IntOpenHashMap indices;
+    private boolean initialized;
+
+    public SnowIndex()
+    {
+        this.positions = new LongArrayList();
+        this.indices = new Long2IntOpenHashMap();
+        this.indices.defaultReturnValue(-1);
+        this.initialized = false;
+    }
+
+    public int size()
+    {
+        return positions.size();
+    }
+
+    /**
+     * @param isValid A check if a position should still be indexed. Any sampled positions which fail this check are removed from the index, and
+     *                are not counted towards {@code amount}. This catches any positions which were missed when observing block changes.
+     * @return Up to {@code amount} unique, valid positions from this index, chosen at random. This is a copy, so the index may be modified while
+     * iterating it.
+     */
+    public LongArrayList sample(int amount, RandomSource random, LongPredicate isValid)
+    {
+        // Partial Fisher-Yates shuffle of the index itself, only of the first `amount` elements, which are then copied out
+        int count = 0;
+        while (count < amount && count < positions.size())
+        {
+            swap(count, count + random.nextInt(positions.size() - count));
+            final long pos = positions.getLong(count);
+            if (isValid.test(pos))
+            {
+                count++;
+            }
+            else
+            {
+                remove(pos);
+            }
+        }
+        return new LongArrayList(positions.elements(), 0, count);
+    }
+
+    public CompoundTag serializeNBT()
+    {
+        final CompoundTag nbt = new CompoundTag();
+        if (initialized)
+        {
+            nbt.putLongArray("positions", positions.toLongArray());
+        }
+        return nbt;
+    }
+
+    public void deserializeNBT(CompoundTag nbt)
+    {
+        positions.clear();
+        indices.clear();
+        initialized = nbt.contains("positions");
+        if (initialized)
+        {
+            for (long pos : nbt.getLongArray("positions"))
+            {
+                add(pos);
+            }
+        }
+    }
+
+    private void initialize(ServerLevel level, ChunkPos chunkPos)
+    {
+        // PoiManager doesn't have the methods we need, and they look pretty slow. We just need all points of interest in this chunk, and we
+        // don't really care about section. So this is likely more efficient.
+        @SuppressWarnings("unchecked") final SectionStorageAccessor<PoiSection> poi = (SectionStorageAccessor<PoiSection>) level.getPoiManager();
+
+        positions.clear();
+        indices.clear();
+        for (int sectionY = level.getMinSection(); sectionY < level.getMaxSection(); sectionY++)
+        {
+            final Optional<PoiSection> section = poi.invoke$getOrLoad(SectionPos.asLong(chunkPos.x, sectionY, chunkPos.z));
+            if (section.isPresent())
+            {
+                final Set<PoiRecord> records = ((PoiSectionAccessor) section.get()).accessor$byType().get(CLIMATE);
+                if (records != null)
+                {
+                    for (PoiRecord record : records)
+                    {
+                        add(record.getPos().asLong());
+                    }
+                }
+            }
+        }
+        initialized = true;
+    }
+
+    private void add(long pos)
+    {
+        if (indices.putIfAbsent(pos, positions.size()) == -1)
+        {
+            positions.add(pos);
+        }
+    }
+
+    private void remove(long pos)
+    {
+        final int index = indices.remove(pos);
+        if (index != -1)
+        {
+            // Move the last position into the removed one's place
+            final long last = positions.popLong();
+            if (index < positions.size())
+            {
+                positions.set(index, last);
+                indices.put(last, index);
+            }
+        }
+    }
+
+    private void swap(int first, int second)
+    {
+        final long firstPos = positions.getLong(first), secondPos = positions.getLong(second);
+        positions.set(first, secondPos);
+        positions.set(second, firstPos);
+        indices.put(firstPos, second);
+        indices.put(secondPos, first);
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.tracker;
+
+import it.unimi.dsi.fastutil.longs.Long2LongLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.LevelChunk;
+
+import net.dries007.tfc.config.TFCConfig;
+import net.dries007.tfc.util.calendar.Calendars;
+import net.dries007.tfc.util.climate.ClimateModel;
+
+/**
+ * Schedules weather catch-up for chunks which have not been ticked in a while, see {@link WeatherHelpers#onTickChunk}. When many chunks are loaded
+ * at once (i.e. a player flying into a new area), they all need to catch up in the same few ticks, so rather than doing so immediately, chunks are
+ * queued here, and processed in order, with a limited number of snow updates per tick.
+ * <p>
+ * All chunks processed in the same tick share a single {@link Timeline} of hourly rain and temperature samples. Temperature is sampled once per
+ * region of 4x4 chunks, and each chunk applies a constant offset to the region's samples, based on the difference in current temperature.
+ */
+public final class WeatherCatchUp
+{
+    /** The number of hourly samples simulated for a chunk, which is the maximum amount of time a chunk will catch up. */
+    static final int HOURS = 48;
+
+    private static final int REGION_SHIFT = 2;
+
+    private final Long2LongLinkedOpenHashMap queue = new Long2LongLinkedOpenHashMap(); // Chunk -> time since last tick
+
+    /**
+     * Queue a chunk for catch-up. If the chunk is already queued, it keeps its position in the queue.
+     */
+    public void schedule(ChunkPos pos, long timeSinceTick)
+    {
+        queue.put(pos.toLong(), timeSinceTick);
+    }
+
+    public int size()
+    {
+        return queue.size();
+    }
+
+    public void tick(ServerLevel level, ClimateModel model)
+    {
+        if (queue.isEmpty())
+        {
+            return;
+        }
+
+        final Timeline timeline = new Timeline(level, model);
+        int budget = TFCConfig.SERVER.snowCatchUpUpdatesPerTick.get();
+        while (budget > 0 && !queue.isEmpty())
+        {
+            final long key = queue.firstLongKey();
+            final long timeSinceTick = queue.removeFirstLong();
+            final LevelChunk chunk = level.getChunkSource().getChunkNow(ChunkPos.getX(key), ChunkPos.getZ(key));
+            if (chunk != null) // If the chunk was unloaded, it will be scheduled again when it is next ticked
+            {
+                budget -= Math.max(1, WeatherHelpers.catchUpChunk(level, chunk, model, timeSinceTick, timeline));
+            }
+        }
+    }
+
+    /**
+     * The rain and temperature at each hour before the current tick, shared between all chunks processed in a single tick.
+     */
+    static final class Timeline
+    {
+        private final ServerLevel level;
+        private final ClimateModel model;
+        private final long currentCalendarTick;
+        private final int daysInMonth;
+        private final float[] rain;
+        private final Long2ObjectMap<float[]> regionTemperatures;
+
+        Timeline(ServerLevel level, ClimateModel model)
+        {
+            this.level = level;
+            this.model = model;
+            this.currentCalendarTick = Calendars.SERVER.getCalendarTicks();
+            this.daysInMonth = Calendars.SERVER.getCalendarDaysInMonth();
+            this.rain = new float[HOURS];
+            this.regionTemperatures = new Long2ObjectOpenHashMap<>();
+
+            for (int hour = 0; hour < HOURS; hour++)
+            {
+                rain[hour] = model.getRain(calendarTick(hour));
+            }
+        }
+
+        /**
+         * @param hour The number of hours before the current tick.
+         */
+        long calendarTick(int hour)
+        {
+            return currentCalendarTick - 1_000L * hour;
+        }
+
+        float rain(int hour)
+        {
+            return rain[hour];
+        }
+
+        /**
+         * @return The temperatures at each hour before the current tick, at the given position, approximated from the region containing it.
+         */
+        float[] temperatures(BlockPos surfacePos)
+        {
+            final ChunkPos chunkPos = new ChunkPos(surfacePos);
+            final long regionKey = ChunkPos.asLong(chunkPos.x >> REGION_SHIFT, chunkPos.z >> REGION_SHIFT);
+
+            float[] region = regionTemperatures.get(regionKey);
+            if (region == null)
+            {
+                // Sample the region at the first position requested
+                region = new float[HOURS];
+                for (int hour = 0; hour < HOURS; hour++)
+                {
+                    region[hour] = model.getTemperature(level, surfacePos, calendarTick(hour), daysInMonth);
+                }
+                regionTemperatures.put(regionKey, region);
+            }
+
+            final float offset = model.getTemperature(level, surfacePos, currentCalendarTick, daysInMonth) - region[0];
+            final float[] temperatures = new float[HOURS];
+            for (int hour = 0; hour < HOURS; hour++)
+            {
+                temperatures[hour] = region[hour] + offset;
+            }
+            return temperatures;
+        }
+    }
+}
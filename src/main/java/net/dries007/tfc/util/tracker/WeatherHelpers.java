@@ -6,22 +6,13 @@
 
 package net.dries007.tfc.util.tracker;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
-import java.util.Set;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
-import net.minecraft.core.Holder;
-import net.minecraft.core.SectionPos;
-import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.network.protocol.game.ClientboundGameEventPacket;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.tags.BlockTags;
 import net.minecraft.util.Mth;
-import net.minecraft.world.entity.ai.village.poi.PoiRecord;
-import net.minecraft.world.entity.ai.village.poi.PoiSection;
-import net.minecraft.world.entity.ai.village.poi.PoiType;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.biome.Biome;
@@ -29,11 +20,11 @@ import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.level.levelgen.Heightmap;
 import net.minecraft.world.level.material.Fluids;
 import org.jetbrains.annotations.Nullable;
 
-import net.dries007.tfc.common.TFCPoiTypes;
 import net.dries007.tfc.common.TFCTags;
 import net.dries007.tfc.common.blocks.IcePileBlock;
 import net.dries007.tfc.common.blocks.IcicleBlock;
@@ -41,8 +32,6 @@ import net.dries007.tfc.common.blocks.SnowPileBlock;
 import net.dries007.tfc.common.blocks.TFCBlocks;
 import net.dries007.tfc.common.blocks.ThinSpikeBlock;
 import net.dries007.tfc.common.blocks.plant.KrummholzBlock;
-import net.dries007.tfc.mixin.accessor.PoiSectionAccessor;
-import net.dries007.tfc.mixin.accessor.SectionStorageAccessor;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.calendar.Calendars;
 import net.dries007.tfc.util.climate.ClimateModel;
@@ -53,8 +42,6 @@ import net.dries007.tfc.world.chunkdata.ChunkData;
  */
 public final class WeatherHelpers
 {
-    private static final Holder<PoiType> CLIMATE = BuiltInRegistries.POINT_OF_INTEREST_TYPE.getHolderOrThrow(TFCPoiTypes.CLIMATE.unwrapKey().orElseThrow());
-
     // The number of ticks per a single snow accumulation/melt event in a single chunk. For reference, vanilla operates at
     // (48 / randomTickSpeed), or 16 ticks. We do melting much slower, since it's statistically much less likely to be raining
     private static final int TICKS_PER_SNOW_ACCUMULATION = 80;
@@ -189,9 +176,10 @@ public final class WeatherHelpers
      *     <li>Over longer times, we do a less accurate simulation of the weather, which tries to extrapolate how much the chunk should
      *     be melted, or covered in snow. This then does the same "catch-up", but with a specific end-goal in mind.</li>
      * </ul>
+     * Catch-up is scheduled via {@link WeatherCatchUp}, which batches chunks that load at the same time, and spreads their updates over multiple ticks.
      *
      * <h3>Snow Accumulation and Melting</h3>
-     * We use the POI system for snow, in order to have an accurate and fast count of the amount of snow (or ice or icicles) in a chunk, and
+     * We use a per-chunk {@link SnowIndex} for snow, in order to have an accurate and fast count of the amount of snow (or ice or icicles) in a chunk, and
      * we do a very basic counting of previous ticks, how many times we should have been raining (accumulating snow), or positive temperature
      * (melting). Note that we do melting much slower than we do accumulation, which affects how we simulate.
      */
@@ -215,55 +203,24 @@ public final class WeatherHelpers
         final long timeSinceTick = currentTick - data.getLastRandomTick();
 
         final ChunkPos chunkPos = chunk.getPos();
-        final BlockPos surfacePos = getRandomSurfacePos(level, chunkPos);
-        final float rainfall = model.getRainfall(level, surfacePos);
-
         if (timeSinceTick > 1_000)
         {
             // We have not ticked this chunk in a short while, so run catch-up ticks to see if we missed anything
-            // First, we need to check for what we might've missed
-            final int daysInMonth = Calendars.SERVER.getCalendarDaysInMonth();
-
-            long calendarTick = currentCalendarTick - Math.min(48_000, timeSinceTick);
-            int netChangeInSnow = 0; // >0 indicates melting, <0 indicates freezing
-
-            while (calendarTick < currentCalendarTick)
-            {
-                calendarTick += 1_000;
-                final float estimatedTemperature = model.getTemperature(level, surfacePos, calendarTick, daysInMonth);
-                if (estimatedTemperature > 2f)
-                {
-                    netChangeInSnow = Math.max(netChangeInSnow - UPDATES_PER_SNOW_MELT_HOUR, -MAX_UPDATES_PER_TICK);
-                }
-                else if (estimatedTemperature < -2f && isPrecipitating(model.getRain(calendarTick), rainfall))
-                {
-                    netChangeInSnow = Math.min(netChangeInSnow + UPDATES_PER_SNOW_ACCUMULATION_HOUR, MAX_UPDATES_PER_TICK);
-                }
-            }
-
-            if (netChangeInSnow > 0)
-            {
-                // First, if we're performing a large number of updates, we want to first count the amount of snow in the chunk,
-                // and only do updates if it's between a threshold
-                netChangeInSnow = Math.min(64 - countExistingSnowInChunk(level, chunkPos), netChangeInSnow);
-                for (int i = 0; i < netChangeInSnow; i++)
-                {
-                    handleSnowAccumulation(level, getRandomSurfacePos(level, chunkPos));
-                }
-            }
-            else if (netChangeInSnow < 0)
-            {
-                handleSnowMelting(level, chunkPos, -netChangeInSnow);
-            }
+            // This is batched with other chunks that need to catch up, and will update the last random tick once done
+            tracker.getWeatherCatchUp().schedule(chunkPos, timeSinceTick);
+            return;
         }
-        else if (level.random.nextInt(TICKS_PER_SNOW_ACCUMULATION) == 0)
+
+        final BlockPos surfacePos = getRandomSurfacePos(level, chunkPos);
+        final float rainfall = model.getRainfall(level, surfacePos);
+        if (level.random.nextInt(TICKS_PER_SNOW_ACCUMULATION) == 0)
         {
             // Trigger either snow melting, or accumulation event
             final float realTemperature = model.getTemperature(level, surfacePos);
             if (realTemperature > 2f && level.random.nextInt(TICKS_PER_SNOW_MELT_PER_SNOW_ACCUMULATION) == 0)
             {
                 // Trigger melting
-                handleSnowMelting(level, chunkPos, 1);
+                handleSnowMelting(level, chunk, 1);
             }
             else if (realTemperature < -2f && isPrecipitating(model.getRain(currentCalendarTick), rainfall))
             {
@@ -275,87 +232,73 @@ public final class WeatherHelpers
         data.setLastRandomTick(chunk, currentTick);
     }
 
-    private static BlockPos getRandomSurfacePos(ServerLevel level, ChunkPos chunkPos)
+    /**
+     * Runs catch-up for a chunk which has not been ticked in {@code timeSinceTick} ticks, using the shared timeline of weather in the last hours.
+     * Called by {@link WeatherCatchUp}.
+     *
+     * @return The number of snow accumulation or melting updates done.
+     */
+    static int catchUpChunk(ServerLevel level, LevelChunk chunk, ClimateModel model, long timeSinceTick, WeatherCatchUp.Timeline timeline)
     {
-        final BlockPos randomPos = level.getBlockRandomPos(chunkPos.getMinBlockX(), 0, chunkPos.getMinBlockZ(), 15);
-        return level.getHeightmapPos(Heightmap.Types.MOTION_BLOCKING, randomPos);
-    }
+        final ChunkPos chunkPos = chunk.getPos();
+        final BlockPos surfacePos = getRandomSurfacePos(level, chunkPos);
+        final float rainfall = model.getRainfall(level, surfacePos);
+        final float[] temperatures = timeline.temperatures(surfacePos);
 
-    private static int countExistingSnowInChunk(ServerLevel level, ChunkPos chunkPos)
-    {
-        int total = 0;
+        // First, we need to check for what we might've missed, from the oldest hour to the current one
+        final int hours = (int) Math.min(WeatherCatchUp.HOURS, Math.ceilDiv(timeSinceTick, 1_000));
+        int netChangeInSnow = 0; // >0 indicates melting, <0 indicates freezing
 
-        final SectionStorageAccessor<PoiSection> poi = getPoiManager(level);
-        for (int sectionY = level.getMaxSection() - 1; sectionY >= level.getMinSection(); sectionY--)
+        for (int hour = hours - 1; hour >= 0; hour--)
         {
-            final Set<PoiRecord> objects = getPoiRecords(poi, chunkPos, sectionY);
-            if (objects != null)
+            final float estimatedTemperature = temperatures[hour];
+            if (estimatedTemperature > 2f)
+            {
+                netChangeInSnow = Math.max(netChangeInSnow - UPDATES_PER_SNOW_MELT_HOUR, -MAX_UPDATES_PER_TICK);
+            }
+            else if (estimatedTemperature < -2f && isPrecipitating(timeline.rain(hour), rainfall))
             {
-                total += objects.size();
+                netChangeInSnow = Math.min(netChangeInSnow + UPDATES_PER_SNOW_ACCUMULATION_HOUR, MAX_UPDATES_PER_TICK);
             }
         }
-        return total;
-    }
 
-    /**
-     * Snow melting, including ice and icicles, is done randomly per POI chunk section. It can do up to {@code amount} removals,
-     * which simulates snow melting at a consistent rate (snow/tick), rather than random ticks which would be poportional to
-     * the amount of snow in the chunk.
-     */
-    private static void handleSnowMelting(ServerLevel level, ChunkPos chunkPos, int amount)
-    {
-        // PoiManager doesn't have the methods we need, and they look pretty slow. We just need a randomly sampled poi from this chunk, and we
-        // don't really care about section. So this is likely more efficient.
-        final SectionStorageAccessor<PoiSection> poi = getPoiManager(level);
-        for (int sectionY = level.getMinSection(); sectionY < level.getMaxSection(); sectionY++)
+        if (netChangeInSnow > 0)
         {
-            final Set<PoiRecord> entries = getPoiRecords(poi, chunkPos, sectionY);
-            if (entries != null && !entries.isEmpty())
+            // First, if we're performing a large number of updates, we want to first count the amount of snow in the chunk,
+            // and only do updates if it's between a threshold
+            netChangeInSnow = Math.min(64 - SnowIndex.get(level, chunk).size(), netChangeInSnow);
+            for (int i = 0; i < netChangeInSnow; i++)
             {
-                // Handle two cases:
-                // - removing all (amount >= entries.size())
-                // - removing some (amount < entries.size())
-                final List<PoiRecord> copyOfEntries = new ArrayList<>(entries); // Must be a mutable view, since we swap to random sample later
-                if (amount >= copyOfEntries.size())
-                {
-                    for (PoiRecord entry : copyOfEntries)
-                    {
-                        removeSnowAt(level, entry.getPos());
-                    }
-                    amount -= copyOfEntries.size();
-                }
-                else
-                {
-                    final List<PoiRecord> sampleOfEntries = Helpers.uniqueRandomSample(copyOfEntries, amount, level.random);
-                    for (PoiRecord entry : sampleOfEntries)
-                    {
-                        removeSnowAt(level, entry.getPos());
-                    }
-                    amount -= sampleOfEntries.size();
-                }
-
-                if (amount <= 0)
-                {
-                    return;
-                }
+                handleSnowAccumulation(level, getRandomSurfacePos(level, chunkPos));
             }
         }
+        else if (netChangeInSnow < 0)
+        {
+            handleSnowMelting(level, chunk, -netChangeInSnow);
+        }
+
+        ChunkData.get(chunk).setLastRandomTick(chunk, Calendars.SERVER.getTicks());
+        return Math.abs(netChangeInSnow);
     }
 
-    @SuppressWarnings("unchecked")
-    private static SectionStorageAccessor<PoiSection> getPoiManager(ServerLevel level)
+    private static BlockPos getRandomSurfacePos(ServerLevel level, ChunkPos chunkPos)
     {
-        return (SectionStorageAccessor<PoiSection>) level.getPoiManager();
+        final BlockPos randomPos = level.getBlockRandomPos(chunkPos.getMinBlockX(), 0, chunkPos.getMinBlockZ(), 15);
+        return level.getHeightmapPos(Heightmap.Types.MOTION_BLOCKING, randomPos);
     }
 
-    @Nullable
-    private static Set<PoiRecord> getPoiRecords(SectionStorageAccessor<PoiSection> poi, ChunkPos chunkPos, int sectionY)
+    /**
+     * Snow melting, including ice and icicles, is done by randomly sampling the known snow positions in the chunk. It can do up to {@code amount}
+     * removals, which simulates snow melting at a consistent rate (snow/tick), rather than random ticks which would be proportional to the amount
+     * of snow in the chunk.
+     */
+    private static void handleSnowMelting(ServerLevel level, ChunkAccess chunk, int amount)
     {
-        final long sectionKey = SectionPos.asLong(chunkPos.x, sectionY, chunkPos.z);
-        final Optional<PoiSection> section = poi.invoke$getOrLoad(sectionKey);
-        return section.isPresent()
-            ? ((PoiSectionAccessor) section.get()).accessor$byType().get(CLIMATE)
-            : null;
+        final LongArrayList positions = SnowIndex.get(level, chunk).sample(amount, level.random, pos -> SnowIndex.isIndexed(chunk.getBlockState(BlockPos.of(pos))));
+        for (int i = 0; i < positions.size(); i++)
+        {
+            removeSnowAt(level, BlockPos.of(positions.getLong(i)));
+        }
     }
 
     private static void handleSnowAccumulation(ServerLevel level, BlockPos surfacePos)
@@ -7,13 +7,11 @@
 package net.dries007.tfc.util.tracker;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
-import java.util.Set;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
@@ -36,7 +34,6 @@ import org.jetbrains.annotations.Nullable;
 
 import net.dries007.tfc.client.TFCSounds;
 import net.dries007.tfc.common.TFCAttachments;
-import net.dries007.tfc.common.TFCTags;
 import net.dries007.tfc.common.entities.misc.TFCFallingBlockEntity;
 import net.dries007.tfc.common.recipes.CollapseRecipe;
 import net.dries007.tfc.common.recipes.LandslideRecipe;
@@ -46,7 +43,8 @@ import net.dries007.tfc.util.calendar.Calendars;
 import net.dries007.tfc.util.climate.BiomeBasedClimateModel;
 import net.dries007.tfc.util.climate.Climate;
 import net.dries007.tfc.util.climate.ClimateModel;
-import net.dries007.tfc.util.collections.BufferedList;
+import net.dries007.tfc.util.climate.ClimateSampleCache;
+import net.dries007.tfc.util.data.BlockStateFlags;
 import net.dries007.tfc.util.events.CollapseEvent;
 import net.dries007.tfc.util.loot.TFCLoot;
 import net.dries007.tfc.util.rotation.RotationNetworkManager;
@@ -68,11 +66,14 @@ public final class WorldTracker
     private final Level level;
     private final RandomSource random;
 
-    private final BufferedList<TickEntry> landslideTicks = new BufferedList<>();
-    private final BufferedList<BlockPos> isolatedPositions = new BufferedList<>();
+    private final BlockPosSchedule landslideTicks = new BlockPosSchedule();
+    private final BlockPosSchedule isolatedPositions = new BlockPosSchedule();
     private final List<Collapse> collapsesInProgress = new ArrayList<>();
+    private int collapseTurn; // The collapse which is ticked first, rotated each tick
 
     private final RotationNetworkManager rotationManager = new RotationNetworkManager();
+    private final ClimateSampleCache climateSamples;
+    private final WeatherCatchUp weatherCatchUp = new WeatherCatchUp();
 
     private ClimateModel climateModel = BiomeBasedClimateModel.INSTANCE;
     private boolean weatherEnabled = true;
@@ -81,22 +82,23 @@ public final class WorldTracker
     {
         this.level = level;
         this.random = new XoroshiroRandomSource(RandomSupport.generateUniqueSeed());
+        this.climateSamples = new ClimateSampleCache(level);
     }
 
     public void addLandslidePos(BlockPos pos)
     {
-        landslideTicks.add(new TickEntry(pos, 2));
+        landslideTicks.schedule(pos, 2);
     }
 
     public void addIsolatedPos(BlockPos pos)
     {
-        isolatedPositions.add(pos);
+        isolatedPositions.schedule(pos, 1);
     }
 
     public void addCollapseData(Collapse collapse)
     {
         collapsesInProgress.add(collapse);
-        NeoForge.EVENT_BUS.post(new CollapseEvent(level, collapse.centerPos, collapse.nextPositions, collapse.radiusSquared, false));
+        NeoForge.EVENT_BUS.post(new CollapseEvent(level, collapse.centerPos, collapse.remainingPositions(), collapse.radiusSquared, false));
     }
 
     public void setClimateModel(ClimateModel climateModel)
@@ -143,85 +145,150 @@ public final class WorldTracker
         return rotationManager;
     }
 
+    public ClimateSampleCache getClimateSamples()
+    {
+        return climateSamples;
+    }
+
+    public WeatherCatchUp getWeatherCatchUp()
+    {
+        return weatherCatchUp;
+    }
+
+    /**
+     * @return The number of positions waiting to be checked for landslides.
+     */
+    public int getLandslideQueueSize()
+    {
+        return landslideTicks.size();
+    }
+
+    /**
+     * @return The number of positions waiting to be checked for being isolated.
+     */
+    public int getIsolatedQueueSize()
+    {
+        return isolatedPositions.size();
+    }
+
     /**
      * Must only be called from logical server!
      */
     public void tick()
     {
-        if (!collapsesInProgress.isEmpty() && random.nextInt(10) == 0)
+        if (!collapsesInProgress.isEmpty())
         {
-            for (Collapse collapse : collapsesInProgress)
+            // New waves of a collapse only start on random ticks, but once started, continue each tick until the budget is used
+            final boolean startWaves = random.nextInt(10) == 0;
+            final List<Collapse> active = new ArrayList<>();
+            final int size = collapsesInProgress.size();
+            for (int i = 0; i < size; i++)
             {
-                final Set<BlockPos> updatedPositions = new HashSet<>();
-                for (BlockPos posAt : collapse.nextPositions)
+                final Collapse collapse = collapsesInProgress.get(Math.floorMod(collapseTurn + i, size));
+                if (startWaves || collapse.isWaveInProgress())
                 {
-                    // Check the current position for collapsing
-                    final BlockState stateAt = level.getBlockState(posAt);
-                    if (CollapseRecipe.canCollapse(stateAt) &&
-                        TFCFallingBlockEntity.canFallInDirection(level, posAt, Direction.DOWN) &&
-                        posAt.distSqr(collapse.centerPos) < collapse.radiusSquared &&
-                        random.nextFloat() < TFCConfig.SERVER.collapsePropagateChance.get())
-                    {
-                        if (CollapseRecipe.collapseBlock(level, posAt, stateAt))
-                        {
-                            // This column has started to collapse. Mark the next block above as unstable for the "follow up"
-                            updatedPositions.add(posAt.above());
-                        }
-                    }
+                    active.add(collapse);
                 }
-                collapse.nextPositions.clear();
-                if (!updatedPositions.isEmpty())
+            }
+            collapseTurn++;
+
+            // Share the budget evenly between active collapses, so a large collapse does not stall all others. Any budget left by collapses
+            // which complete their wave is shared between the rest, until either the budget is used, or no waves are in progress.
+            int budget = TFCConfig.SERVER.collapsePositionsPerTick.get();
+            while (budget > 0 && !active.isEmpty())
+            {
+                final int share = Math.max(1, budget / active.size());
+                final Iterator<Collapse> iterator = active.iterator();
+                while (iterator.hasNext() && budget > 0)
                 {
-                    level.playSound(null, collapse.centerPos, TFCSounds.ROCK_SLIDE_SHORT.get(), SoundSource.BLOCKS, 0.6f, 1.0f);
-                    collapse.nextPositions.addAll(updatedPositions);
-                    collapse.radiusSquared *= 0.8; // lower radius each successive time
+                    final Collapse collapse = iterator.next();
+                    final int given = Math.min(share, budget);
+                    budget -= given - tickCollapse(collapse, given);
+                    if (!collapse.isWaveInProgress())
+                    {
+                        iterator.remove();
+                    }
                 }
             }
-            collapsesInProgress.removeIf(collapse -> collapse.nextPositions.isEmpty());
+            collapsesInProgress.removeIf(Collapse::isDone);
         }
 
-        landslideTicks.flush();
-        Iterator<TickEntry> tickIterator = landslideTicks.listIterator();
-        while (tickIterator.hasNext())
+        if (weatherEnabled)
         {
-            TickEntry entry = tickIterator.next();
-            if (entry.tick())
+            weatherCatchUp.tick((ServerLevel) level, climateModel);
+        }
+        landslideTicks.tick(level, pos -> LandslideRecipe.tryLandslide(level, pos, level.getBlockState(pos)));
+        isolatedPositions.tick(level, pos -> {
+            final BlockState currentState = level.getBlockState(pos);
+            if (BlockStateFlags.is(currentState, BlockStateFlags.BREAKS_WHEN_ISOLATED) && isIsolated(level, pos))
+            {
+                Helpers.destroyBlockAndDropBlocksManually((ServerLevel) level, pos, ctx -> ctx.withParameter(TFCLoot.ISOLATED, true));
+            }
+        });
+    }
+
+    /**
+     * Checks positions in the current wave of a collapse, until either the wave is complete, or the budget is used.
+     *
+     * @return The remaining budget
+     */
+    private int tickCollapse(Collapse collapse, int budget)
+    {
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        final float propagateChance = TFCConfig.SERVER.collapsePropagateChance.get().floatValue();
+        while (collapse.cursor < collapse.positions.size() && budget > 0)
+        {
+            // Check the current position for collapsing
+            final BlockPos posAt = cursor.set(collapse.positions.getLong(collapse.cursor));
+            final BlockState stateAt = level.getBlockState(posAt);
+
+            collapse.cursor++;
+            budget--;
+
+            if (CollapseRecipe.canCollapse(stateAt) &&
+                TFCFallingBlockEntity.canFallInDirection(level, posAt, Direction.DOWN) &&
+                posAt.distSqr(collapse.centerPos) < collapse.radiusSquared &&
+                random.nextFloat() < propagateChance)
             {
-                final BlockState currentState = level.getBlockState(entry.getPos());
-                LandslideRecipe.tryLandslide(level, entry.getPos(), currentState);
-                tickIterator.remove();
+                if (CollapseRecipe.collapseBlock(level, posAt.immutable(), stateAt))
+                {
+                    // This column has started to collapse. Mark the next block above as unstable for the "follow up"
+                    collapse.nextPositions.add(BlockPos.offset(posAt.asLong(), Direction.UP));
+                }
             }
         }
 
-        isolatedPositions.flush();
-        Iterator<BlockPos> isolatedIterator = isolatedPositions.listIterator();
-        while (isolatedIterator.hasNext())
+        if (collapse.cursor >= collapse.positions.size())
         {
-            final BlockPos pos = isolatedIterator.next();
-            final BlockState currentState = level.getBlockState(pos);
-            if (Helpers.isBlock(currentState.getBlock(), TFCTags.Blocks.BREAKS_WHEN_ISOLATED) && isIsolated(level, pos))
+            // This wave is complete, so prepare the next one
+            collapse.positions.clear();
+            collapse.cursor = 0;
+            if (!collapse.nextPositions.isEmpty())
             {
-                Helpers.destroyBlockAndDropBlocksManually((ServerLevel) level, pos, ctx -> ctx.withParameter(TFCLoot.ISOLATED, true));
+                level.playSound(null, collapse.centerPos, TFCSounds.ROCK_SLIDE_SHORT.get(), SoundSource.BLOCKS, 0.6f, 1.0f);
+                collapse.positions.addAll(collapse.nextPositions);
+                collapse.nextPositions.clear();
+                collapse.radiusSquared *= 0.8; // lower radius each successive time
             }
-            isolatedIterator.remove();
         }
+        return budget;
     }
 
     public CompoundTag serializeNBT()
     {
-        landslideTicks.flush();
-        isolatedPositions.flush();
-
         CompoundTag nbt = new CompoundTag();
         ListTag landslideNbt = new ListTag();
-        for (TickEntry entry : landslideTicks)
-        {
-            landslideNbt.add(entry.serializeNBT());
-        }
+        landslideTicks.forEach((pos, ticks) -> {
+            final CompoundTag entryNbt = new CompoundTag();
+            entryNbt.putLong("pos", pos.asLong());
+            entryNbt.putInt("ticks", ticks);
+            landslideNbt.add(entryNbt);
+        });
         nbt.put("landslideTicks", landslideNbt);
 
-        LongArrayTag isolatedNbt = new LongArrayTag(isolatedPositions.stream().mapToLong(BlockPos::asLong).toArray());
-        nbt.put("isolatedPositions", isolatedNbt);
+        final LongArrayList isolatedNbt = new LongArrayList(isolatedPositions.size());
+        isolatedPositions.forEach((pos, ticks) -> isolatedNbt.add(pos.asLong()));
+        nbt.put("isolatedPositions", new LongArrayTag(isolatedNbt.toLongArray()));
 
         ListTag collapseNbt = new ListTag();
         for (Collapse collapse : collapsesInProgress)
@@ -246,11 +313,14 @@ public final class WorldTracker
             ListTag landslideNbt = nbt.getList("landslideTicks", Tag.TAG_COMPOUND);
             for (int i = 0; i < landslideNbt.size(); i++)
             {
-                landslideTicks.add(new TickEntry(landslideNbt.getCompound(i)));
+                final CompoundTag entryNbt = landslideNbt.getCompound(i);
+                landslideTicks.schedule(BlockPos.of(entryNbt.getLong("pos")), entryNbt.getInt("ticks"));
             }
 
-            long[] isolatedNbt = nbt.getLongArray("isolatedPositions");
-            Arrays.stream(isolatedNbt).mapToObj(BlockPos::of).forEach(isolatedPositions::add);
+            for (long pos : nbt.getLongArray("isolatedPositions"))
+            {
+                isolatedPositions.schedule(BlockPos.of(pos), 1);
+            }
 
             ListTag collapseNbt = nbt.getList("collapsesInProgress", Tag.TAG_COMPOUND);
             for (int i = 0; i < collapseNbt.size(); i++)
@@ -29,10 +29,44 @@ public interface BiomeNoiseSampler
         {
             private float height;
 
+            // When preparing a chunk, heights in that chunk are sampled in batches, one 4x4 block of columns at a time, on first use
+            // Biome weights are blended at quart resolution, so a sampler is typically used by most columns in any block where it is used at all
+            private int chunkMinX, chunkMinZ;
+            @Nullable private double[] chunkHeight; // Indexed by block, then by column within that block
+            private int filledBlocks; // Bitmask of the blocks that have been sampled
+            private final double[] blockHeight = new double[4 * 4];
+
+            @Override
+            public void prepare(ChunkGeneratorExtension generator, @Nullable ChunkAccess chunk)
+            {
+                if (chunk != null)
+                {
+                    chunkMinX = chunk.getPos().getMinBlockX();
+                    chunkMinZ = chunk.getPos().getMinBlockZ();
+                    chunkHeight = new double[16 * 16];
+                    filledBlocks = 0;
+                }
+            }
+
             @Override
             public void setColumn(int x, int z)
             {
-                height = (float) heightNoise.noise(x, z);
+                final int localX = x - chunkMinX, localZ = z - chunkMinZ;
+                if (chunkHeight != null && localX >= 0 && localX < 16 && localZ >= 0 && localZ < 16)
+                {
+                    final int block = (localX >> 2) | ((localZ >> 2) << 2);
+                    if ((filledBlocks & (1 << block)) == 0)
+                    {
+                        heightNoise.fill(blockHeight, chunkMinX + (localX & ~3), chunkMinZ + (localZ & ~3), 4, 4, 1);
+                        System.arraycopy(blockHeight, 0, chunkHeight, block << 4, 4 * 4);
+                        filledBlocks |= 1 << block;
+                    }
+                    height = (float) chunkHeight[(block << 4) | (localX & 3) | ((localZ & 3) << 2)];
+                }
+                else
+                {
+                    height = (float) heightNoise.noise(x, z);
+                }
             }
 
             @Override
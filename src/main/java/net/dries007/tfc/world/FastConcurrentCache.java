@@ -6,8 +6,8 @@
 
 package net.dries007.tfc.world;
 
-import java.util.Arrays;
-import java.util.concurrent.locks.StampedLock;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 import it.unimi.dsi.fastutil.HashCommon;
 import net.minecraft.util.Mth;
 import net.minecraft.world.level.ChunkPos;
@@ -15,53 +15,100 @@ import org.jetbrains.annotations.Nullable;
 
 /**
  * A concurrent (safe to read and write between multiple threads) positional based, lossy, cache.
+ * <p>
+ * This is lock-free: each slot holds an immutable {@link Entry} of (key, value), which is published and read atomically. A reader will either
+ * observe a complete entry for its key, a complete entry for a different key (a miss), or nothing. Writers simply replace the slot, so two
+ * threads racing to fill the same slot will both succeed, and the last one wins, which is acceptable as values are deterministic for a given key.
  */
 public class FastConcurrentCache<T>
 {
-    private final StampedLock lock = new StampedLock();
-
-    private final long[] keys;
-    private final T[] values;
+    private final AtomicReferenceArray<Entry<T>> entries;
     private final int mask;
 
-    @SuppressWarnings("unchecked")
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
     public FastConcurrentCache(int size)
     {
         size = Mth.smallestEncompassingPowerOfTwo(size);
 
         this.mask = size - 1;
-        this.keys = new long[size];
-        this.values = (T[]) new Object[size];
-
-        Arrays.fill(this.keys, Long.MIN_VALUE);
+        this.entries = new AtomicReferenceArray<>(size);
     }
 
     @Nullable
     public T getIfPresent(int x, int z)
     {
         final long key = ChunkPos.asLong(x, z);
-        final int index = (int) HashCommon.mix(key) & mask;
-        final long stamp = lock.readLock();
+        final Entry<T> entry = entries.getAcquire(index(key));
 
-        T t = null;
-        if (keys[index] == key)
+        if (entry != null && entry.key == key)
         {
-            t = values[index];
+            hits.increment();
+            return entry.value;
         }
-
-        lock.unlockRead(stamp);
-        return t;
+        misses.increment();
+        return null;
     }
 
     public void set(int x, int z, T value)
     {
         final long key = ChunkPos.asLong(x, z);
-        final int index = (int) HashCommon.mix(key) & mask;
-        final long stamp = lock.writeLock();
+        final Entry<T> prev = entries.getAndSet(index(key), new Entry<>(key, value));
+
+        if (prev != null && prev.key != key)
+        {
+            evictions.increment();
+        }
+    }
+
+    public int size()
+    {
+        return mask + 1;
+    }
+
+    public long hits()
+    {
+        return hits.sum();
+    }
+
+    public long misses()
+    {
+        return misses.sum();
+    }
+
+    public long evictions()
+    {
+        return evictions.sum();
+    }
 
-        keys[index] = key;
-        values[index] = value;
+    /**
+     * @return The fraction of {@link #getIfPresent} queries which were hits, in {@code [0, 1]}
+     */
+    public float hitRate()
+    {
+        final long hits = hits(), total = hits + misses();
+        return total == 0 ? 0 : (float) hits / total;
+    }
 
-        lock.unlockWrite(stamp);
+    public void resetStatistics()
+    {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
     }
+
+    @Override
+    public String toString()
+    {
+        return "FastConcurrentCache[size=%d, hits=%d, misses=%d, evictions=%d, hitRate=%.1f%%]".formatted(size(), hits(), misses(), evictions(), 100 * hitRate());
+    }
+
+    private int index(long key)
+    {
+        return (int) HashCommon.mix(key) & mask;
+    }
+
+    private record Entry<T>(long key, T value) {}
 }
@@ -6,6 +6,7 @@
 
 package net.dries007.tfc.world;
 
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumMap;
@@ -27,6 +28,7 @@ import it.unimi.dsi.fastutil.objects.ObjectArraySet;
 import net.minecraft.Util;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Holder;
+import net.minecraft.core.HolderGetter;
 import net.minecraft.core.HolderSet;
 import net.minecraft.core.QuartPos;
 import net.minecraft.core.Registry;
@@ -56,8 +58,10 @@ import net.minecraft.world.level.chunk.ChunkGenerator;
 import net.minecraft.world.level.chunk.ChunkGeneratorStructureState;
 import net.minecraft.world.level.chunk.LevelChunkSection;
 import net.minecraft.world.level.chunk.ProtoChunk;
+import net.minecraft.world.level.dimension.DimensionType;
 import net.minecraft.world.level.levelgen.Aquifer;
 import net.minecraft.world.level.levelgen.Beardifier;
+import net.minecraft.world.level.levelgen.DensityFunction;
 import net.minecraft.world.level.levelgen.GenerationStep;
 import net.minecraft.world.level.levelgen.Heightmap;
 import net.minecraft.world.level.levelgen.NoiseBasedChunkGenerator;
@@ -75,8 +79,12 @@ import net.minecraft.world.level.levelgen.placement.PlacedFeature;
 import net.minecraft.world.level.levelgen.structure.BoundingBox;
 import net.minecraft.world.level.levelgen.structure.Structure;
 import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplateManager;
+import net.minecraft.world.level.levelgen.synth.NormalNoise;
+import net.minecraft.world.level.storage.LevelResource;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
 
+import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.mixin.accessor.ChunkAccessAccessor;
 import net.dries007.tfc.mixin.accessor.ChunkGeneratorAccessor;
 import net.dries007.tfc.mixin.accessor.ChunkMapAccessor;
@@ -88,6 +96,7 @@ import net.dries007.tfc.world.chunkdata.ChunkData;
 import net.dries007.tfc.world.chunkdata.ChunkDataGenerator;
 import net.dries007.tfc.world.chunkdata.RockData;
 import net.dries007.tfc.world.layer.TFCLayers;
+import net.dries007.tfc.world.layer.framework.AreaCache;
 import net.dries007.tfc.world.layer.framework.AreaFactory;
 import net.dries007.tfc.world.layer.framework.ConcurrentArea;
 import net.dries007.tfc.world.noise.ChunkNoiseSamplingSettings;
@@ -95,6 +104,7 @@ import net.dries007.tfc.world.noise.Noise2D;
 import net.dries007.tfc.world.noise.NoiseSampler;
 import net.dries007.tfc.world.noise.OpenSimplex2D;
 import net.dries007.tfc.world.region.RegionGenerator;
+import net.dries007.tfc.world.region.RegionStore;
 import net.dries007.tfc.world.river.RiverBlendType;
 import net.dries007.tfc.world.river.RiverNoiseSampler;
 import net.dries007.tfc.world.settings.Settings;
@@ -129,6 +139,8 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
     private long noiseSamplerSeed;
     private SurfaceManager surfaceManager;
     private NoiseSampler noiseSampler;
+    private @Nullable RegionGenerator regionGenerator;
+    private @Nullable RegionStore regionStore;
 
     public TFCChunkGenerator(BiomeSourceExtension biomeSource, Holder<NoiseGeneratorSettings> noiseSettings, Settings settings)
     {
@@ -160,6 +172,33 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
         return chunkDataGenerator;
     }
 
+    public FastConcurrentCache<TFCAquifer> aquiferCache()
+    {
+        return aquiferCache;
+    }
+
+    /**
+     * @return The region generator, or {@code null} if this chunk generator has not been initialized yet.
+     */
+    @Nullable
+    public RegionGenerator regionGenerator()
+    {
+        return regionGenerator;
+    }
+
+    /**
+     * Closes the persistent region store, if one was opened. Called when the level using this generator is unloaded.
+     */
+    public void closeRegionStore()
+    {
+        if (regionStore != null)
+        {
+            regionGenerator.setStore(null);
+            regionStore.close();
+            regionStore = null;
+        }
+    }
+
     @Override
     public Aquifer getOrCreateAquifer(ChunkAccess chunk)
     {
@@ -196,7 +235,35 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
             return;
         }
 
+        // Configure layer caches before any are created, which happens lazily, per world generation thread
+        AreaCache.configure(TFCConfig.COMMON.areaCacheSize.get(), TFCConfig.COMMON.areaCacheMode.get());
+
         final long seed = level.getSeed();
+        final RegionGenerator regionGenerator = initRandomState(seed, level.registryAccess().lookupOrThrow(Registries.NOISE), level.registryAccess().lookupOrThrow(Registries.DENSITY_FUNCTION));
+
+        if (TFCConfig.COMMON.enableRegionStore.get())
+        {
+            final Path folder = DimensionType.getStorageFolder(level.dimension(), level.getServer().getWorldPath(LevelResource.ROOT)).resolve("data/tfc_regions");
+
+            this.regionStore = RegionStore.open(folder, seed, settings);
+            regionGenerator.setStore(regionStore);
+        }
+
+        // Update the cached chunk generator extension on the RandomState
+        // This is done here when we initialize this chunk generator, and have ensured we are unique to this state and chunk map
+        // We do this to be able to access the chunk generator through the random state later, i.e. in structure generation
+        ((RandomStateExtension) (Object) ((ChunkMapAccessor) chunkMap).accessor$getRandomState()).tfc$setChunkGeneratorExtension(this);
+    }
+
+    /**
+     * Initializes all seed-dependent state of this chunk generator, without requiring a level. This is the level independent part of
+     * {@link #initRandomState(ChunkMap, ServerLevel)}, which is also used directly by benchmarks.
+     *
+     * @return The region generator used by this chunk generator.
+     */
+    @VisibleForTesting
+    public RegionGenerator initRandomState(long seed, HolderGetter<NormalNoise.NoiseParameters> noises, HolderGetter<DensityFunction> functions)
+    {
         final RandomSource random = new XoroshiroRandomSource(seed);
 
         final RegionGenerator regionGenerator = new RegionGenerator(settings, random);
@@ -204,16 +271,13 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
         final ConcurrentArea<BiomeExtension> biomeLayer = new ConcurrentArea<>(factory, TFCLayers::getFromLayerId);
 
         this.noiseSamplerSeed = seed;
-        this.noiseSampler = new NoiseSampler(random.nextLong(), level.registryAccess().lookupOrThrow(Registries.NOISE), level.registryAccess().lookupOrThrow(Registries.DENSITY_FUNCTION));
+        this.noiseSampler = new NoiseSampler(random.nextLong(), noises, functions);
         this.chunkDataGenerator = regionGenerator.chunkDataGenerator();
         this.surfaceManager = new SurfaceManager(seed);
 
         this.customBiomeSource.initRandomState(regionGenerator, biomeLayer);
-
-        // Update the cached chunk generator extension on the RandomState
-        // This is done here when we initialize this chunk generator, and have ensured we are unique to this state and chunk map
-        // We do this to be able to access the chunk generator through the random state later, i.e. in structure generation
-        ((RandomStateExtension) (Object) ((ChunkMapAccessor) chunkMap).accessor$getRandomState()).tfc$setChunkGeneratorExtension(this);
+        this.regionGenerator = regionGenerator;
+        return regionGenerator;
     }
 
     public ChunkHeightFiller createHeightFillerForChunk(ChunkPos pos)
@@ -426,9 +490,7 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
             sections.add(section);
         }
 
-        final Object2DoubleMap<BiomeExtension>[] biomeWeights = ChunkBiomeSampler.sampleBiomes(chunkPos, this::sampleBiomeNoRiver, BiomeExtension::biomeBlendType);
-        final ChunkBaseBlockSource baseBlockSource = createBaseBlockSourceForChunk(chunk);
-        final ChunkNoiseFiller filler = new ChunkNoiseFiller((ProtoChunk) chunk, biomeWeights, customBiomeSource, createBiomeSamplersForChunk(chunk), createRiverSamplersForChunk(), createShoreSamplerForChunk(), noiseSampler, baseBlockSource, settings, getSeaLevel(), Beardifier.forStructuresInChunk(structureManager, chunkPos));
+        final ChunkNoiseFiller filler = createNoiseFillerForChunk((ProtoChunk) chunk, Beardifier.forStructuresInChunk(structureManager, chunkPos));
 
         return CompletableFuture.supplyAsync(() -> {
             filler.sampleAquiferSurfaceHeight(this::sampleBiomeNoRiver);
@@ -446,6 +508,17 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
         }, Util.backgroundExecutor());
     }
 
+    /**
+     * Creates the noise filler for a chunk, which must have already had its {@link ChunkData} generated.
+     */
+    @VisibleForTesting
+    public ChunkNoiseFiller createNoiseFillerForChunk(ProtoChunk chunk, Beardifier beardifier)
+    {
+        final Object2DoubleMap<BiomeExtension>[] biomeWeights = ChunkBiomeSampler.sampleBiomes(chunk.getPos(), this::sampleBiomeNoRiver, BiomeExtension::biomeBlendType);
+        final ChunkBaseBlockSource baseBlockSource = createBaseBlockSourceForChunk(chunk);
+        return new ChunkNoiseFiller(chunk, biomeWeights, customBiomeSource, createBiomeSamplersForChunk(chunk), createRiverSamplersForChunk(), createShoreSamplerForChunk(), noiseSampler, baseBlockSource, createNoiseSamplingSettingsForChunk(chunk), getSeaLevel(), beardifier);
+    }
+
     @Override
     public int getSeaLevel()
     {
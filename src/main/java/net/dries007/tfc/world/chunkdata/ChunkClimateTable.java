@@ -0,0 +1,109 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.world.chunkdata;
+
+import net.minecraft.core.QuartPos;
+import net.minecraft.util.Mth;
+
+import net.dries007.tfc.util.calendar.Month;
+
+/**
+ * A cached table of climate values for a single chunk, at quart (4x4 block) resolution, which allows climate queries to be simple array
+ * lookups, rather than interpolating the chunk's {@link LerpFloatLayer}s, and re-calculating monthly temperature, on every query.
+ * <p>
+ * Values are sampled at the center of each quart. Monthly temperatures are stored per quart row (as they only vary with z), for each month, and
+ * are linearly interpolated between months, which is equivalent to interpolating the month's temperature modifier.
+ * <p>
+ * Tables are built lazily by {@link ChunkData#getClimateTable}, and are immutable, so a table is discarded, not modified, when the chunk data changes.
+ */
+public final class ChunkClimateTable
+{
+    private static final int MONTHS = Month.values().length;
+
+    static ChunkClimateTable build(ChunkData data, Object owner, MonthlyTemperature monthlyTemperature)
+    {
+        final int minX = data.getPos().getMinBlockX(), minZ = data.getPos().getMinBlockZ();
+        final float[] averageTemperature = new float[4 * 4];
+        final float[] rainfall = new float[4 * 4];
+        final float[] monthly = new float[4 * MONTHS];
+        for (int quartZ = 0; quartZ < 4; quartZ++)
+        {
+            final int z = minZ + QuartPos.toBlock(quartZ) + 2;
+            for (int quartX = 0; quartX < 4; quartX++)
+            {
+                final int x = minX + QuartPos.toBlock(quartX) + 2;
+                averageTemperature[index(quartX, quartZ)] = data.getAverageTemp(x, z);
+                rainfall[index(quartX, quartZ)] = data.getRainfall(x, z);
+            }
+            for (Month month : Month.values())
+            {
+                monthly[quartZ * MONTHS + month.ordinal()] = monthlyTemperature.get(z, month.getTemperatureModifier());
+            }
+        }
+        return new ChunkClimateTable(owner, averageTemperature, rainfall, monthly);
+    }
+
+    private static int index(int quartX, int quartZ)
+    {
+        return (quartZ << 2) | quartX;
+    }
+
+    private static int quart(int blockCoord)
+    {
+        return QuartPos.fromBlock(blockCoord) & 3;
+    }
+
+    private final Object owner;
+    private final float[] averageTemperature;
+    private final float[] rainfall;
+    private final float[] monthlyTemperature;
+
+    private ChunkClimateTable(Object owner, float[] averageTemperature, float[] rainfall, float[] monthlyTemperature)
+    {
+        this.owner = owner;
+        this.averageTemperature = averageTemperature;
+        this.rainfall = rainfall;
+        this.monthlyTemperature = monthlyTemperature;
+    }
+
+    /**
+     * @return {@code true} if this table was built by {@code owner}, i.e. the climate model whose monthly temperature function it uses.
+     */
+    public boolean isOwnedBy(Object owner)
+    {
+        return this.owner == owner;
+    }
+
+    public float getAverageTemp(int x, int z)
+    {
+        return averageTemperature[index(quart(x), quart(z))];
+    }
+
+    public float getRainfall(int x, int z)
+    {
+        return rainfall[index(quart(x), quart(z))];
+    }
+
+    /**
+     * @param delta The fraction of the way through {@code month}, towards the next month, in {@code [0, 1]}
+     * @return The monthly temperature at the given z coordinate
+     */
+    public float getMonthlyTemperature(int z, Month month, float delta)
+    {
+        final int row = quart(z) * MONTHS;
+        return Mth.lerp(delta, monthlyTemperature[row + month.ordinal()], monthlyTemperature[row + month.next().ordinal()]);
+    }
+
+    @FunctionalInterface
+    public interface MonthlyTemperature
+    {
+        /**
+         * @return The monthly temperature at a given z coordinate, for a given month temperature modifier.
+         */
+        float get(int z, float monthTemperatureModifier);
+    }
+}
@@ -6,9 +6,13 @@
 
 package net.dries007.tfc.world.chunkdata;
 
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.LevelReader;
 import net.minecraft.world.level.chunk.ChunkAccess;
@@ -30,6 +34,13 @@ public sealed class ChunkData
     private static final float UNKNOWN_RAIN_VARIANCE = 0;
     private static final float UNKNOWN_BASE_GROUNDWATER = 0;
 
+    /**
+     * The version of the compact binary format written by {@link #serializeNBT()}. Older data, written as individual NBT tags, is still read.
+     */
+    private static final byte FORMAT_VERSION = 1;
+    private static final int LAYERS_SIZE = 4 * 4 * Float.BYTES;
+    private static final int HEIGHTS_SIZE = (16 * 16 + 4 * 4) * Short.BYTES;
+
     /**
      * Accesses the chunk data from a given level, at a given position. This method <strong>may deadlock</strong> if called on a {@link ServerLevel}
      * from within a world generation context, as it will try and load the chunk. Make sure you are accessing the correct level for the context provided.
@@ -90,6 +101,16 @@ public sealed class ChunkData
 
     private long lastRandomTick;
 
+    /**
+     * The last serialized form of this data, which is kept until the data is modified, so unchanged data is not re-encoded every time the chunk is saved.
+     */
+    private byte @Nullable [] encoded;
+
+    /**
+     * A lazily built table of climate values, see {@link #getClimateTable}. This is discarded whenever the climate layers change.
+     */
+    private @Nullable ChunkClimateTable climateTable;
+
     public ChunkData(ChunkPos pos)
     {
         this(null, pos);
@@ -174,6 +195,35 @@ public sealed class ChunkData
         return temperatureLayer == null ? UNKNOWN_TEMPERATURE : temperatureLayer.getValue((x & 15) / 16f, (z & 15) / 16f);
     }
 
+    /**
+     * Returns a cached table of the climate values of this chunk, at a lower (quart) resolution than querying the layers directly. The table is built
+     * on first use, or if it was built by a different {@code owner}.
+     * <p>
+     * Chunk data which has not been generated, or synced, has no climate layers, nor (in the case of {@link #EMPTY}) a real position, so there
+     * is no table. Callers should query this data directly instead.
+     *
+     * @param owner              The climate model requesting the table.
+     * @param monthlyTemperature The monthly temperature function of {@code owner}.
+     * @return The table, or {@code null} if this data is not {@link Status#CLIENT}, {@link Status#PARTIAL}, or {@link Status#FULL}.
+     */
+    @Nullable
+    public ChunkClimateTable getClimateTable(Object owner, ChunkClimateTable.MonthlyTemperature monthlyTemperature)
+    {
+        final Status status = status();
+        if (status != Status.CLIENT && status != Status.PARTIAL && status != Status.FULL)
+        {
+            return null;
+        }
+
+        ChunkClimateTable table = climateTable;
+        if (table == null || !table.isOwnedBy(owner))
+        {
+            table = ChunkClimateTable.build(this, owner, monthlyTemperature);
+            climateTable = table;
+        }
+        return table;
+    }
+
     public ForestType getForestType()
     {
         return forestType;
@@ -208,6 +258,8 @@ public sealed class ChunkData
         this.temperatureLayer = temperatureLayer;
         this.forestType = forestType;
         this.status = Status.PARTIAL;
+        this.encoded = null;
+        this.climateTable = null;
     }
 
     /**
@@ -220,6 +272,7 @@ public sealed class ChunkData
         this.rockData.setSurfaceHeight(surfaceHeight);
         this.aquiferSurfaceHeight = aquiferSurfaceHeight;
         this.status = Status.FULL;
+        this.encoded = null;
     }
 
     /**
@@ -246,36 +299,116 @@ public sealed class ChunkData
         this.temperatureLayer = temperatureLayer;
         this.forestType = forestType;
         this.status = Status.CLIENT;
+        this.climateTable = null;
     }
 
     public CompoundTag serializeNBT()
     {
-        final CompoundTag nbt = new CompoundTag();
-        nbt.putByte("status", (byte) status.ordinal());
-        if (status == Status.FULL)
+        if (encoded == null)
         {
-            assert aquiferSurfaceHeight != null;
+            encoded = encode();
+        }
+        final CompoundTag nbt = new CompoundTag();
+        nbt.putByteArray("data", encoded);
+        return nbt;
+    }
 
-            nbt.putIntArray("surfaceHeight", rockData.getSurfaceHeight());
-            nbt.putIntArray("aquiferSurfaceHeight", aquiferSurfaceHeight);
+    public void deserializeNBT(CompoundTag nbt)
+    {
+        climateTable = null;
+        if (nbt.contains("data", Tag.TAG_BYTE_ARRAY))
+        {
+            final byte[] data = nbt.getByteArray("data");
+            if (decode(data))
+            {
+                encoded = data; // Unmodified, so this can be written back as-is
+                return;
+            }
         }
-        if (status == Status.FULL || status == Status.PARTIAL)
+        else
+        {
+            deserializeLegacyNBT(nbt);
+        }
+        encoded = null;
+    }
+
+    /**
+     * Encodes this data into a compact, fixed layout: version, status, then for {@link Status#PARTIAL} and above, the forest type and each layer's corner
+     * values, then for {@link Status#FULL}, the surface and aquifer surface heights.
+     */
+    private byte[] encode()
+    {
+        final boolean partial = status == Status.FULL || status == Status.PARTIAL;
+        final ByteBuffer buffer = ByteBuffer.allocate(2
+            + (partial ? 1 + LAYERS_SIZE : 0)
+            + (status == Status.FULL ? HEIGHTS_SIZE : 0));
+
+        buffer.put(FORMAT_VERSION);
+        buffer.put((byte) status.ordinal());
+        if (partial)
         {
             assert rainfallLayer != null;
             assert rainVarianceLayer != null;
             assert baseGroundwaterLayer != null;
             assert temperatureLayer != null;
 
-            nbt.put("rainfall", rainfallLayer.write());
-            nbt.put("rainVariance", rainVarianceLayer.write());
-            nbt.put("baseGroundwater", baseGroundwaterLayer.write());
-            nbt.put("temperature", temperatureLayer.write());
-            nbt.putByte("forestType", (byte) forestType.ordinal());
+            buffer.put((byte) forestType.ordinal());
+            putLayer(buffer, rainfallLayer);
+            putLayer(buffer, rainVarianceLayer);
+            putLayer(buffer, baseGroundwaterLayer);
+            putLayer(buffer, temperatureLayer);
         }
-        return nbt;
+        if (status == Status.FULL)
+        {
+            assert aquiferSurfaceHeight != null;
+
+            putHeights(buffer, rockData.getSurfaceHeight(), 16 * 16);
+            putHeights(buffer, aquiferSurfaceHeight, 4 * 4);
+        }
+        return buffer.array();
     }
 
-    public void deserializeNBT(CompoundTag nbt)
+    /**
+     * @return {@code true} if the data was decoded successfully. If not, this data is left as {@link Status#EMPTY}, and will be re-generated.
+     */
+    private boolean decode(byte[] data)
+    {
+        try
+        {
+            final ByteBuffer buffer = ByteBuffer.wrap(data);
+            if (buffer.get() != FORMAT_VERSION)
+            {
+                status = Status.EMPTY;
+                return false;
+            }
+
+            final Status status = Status.valueOf(buffer.get());
+            if (status == Status.FULL || status == Status.PARTIAL)
+            {
+                forestType = ForestType.valueOf(buffer.get());
+                rainfallLayer = getLayer(buffer);
+                rainVarianceLayer = getLayer(buffer);
+                baseGroundwaterLayer = getLayer(buffer);
+                temperatureLayer = getLayer(buffer);
+            }
+            if (status == Status.FULL)
+            {
+                assert generator != null;
+
+                rockData.setSurfaceHeight(getHeights(buffer, 16 * 16));
+                aquiferSurfaceHeight = getHeights(buffer, 4 * 4);
+            }
+            this.status = status;
+            return true;
+        }
+        catch (BufferUnderflowException e)
+        {
+            status = Status.EMPTY;
+            return false;
+        }
+    }
+
+    private void deserializeLegacyNBT(CompoundTag nbt)
     {
         status = Status.valueOf(nbt.getByte("status"));
         if (status == Status.FULL)
@@ -295,6 +428,38 @@ public sealed class ChunkData
         }
     }
 
+    private static void putLayer(ByteBuffer buffer, LerpFloatLayer layer)
+    {
+        buffer.putFloat(layer.value00())
+            .putFloat(layer.value01())
+            .putFloat(layer.value10())
+            .putFloat(layer.value11());
+    }
+
+    private static LerpFloatLayer getLayer(ByteBuffer buffer)
+    {
+        return new LerpFloatLayer(buffer.getFloat(), buffer.getFloat(), buffer.getFloat(), buffer.getFloat());
+    }
+
+    private static void putHeights(ByteBuffer buffer, int[] heights, int size)
+    {
+        assert heights.length == size;
+        for (int height : heights)
+        {
+            buffer.putShort((short) Mth.clamp(height, Short.MIN_VALUE, Short.MAX_VALUE));
+        }
+    }
+
+    private static int[] getHeights(ByteBuffer buffer, int size)
+    {
+        final int[] heights = new int[size];
+        for (int i = 0; i < size; i++)
+        {
+            heights[i] = buffer.getShort();
+        }
+        return heights;
+    }
+
     @Override
     public String toString()
     {
@@ -0,0 +1,82 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.world.chunkdata;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.neoforged.neoforge.network.PacketDistributor;
+import org.jetbrains.annotations.Nullable;
+
+import net.dries007.tfc.common.TFCAttachments;
+import net.dries007.tfc.network.ChunkWatchBatchPacket;
+import net.dries007.tfc.network.ChunkWatchPacket;
+
+/**
+ * Server side, per player tracking of the {@link ChunkData} pending sync to that player. Chunk data for all chunks watched in a tick is sent in a single
+ * {@link ChunkWatchBatchPacket} when the player is next ticked, and chunks which are un-watched before then are not sent at all.
+ * <p>
+ * This is attached to the player, and not persisted, so it is reset when the player logs out or respawns, along with the client's chunks.
+ */
+public final class ChunkWatchTracker
+{
+    private static final Comparator<ChunkWatchPacket> ORDER = Comparator.<ChunkWatchPacket>comparingInt(c -> c.pos().z).thenComparingInt(c -> c.pos().x);
+
+    public static ChunkWatchTracker get(ServerPlayer player)
+    {
+        return player.getData(TFCAttachments.CHUNK_WATCH);
+    }
+
+    private final Long2ObjectMap<ChunkWatchPacket> pending = new Long2ObjectOpenHashMap<>();
+    private @Nullable ResourceKey<Level> dimension;
+
+    public void onWatch(ServerPlayer player, ChunkData data)
+    {
+        final ResourceKey<Level> dimension = player.level().dimension();
+        if (dimension != this.dimension)
+        {
+            // Chunk positions are only unique within a dimension, and the client will have discarded all chunks from the previous one
+            this.dimension = dimension;
+            pending.clear();
+        }
+
+        final ChunkWatchPacket packet = data.getUpdatePacket();
+        pending.put(packet.pos().toLong(), packet);
+    }
+
+    public void onUnwatch(ChunkPos pos)
+    {
+        pending.remove(pos.toLong());
+    }
+
+    /**
+     * Sends all pending chunk data to the player.
+     */
+    public void flush(ServerPlayer player)
+    {
+        if (pending.isEmpty())
+        {
+            return;
+        }
+
+        // Order by rows, so each chunk's west and north neighbors (if present) are encoded first
+        final List<ChunkWatchPacket> chunks = new ArrayList<>(pending.values());
+        chunks.sort(ORDER);
+        for (int start = 0; start < chunks.size(); start += ChunkWatchBatchPacket.MAX_CHUNKS)
+        {
+            final int end = Math.min(start + ChunkWatchBatchPacket.MAX_CHUNKS, chunks.size());
+            PacketDistributor.sendToPlayer(player, new ChunkWatchBatchPacket(List.copyOf(chunks.subList(start, end))));
+        }
+        pending.clear();
+    }
+}
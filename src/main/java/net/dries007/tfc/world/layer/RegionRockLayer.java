@@ -20,7 +20,7 @@ public enum RegionRockLayer
     {
         return () -> {
             final TypedArea<Region.Point> prevArea = prev.get();
-            return new Area((x, z) -> prevArea.get(x, z).rock, 1024);
+            return new Area((x, z) -> prevArea.get(x, z).rock);
         };
     }
 }
@@ -6,51 +6,53 @@
 
 package net.dries007.tfc.world.layer.framework;
 
-import java.util.Arrays;
-import it.unimi.dsi.fastutil.HashCommon;
-import net.minecraft.util.Mth;
 import net.minecraft.world.level.ChunkPos;
 
 /**
  * A caching wrapper around a {@link AreaSource}. Created from the result of a stack of layers.
  * Note that this wrapper is not synchronized, meaning that access from multiple threads might result in cache corruption
  * Additionally - and more importantly - is that most {@link AreaSource}s which use a {@link AreaContext} will throw on concurrent modification to the underlying random instance.
+ * <p>
+ * By default, the size and mode of the cache are configured by {@link AreaCache}.
  *
  * @see ConcurrentArea
  */
-public class Area
+public class Area extends CachingArea
 {
     private final AreaSource source;
-    private final long[] keys;
     private final int[] values;
-    private final int mask;
 
-    public Area(AreaSource source, int maxCacheSize)
+    public Area(AreaSource source)
     {
-        maxCacheSize = Mth.smallestEncompassingPowerOfTwo(maxCacheSize);
+        this(source, AreaCache.size(), AreaCache.mode());
+    }
 
-        this.source = source;
-        this.keys = new long[maxCacheSize];
-        this.values = new int[maxCacheSize];
-        this.mask = maxCacheSize - 1;
+    public Area(AreaSource source, int maxCacheSize, AreaCache.Mode mode)
+    {
+        super(maxCacheSize, mode);
 
-        Arrays.fill(this.keys, Long.MIN_VALUE);
+        this.source = source;
+        this.values = new int[capacity()];
     }
 
     public int get(int x, int z)
     {
         final long key = ChunkPos.asLong(x, z);
-        final int index = (int) HashCommon.mix(key) & mask;
-        if (keys[index] == key)
+        final int slot = find(key);
+        if (slot != -1)
         {
-            return values[index];
-        }
-        else
-        {
-            final int value = source.apply(x, z);
-            values[index] = value;
-            keys[index] = key;
-            return value;
+            return values[slot];
         }
+        final int value = source.apply(x, z);
+        values[insert(key)] = value;
+        return value;
+    }
+
+    @Override
+    final void swapValues(int first, int second)
+    {
+        final int value = values[first];
+        values[first] = values[second];
+        values[second] = value;
     }
 }
@@ -0,0 +1,118 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.world.layer.framework;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Configuration and statistics shared by the caches of every {@link Area} and {@link TypedArea}. Areas are not thread safe, and so one is created
+ * per thread, per layer. This is configured once, before world generation starts.
+ * <p>
+ * Statistics are only counted when enabled, with {@code -Dtfc.enableAreaCacheStatistics=true}, as every layer lookup would otherwise pay for
+ * them. When enabled, each area counts every query here, as it happens, so the statistics are exact.
+ */
+public final class AreaCache
+{
+    public static final int DEFAULT_SIZE = 1024;
+
+    /** Marks an empty cache slot. This is the key of {@code (0, Integer.MIN_VALUE)}, which is never queried in practice. */
+    static final long EMPTY = Long.MIN_VALUE;
+
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final LongAdder EVICTIONS = new LongAdder();
+
+    private static volatile int size = DEFAULT_SIZE;
+    private static volatile Mode mode = Mode.TWO_WAY;
+    private static volatile boolean statistics = Boolean.getBoolean("tfc.enableAreaCacheStatistics");
+
+    /**
+     * Configures the size and mode of all areas created after this point. Areas which already exist are unaffected.
+     */
+    public static void configure(int size, Mode mode)
+    {
+        AreaCache.size = size;
+        AreaCache.mode = mode;
+    }
+
+    public static int size()
+    {
+        return size;
+    }
+
+    public static Mode mode()
+    {
+        return mode;
+    }
+
+    /**
+     * Enables or disables counting statistics, for all areas created after this point.
+     */
+    public static void setStatistics(boolean enabled)
+    {
+        statistics = enabled;
+    }
+
+    public static boolean statistics()
+    {
+        return statistics;
+    }
+
+    public static long hits()
+    {
+        return HITS.sum();
+    }
+
+    public static long misses()
+    {
+        return MISSES.sum();
+    }
+
+    public static long evictions()
+    {
+        return EVICTIONS.sum();
+    }
+
+    /**
+     * @return The fraction of area queries which were hits, in {@code [0, 1]}
+     */
+    public static float hitRate()
+    {
+        final long hits = hits(), total = hits + misses();
+        return total == 0 ? 0 : (float) hits / total;
+    }
+
+    public static void resetStatistics()
+    {
+        HITS.reset();
+        MISSES.reset();
+        EVICTIONS.reset();
+    }
+
+    static void hit()
+    {
+        HITS.increment();
+    }
+
+    static void miss()
+    {
+        MISSES.increment();
+    }
+
+    static void evict()
+    {
+        EVICTIONS.increment();
+    }
+
+    public enum Mode
+    {
+        /** Each key maps to exactly one slot, and replaces whatever was there. */
+        DIRECT_MAPPED,
+        /** Each key maps to a set of two slots, and replaces the least recently used of the two. */
+        TWO_WAY
+    }
+}
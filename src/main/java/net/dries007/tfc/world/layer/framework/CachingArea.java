@@ -0,0 +1,131 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.world.layer.framework;
+
+import java.util.Arrays;
+import it.unimi.dsi.fastutil.HashCommon;
+import net.minecraft.util.Mth;
+
+/**
+ * The cache shared by {@link Area} and {@link TypedArea}, which only differ in the type of their values. This tracks the keys of each slot, and
+ * subclasses store the value of each slot in a parallel array.
+ * <p>
+ * The cache is either direct mapped, or two-way set associative, in which case each key may be stored in either slot of its set, and the most recently
+ * used entry of each set is kept in the first slot.
+ */
+abstract class CachingArea
+{
+    private final long[] keys;
+    private final int mask;
+    private final boolean twoWay;
+    private final boolean statistics;
+
+    CachingArea(int maxCacheSize, AreaCache.Mode mode)
+    {
+        maxCacheSize = Mth.smallestEncompassingPowerOfTwo(Math.max(2, maxCacheSize));
+
+        this.keys = new long[maxCacheSize];
+        this.twoWay = mode == AreaCache.Mode.TWO_WAY;
+        this.mask = (twoWay ? maxCacheSize >> 1 : maxCacheSize) - 1;
+        this.statistics = AreaCache.statistics();
+
+        Arrays.fill(this.keys, AreaCache.EMPTY);
+    }
+
+    /**
+     * @return The number of slots, which the array of values must be sized to.
+     */
+    final int capacity()
+    {
+        return keys.length;
+    }
+
+    /**
+     * @return The slot containing {@code key}, or {@code -1} if it is not cached. In a two-way cache, this is always the first slot of the set.
+     */
+    final int find(long key)
+    {
+        final int hash = (int) HashCommon.mix(key);
+        if (!twoWay)
+        {
+            final int index = hash & mask;
+            if (keys[index] == key)
+            {
+                if (statistics)
+                {
+                    AreaCache.hit();
+                }
+                return index;
+            }
+            return -1;
+        }
+
+        final int first = (hash & mask) << 1, second = first + 1;
+        if (keys[first] == key)
+        {
+            if (statistics)
+            {
+                AreaCache.hit();
+            }
+            return first;
+        }
+        if (keys[second] == key)
+        {
+            // Swap, so the first slot is always the most recently used
+            keys[second] = keys[first];
+            keys[first] = key;
+            swapValues(first, second);
+            if (statistics)
+            {
+                AreaCache.hit();
+            }
+            return first;
+        }
+        return -1;
+    }
+
+    /**
+     * Stores {@code key} after it was not found by {@link #find(long)}, evicting the least recently used entry of its set, if needed.
+     *
+     * @return The slot in which the value of {@code key} must be stored.
+     */
+    final int insert(long key)
+    {
+        final int hash = (int) HashCommon.mix(key);
+        if (!twoWay)
+        {
+            final int index = hash & mask;
+            if (statistics && keys[index] != AreaCache.EMPTY)
+            {
+                AreaCache.evict();
+            }
+            keys[index] = key;
+            if (statistics)
+            {
+                AreaCache.miss();
+            }
+            return index;
+        }
+
+        // Evict the least recently used entry, in the second slot, and move the first entry into its place
+        final int first = (hash & mask) << 1, second = first + 1;
+        if (statistics && keys[second] != AreaCache.EMPTY)
+        {
+            AreaCache.evict();
+        }
+        keys[second] = keys[first];
+        keys[first] = key;
+        swapValues(first, second);
+        if (statistics)
+        {
+            AreaCache.miss();
+        }
+        return first;
+    }
+
+    abstract void swapValues(int first, int second);
+}
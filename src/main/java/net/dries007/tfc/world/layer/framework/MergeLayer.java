@@ -20,7 +20,7 @@ public interface MergeLayer
             return new Area((x, z) -> {
                 context.setSeed(x, z);
                 return apply(context, firstArea, secondArea, x, z);
-            }, 1024);
+            });
         };
     }
 
@@ -19,7 +19,7 @@ public interface SourceLayer
             return new Area((x, z) -> {
                 context.setSeed(x, z);
                 return apply(context, x, z);
-            }, 1024);
+            });
         };
     }
 
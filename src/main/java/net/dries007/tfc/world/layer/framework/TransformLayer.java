@@ -20,7 +20,7 @@ public interface TransformLayer
             return new Area((x, z) -> {
                 context.setSeed(x, z);
                 return apply(context, prevArea, x, z);
-            }, 1024);
+            });
         };
     }
 
@@ -6,48 +6,48 @@
 
 package net.dries007.tfc.world.layer.framework;
 
-import java.util.Arrays;
-import it.unimi.dsi.fastutil.HashCommon;
-import net.minecraft.util.Mth;
 import net.minecraft.world.level.ChunkPos;
 
 /**
  * @see Area
  */
-public class TypedArea<A>
+public class TypedArea<A> extends CachingArea
 {
     private final TypedAreaSource<A> factory;
-    private final long[] keys;
     private final Object[] values;
-    private final int mask;
 
-    public TypedArea(TypedAreaSource<A> factory, int maxCacheSize)
+    public TypedArea(TypedAreaSource<A> factory)
     {
-        maxCacheSize = Mth.smallestEncompassingPowerOfTwo(maxCacheSize);
+        this(factory, AreaCache.size(), AreaCache.mode());
+    }
 
-        this.factory = factory;
-        this.keys = new long[maxCacheSize];
-        this.values = new Object[maxCacheSize];
-        this.mask = maxCacheSize - 1;
+    public TypedArea(TypedAreaSource<A> factory, int maxCacheSize, AreaCache.Mode mode)
+    {
+        super(maxCacheSize, mode);
 
-        Arrays.fill(this.keys, Long.MIN_VALUE);
+        this.factory = factory;
+        this.values = new Object[capacity()];
     }
 
     @SuppressWarnings("unchecked")
     public A get(int x, int z)
     {
         final long key = ChunkPos.asLong(x, z);
-        final int index = (int) HashCommon.mix(key) & mask;
-        if (keys[index] == key)
+        final int slot = find(key);
+        if (slot != -1)
         {
-            return (A) values[index];
-        }
-        else
-        {
-            final A value = factory.apply(x, z);
-            values[index] = value;
-            keys[index] = key;
-            return value;
+            return (A) values[slot];
         }
+        final A value = factory.apply(x, z);
+        values[insert(key)] = value;
+        return value;
+    }
+
+    @Override
+    final void swapValues(int first, int second)
+    {
+        final Object value = values[first];
+        values[first] = values[second];
+        values[second] = value;
     }
 }
@@ -18,7 +18,7 @@ public interface TypedSourceLayer<A>
             return new TypedArea<>((x, z) -> {
                 context.setSeed(x, z);
                 return apply(context, x, z);
-            }, 1024);
+            });
         };
     }
 
@@ -6,6 +6,7 @@
 
 package net.dries007.tfc.world.noise;
 
+import java.util.Arrays;
 import java.util.function.DoubleUnaryOperator;
 import net.minecraft.util.Mth;
 
@@ -17,6 +18,49 @@ public interface Noise2D
 {
     double noise(double x, double z);
 
+    /**
+     * Samples this noise at {@code count} points, given by {@code (x[i], z[i])}, into {@code out[i]}. This is equivalent to calling {@link #noise(double, double)}
+     * at each point, and must produce identical results. However, composed noise functions evaluate each layer of the composition over all points at once,
+     * which avoids the per-point cost of calling through the entire chain of composed functions.
+     */
+    default void fill(double[] x, double[] z, double[] out, int count)
+    {
+        for (int i = 0; i < count; i++)
+        {
+            out[i] = noise(x[i], z[i]);
+        }
+    }
+
+    /**
+     * Samples this noise over a grid of {@code width x height} points, starting at {@code (x0, z0)}, with {@code step} spacing between points, into {@code out},
+     * indexed by {@code x + width * z}.
+     *
+     * @see #fill(double[], double[], double[], int)
+     */
+    default void fill(double[] out, double x0, double z0, int width, int height, double step)
+    {
+        final int count = width * height;
+        final ScratchBuffers scratch = ScratchBuffers.get();
+        final long mark = scratch.mark();
+        try
+        {
+            final double[] x = scratch.doubles(count), z = scratch.doubles(count);
+            for (int dz = 0, i = 0; dz < height; dz++)
+            {
+                for (int dx = 0; dx < width; dx++, i++)
+                {
+                    x[i] = x0 + dx * step;
+                    z[i] = z0 + dz * step;
+                }
+            }
+            fill(x, z, out, count);
+        }
+        finally
+        {
+            scratch.release(mark);
+        }
+    }
+
     /**
      * @param octaves The number of octaves
      */
@@ -29,13 +73,47 @@ public interface Noise2D
             frequency[i] = 1 << i;
             amplitude[i] = (double) Math.pow(0.5f, octaves - i);
         }
-        return (x, y) -> {
-            double value = 0;
-            for (int i = 0; i < octaves; i++)
+        return new Noise2D()
+        {
+            @Override
+            public double noise(double x, double z)
             {
-                value += Noise2D.this.noise(x / frequency[i], y / frequency[i]) * amplitude[i];
+                double value = 0;
+                for (int i = 0; i < octaves; i++)
+                {
+                    value += Noise2D.this.noise(x / frequency[i], z / frequency[i]) * amplitude[i];
+                }
+                return value;
+            }
+
+            @Override
+            public void fill(double[] x, double[] z, double[] out, int count)
+            {
+                final ScratchBuffers scratch = ScratchBuffers.get();
+                final long mark = scratch.mark();
+                try
+                {
+                    final double[] octaveX = scratch.doubles(count), octaveZ = scratch.doubles(count), octaveOut = scratch.doubles(count);
+                    Arrays.fill(out, 0, count, 0);
+                    for (int i = 0; i < octaves; i++)
+                    {
+                        for (int j = 0; j < count; j++)
+                        {
+                            octaveX[j] = x[j] / frequency[i];
+                            octaveZ[j] = z[j] / frequency[i];
+                        }
+                        Noise2D.this.fill(octaveX, octaveZ, octaveOut, count);
+                        for (int j = 0; j < count; j++)
+                        {
+                            out[j] += octaveOut[j] * amplitude[i];
+                        }
+                    }
+                }
+                finally
+                {
+                    scratch.release(mark);
+                }
             }
-            return value;
         };
     }
 
@@ -46,11 +124,10 @@ public interface Noise2D
      */
     default Noise2D ridged()
     {
-        return (x, y) -> {
-            double value = Noise2D.this.noise(x, y);
+        return map(value -> {
             value = value < 0 ? -value : value;
             return 1f - 2f * value;
-        };
+        });
     }
 
     /**
@@ -60,7 +137,7 @@ public interface Noise2D
      */
     default Noise2D abs()
     {
-        return (x, y) -> Math.abs(Noise2D.this.noise(x, y));
+        return map(Math::abs);
     }
 
     /**
@@ -72,11 +149,11 @@ public interface Noise2D
      */
     default Noise2D terraces(int levels)
     {
-        return (x, y) -> {
-            double value = 0.5f * Noise2D.this.noise(x, y) + 0.5f;
+        return map(noise -> {
+            double value = 0.5f * noise + 0.5f;
             double rounded = (int) (value * levels); // In range [0, levels)
             return (rounded * 2f) / levels - 1f;
-        };
+        });
     }
 
     /**
@@ -87,7 +164,35 @@ public interface Noise2D
      */
     default Noise2D spread(double scaleFactor)
     {
-        return (x, y) -> Noise2D.this.noise(x * scaleFactor, y * scaleFactor);
+        return new Noise2D()
+        {
+            @Override
+            public double noise(double x, double z)
+            {
+                return Noise2D.this.noise(x * scaleFactor, z * scaleFactor);
+            }
+
+            @Override
+            public void fill(double[] x, double[] z, double[] out, int count)
+            {
+                final ScratchBuffers scratch = ScratchBuffers.get();
+                final long mark = scratch.mark();
+                try
+                {
+                    final double[] scaledX = scratch.doubles(count), scaledZ = scratch.doubles(count);
+                    for (int i = 0; i < count; i++)
+                    {
+                        scaledX[i] = x[i] * scaleFactor;
+                        scaledZ[i] = z[i] * scaleFactor;
+                    }
+                    Noise2D.this.fill(scaledX, scaledZ, out, count);
+                }
+                finally
+                {
+                    scratch.release(mark);
+                }
+            }
+        };
     }
 
     default Noise2D scaled(double min, double max)
@@ -113,7 +218,24 @@ public interface Noise2D
 
     default Noise2D affine(double scale, double shift)
     {
-        return (x, y) -> Noise2D.this.noise(x, y) * scale + shift;
+        return new Noise2D()
+        {
+            @Override
+            public double noise(double x, double z)
+            {
+                return Noise2D.this.noise(x, z) * scale + shift;
+            }
+
+            @Override
+            public void fill(double[] x, double[] z, double[] out, int count)
+            {
+                Noise2D.this.fill(x, z, out, count);
+                for (int i = 0; i < count; i++)
+                {
+                    out[i] = out[i] * scale + shift;
+                }
+            }
+        };
     }
 
     default Noise2D warped(OpenSimplex2D warp)
@@ -139,7 +261,7 @@ public interface Noise2D
      */
     default Noise2D clamped(double min, double max)
     {
-        return (x, y) -> Mth.clamp(Noise2D.this.noise(x, y), min, max);
+        return map(value -> Mth.clamp(value, min, max));
     }
 
     /**
@@ -147,7 +269,35 @@ public interface Noise2D
      */
     default Noise2D add(Noise2D other)
     {
-        return (x, y) -> Noise2D.this.noise(x, y) + other.noise(x, y);
+        return new Noise2D()
+        {
+            @Override
+            public double noise(double x, double z)
+            {
+                return Noise2D.this.noise(x, z) + other.noise(x, z);
+            }
+
+            @Override
+            public void fill(double[] x, double[] z, double[] out, int count)
+            {
+                final ScratchBuffers scratch = ScratchBuffers.get();
+                final long mark = scratch.mark();
+                try
+                {
+                    final double[] otherOut = scratch.doubles(count);
+                    Noise2D.this.fill(x, z, out, count);
+                    other.fill(x, z, otherOut, count);
+                    for (int i = 0; i < count; i++)
+                    {
+                        out[i] += otherOut[i];
+                    }
+                }
+                finally
+                {
+                    scratch.release(mark);
+                }
+            }
+        };
     }
 
     /**
@@ -155,14 +305,82 @@ public interface Noise2D
      */
     default Noise2D lazyProduct(Noise2D other)
     {
-        return (x, y) -> {
-            final double value = Noise2D.this.noise(x, y);
-            return value == 0 ? 0 : value * other.noise(x, y);
+        return new Noise2D()
+        {
+            @Override
+            public double noise(double x, double z)
+            {
+                final double value = Noise2D.this.noise(x, z);
+                return value == 0 ? 0 : value * other.noise(x, z);
+            }
+
+            @Override
+            public void fill(double[] x, double[] z, double[] out, int count)
+            {
+                Noise2D.this.fill(x, z, out, count);
+
+                final ScratchBuffers scratch = ScratchBuffers.get();
+                final long mark = scratch.mark();
+                try
+                {
+                    // Only evaluate the second noise at the points where the first is non-zero
+                    final int[] index = scratch.ints(count);
+                    int nonZero = 0;
+                    for (int i = 0; i < count; i++)
+                    {
+                        if (out[i] != 0)
+                        {
+                            index[nonZero++] = i;
+                        }
+                        else
+                        {
+                            out[i] = 0;
+                        }
+                    }
+                    if (nonZero == 0)
+                    {
+                        return;
+                    }
+
+                    final double[] otherX = scratch.doubles(nonZero), otherZ = scratch.doubles(nonZero), otherOut = scratch.doubles(nonZero);
+                    for (int i = 0; i < nonZero; i++)
+                    {
+                        otherX[i] = x[index[i]];
+                        otherZ[i] = z[index[i]];
+                    }
+                    other.fill(otherX, otherZ, otherOut, nonZero);
+                    for (int i = 0; i < nonZero; i++)
+                    {
+                        out[index[i]] *= otherOut[i];
+                    }
+                }
+                finally
+                {
+                    scratch.release(mark);
+                }
+            }
         };
     }
 
     default Noise2D map(DoubleUnaryOperator mappingFunction)
     {
-        return (x, y) -> mappingFunction.applyAsDouble(Noise2D.this.noise(x, y));
+        return new Noise2D()
+        {
+            @Override
+            public double noise(double x, double z)
+            {
+                return mappingFunction.applyAsDouble(Noise2D.this.noise(x, z));
+            }
+
+            @Override
+            public void fill(double[] x, double[] z, double[] out, int count)
+            {
+                Noise2D.this.fill(x, z, out, count);
+                for (int i = 0; i < count; i++)
+                {
+                    out[i] = mappingFunction.applyAsDouble(out[i]);
+                }
+            }
+        };
     }
 }
\ No newline at end of file
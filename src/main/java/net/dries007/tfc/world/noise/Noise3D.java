@@ -6,6 +6,8 @@
 
 package net.dries007.tfc.world.noise;
 
+import java.util.Arrays;
+
 /**
  * Wrapper for a 3D Noise Layer
  */
@@ -14,6 +16,20 @@ public interface Noise3D
 {
     double noise(double x, double y, double z);
 
+    /**
+     * Samples this noise at {@code count} points, given by {@code (x[i], y[i], z[i])}, into {@code out[i]}. This is equivalent to calling
+     * {@link #noise(double, double, double)} at each point, and must produce identical results.
+     *
+     * @see Noise2D#fill(double[], double[], double[], int)
+     */
+    default void fill(double[] x, double[] y, double[] z, double[] out, int count)
+    {
+        for (int i = 0; i < count; i++)
+        {
+            out[i] = noise(x[i], y[i], z[i]);
+        }
+    }
+
     /**
      * @param octaves The number of octaves
      */
@@ -26,13 +42,48 @@ public interface Noise3D
             frequency[i] = 1 << i;
             amplitude[i] = (double) Math.pow(0.5f, octaves - i);
         }
-        return (x, y, z) -> {
-            double value = 0;
-            for (int i = 0; i < octaves; i++)
+        return new Noise3D()
+        {
+            @Override
+            public double noise(double x, double y, double z)
+            {
+                double value = 0;
+                for (int i = 0; i < octaves; i++)
+                {
+                    value += Noise3D.this.noise(x / frequency[i], y / frequency[i], z / frequency[i]) * amplitude[i];
+                }
+                return value;
+            }
+
+            @Override
+            public void fill(double[] x, double[] y, double[] z, double[] out, int count)
             {
-                value += Noise3D.this.noise(x / frequency[i], y / frequency[i], z / frequency[i]) * amplitude[i];
+                final ScratchBuffers scratch = ScratchBuffers.get();
+                final long mark = scratch.mark();
+                try
+                {
+                    final double[] octaveX = scratch.doubles(count), octaveY = scratch.doubles(count), octaveZ = scratch.doubles(count), octaveOut = scratch.doubles(count);
+                    Arrays.fill(out, 0, count, 0);
+                    for (int i = 0; i < octaves; i++)
+                    {
+                        for (int j = 0; j < count; j++)
+                        {
+                            octaveX[j] = x[j] / frequency[i];
+                            octaveY[j] = y[j] / frequency[i];
+                            octaveZ[j] = z[j] / frequency[i];
+                        }
+                        Noise3D.this.fill(octaveX, octaveY, octaveZ, octaveOut, count);
+                        for (int j = 0; j < count; j++)
+                        {
+                            out[j] += octaveOut[j] * amplitude[i];
+                        }
+                    }
+                }
+                finally
+                {
+                    scratch.release(mark);
+                }
             }
-            return value;
         };
     }
 
@@ -44,7 +95,36 @@ public interface Noise3D
      */
     default Noise3D spread(double scaleFactor)
     {
-        return (x, y, z) -> Noise3D.this.noise(x * scaleFactor, y * scaleFactor, z * scaleFactor);
+        return new Noise3D()
+        {
+            @Override
+            public double noise(double x, double y, double z)
+            {
+                return Noise3D.this.noise(x * scaleFactor, y * scaleFactor, z * scaleFactor);
+            }
+
+            @Override
+            public void fill(double[] x, double[] y, double[] z, double[] out, int count)
+            {
+                final ScratchBuffers scratch = ScratchBuffers.get();
+                final long mark = scratch.mark();
+                try
+                {
+                    final double[] scaledX = scratch.doubles(count), scaledY = scratch.doubles(count), scaledZ = scratch.doubles(count);
+                    for (int i = 0; i < count; i++)
+                    {
+                        scaledX[i] = x[i] * scaleFactor;
+                        scaledY[i] = y[i] * scaleFactor;
+                        scaledZ[i] = z[i] * scaleFactor;
+                    }
+                    Noise3D.this.fill(scaledX, scaledY, scaledZ, out, count);
+                }
+                finally
+                {
+                    scratch.release(mark);
+                }
+            }
+        };
     }
 
     default Noise3D scaled(double min, double max)
@@ -63,9 +143,24 @@ public interface Noise3D
      */
     default Noise3D scaled(double oldMin, double oldMax, double min, double max)
     {
-        return (x, y, z) -> {
-            double value = Noise3D.this.noise(x, y, z);
-            return (value - oldMin) / (oldMax - oldMin) * (max - min) + min;
+        return new Noise3D()
+        {
+            @Override
+            public double noise(double x, double y, double z)
+            {
+                double value = Noise3D.this.noise(x, y, z);
+                return (value - oldMin) / (oldMax - oldMin) * (max - min) + min;
+            }
+
+            @Override
+            public void fill(double[] x, double[] y, double[] z, double[] out, int count)
+            {
+                Noise3D.this.fill(x, y, z, out, count);
+                for (int i = 0; i < count; i++)
+                {
+                    out[i] = (out[i] - oldMin) / (oldMax - oldMin) * (max - min) + min;
+                }
+            }
         };
     }
 
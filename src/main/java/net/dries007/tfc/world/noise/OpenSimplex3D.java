@@ -36,6 +36,15 @@ public class OpenSimplex3D implements Noise3D
         return midpoint + fnl.GetNoise(x, y, z) * amplitude;
     }
 
+    @Override
+    public void fill(double[] x, double[] y, double[] z, double[] out, int count)
+    {
+        for (int i = 0; i < count; i++)
+        {
+            out[i] = midpoint + fnl.GetNoise(x[i], y[i], z[i]) * amplitude;
+        }
+    }
+
     @Override
     public OpenSimplex3D octaves(int octaves)
     {
@@ -0,0 +1,100 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.world.noise;
+
+/**
+ * A per-thread pool of scratch arrays, shared by all composed noise functions, to sample in batches without allocating on every call. Noises are
+ * created per chunk, so this is a single static pool, rather than one per noise.
+ * <p>
+ * Arrays are handed out as a stack, so nested calls (i.e. a composed noise sampling another) never share an array. Callers must take a
+ * {@link #mark()} before taking any arrays, and {@link #release(long)} it once they are done with them:
+ * <pre>{@code
+ * final ScratchBuffers scratch = ScratchBuffers.get();
+ * final long mark = scratch.mark();
+ * try
+ * {
+ *     final double[] buffer = scratch.doubles(count);
+ *     ...
+ * }
+ * finally
+ * {
+ *     scratch.release(mark);
+ * }
+ * }</pre>
+ * Arrays are grown as needed, so they are only reallocated the first time a larger batch is seen on each thread.
+ */
+final class ScratchBuffers
+{
+    private static final ThreadLocal<ScratchBuffers> POOL = ThreadLocal.withInitial(ScratchBuffers::new);
+
+    /**
+     * @return The scratch buffers of the current thread.
+     */
+    static ScratchBuffers get()
+    {
+        return POOL.get();
+    }
+
+    private double[][] doubles = new double[8][0];
+    private int[][] ints = new int[2][0];
+    private int doublesTop, intsTop;
+
+    /**
+     * @return A mark of the arrays currently in use, to be passed to {@link #release(long)}.
+     */
+    long mark()
+    {
+        return ((long) intsTop << 32) | doublesTop;
+    }
+
+    /**
+     * Returns all arrays taken since {@code mark} to the pool.
+     */
+    void release(long mark)
+    {
+        doublesTop = (int) mark;
+        intsTop = (int) (mark >>> 32);
+    }
+
+    /**
+     * @return An unused scratch array, with at least {@code size} elements. The contents are unspecified.
+     */
+    double[] doubles(int size)
+    {
+        if (doublesTop == doubles.length)
+        {
+            doubles = grow(doubles, new double[doubles.length * 2][0]);
+        }
+        if (doubles[doublesTop].length < size)
+        {
+            doubles[doublesTop] = new double[size];
+        }
+        return doubles[doublesTop++];
+    }
+
+    /**
+     * @return An unused scratch array of indices, with at least {@code size} elements. The contents are unspecified.
+     */
+    int[] ints(int size)
+    {
+        if (intsTop == ints.length)
+        {
+            ints = grow(ints, new int[ints.length * 2][0]);
+        }
+        if (ints[intsTop].length < size)
+        {
+            ints[intsTop] = new int[size];
+        }
+        return ints[intsTop++];
+    }
+
+    private static <T> T[] grow(T[] from, T[] to)
+    {
+        System.arraycopy(from, 0, to, 0, from.length);
+        return to;
+    }
+}
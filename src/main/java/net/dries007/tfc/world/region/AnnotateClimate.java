@@ -15,8 +15,8 @@ public enum AnnotateClimate implements RegionTask
     @Override
     public void apply(RegionGenerator.Context context)
     {
-        for (final var point : context.region.points())
-        {
+        // Each point is only dependent on its own prior values, and noise, so this can be computed in parallel
+        context.region.forEachPointInParallel(point -> {
             // Climate is seeded with a base value based on noise
             // This keeps the large-scale climate which we want
             point.temperature = (float) context.generator().temperatureNoise.noise(point.x, point.z);
@@ -56,6 +56,6 @@ public enum AnnotateClimate implements RegionTask
             point.rainfallVariance = Mth.lerp(edgeBiasScale, point.rainfallVariance, 0);
 
             point.rainfallVariance = Mth.clamp(point.rainfallVariance + (float) context.generator().rainfallVarianceNoise.noise(point.x, point.z), -1, 1);
-        }
+        });
     }
 }
@@ -26,13 +26,14 @@ public enum ChooseRocks implements RegionTask
     public void apply(RegionGenerator.Context context)
     {
         final Region region = context.region;
-        final Area rockArea = context.generator().rockArea.get();
+        final ThreadLocal<Area> rockArea = context.generator().rockArea;
 
-        for (final var point : region.points())
-        {
+        // Rocks only depend on the (already computed) types of nearby points, so each point can be computed in parallel
+        // The rock area is thread local, so it must be queried from whichever thread is computing the point
+        region.forEachPointInParallel(point -> {
             // Lower two bits are the supertype, upper bits are seed
-            point.rock = (rockArea.get(point.x, point.z) << TYPE_BITS) | findClosestType(region, point, point.index);
-        }
+            point.rock = (rockArea.get().get(point.x, point.z) << TYPE_BITS) | findClosestType(region, point, point.index);
+        });
     }
 
     private int findClosestType(Region region, Region.Point center, int index)
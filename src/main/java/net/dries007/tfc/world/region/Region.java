@@ -6,18 +6,97 @@
 
 package net.dries007.tfc.world.region;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Consumer;
 import com.google.common.collect.AbstractIterator;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
 import net.minecraft.util.RandomSource;
 import org.jetbrains.annotations.Nullable;
 
 import net.dries007.tfc.world.layer.TFCLayers;
 import net.dries007.tfc.world.noise.Cellular2D;
 import net.dries007.tfc.world.noise.FastNoiseLite;
+import net.dries007.tfc.world.river.MidpointFractal;
+import net.dries007.tfc.world.river.River;
 
 public final class Region
 {
+    private static final ForkJoinPool POINT_TASK_POOL = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1), pool -> {
+        final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("TFC-Region-Worker-" + thread.getPoolIndex());
+        thread.setDaemon(true);
+        return thread;
+    }, null, false);
+
+    /**
+     * Reads a region previously written with {@link #write}. The returned region is fully generated, including rivers.
+     */
+    static Region read(DataInput in) throws IOException
+    {
+        final double cellX = in.readDouble(), cellY = in.readDouble(), noise = in.readDouble();
+        final Region region = new Region(new Cellular2D.Cell(cellX, cellY, 0, 0, 0, 0, noise));
+
+        final int minX = in.readInt(), minZ = in.readInt(), maxX = in.readInt(), maxZ = in.readInt();
+        region.setRegionArea(minX, minZ, maxX, maxZ);
+
+        for (int index = 0; index < region.data.length; index++)
+        {
+            if (in.readBoolean())
+            {
+                final Point point = new Point(minX + index % region.sizeX, minZ + index / region.sizeX, index);
+                point.read(in);
+                region.data[index] = point;
+            }
+        }
+
+        final int riverCount = in.readInt();
+        final List<RiverEdge> rivers = new ArrayList<>(riverCount);
+        final int[] drains = new int[riverCount];
+        for (int i = 0; i < riverCount; i++)
+        {
+            final River.Vertex source = readVertex(in), drain = readVertex(in);
+            final double[] segments = new double[in.readInt()];
+            for (int j = 0; j < segments.length; j++)
+            {
+                segments[j] = in.readDouble();
+            }
+            final RiverEdge edge = new RiverEdge(source, drain, new MidpointFractal(segments, in.readDouble()));
+
+            edge.width = in.readInt();
+            drains[i] = in.readInt();
+            rivers.add(edge);
+        }
+        for (int i = 0; i < riverCount; i++)
+        {
+            // Linking to the drain also marks the drain edge as having a source edge
+            rivers.get(i).linkToDrain(drains[i] == -1 ? null : rivers.get(drains[i]));
+        }
+        region.setRivers(rivers);
+        return region;
+    }
+
+    private static River.Vertex readVertex(DataInput in) throws IOException
+    {
+        return new River.Vertex(in.readDouble(), in.readDouble(), in.readDouble(), in.readDouble(), in.readInt());
+    }
+
+    private static void writeVertex(DataOutput out, River.Vertex vertex) throws IOException
+    {
+        out.writeDouble(vertex.x());
+        out.writeDouble(vertex.y());
+        out.writeDouble(vertex.angle());
+        out.writeDouble(vertex.length());
+        out.writeInt(vertex.distance());
+    }
+
     private final double cellX;
     private final double cellY;
     private final double noise;
@@ -68,6 +147,20 @@ public final class Region
         };
     }
 
+    /**
+     * Applies {@code action} to all points present within this region, in parallel. This is only safe for tasks that modify each point
+     * independently of all others, and do not use any shared mutable state, i.e. {@link RegionGenerator.Context#random}.
+     * <p>
+     * This runs on {@link #POINT_TASK_POOL}, and blocks the calling thread until all points are done. Region generation is called from world
+     * generation workers, which are themselves fork-join workers, so a parallel stream started directly would fork into, and compete with, the
+     * world generation pool. A separate pool means the caller only ever waits on work which never depends on world generation itself, so this
+     * cannot deadlock, and it occupies one world generation worker for the (short) duration of the task, same as a sequential loop would.
+     */
+    public void forEachPointInParallel(Consumer<Point> action)
+    {
+        POINT_TASK_POOL.submit(() -> Arrays.stream(data).parallel().filter(Objects::nonNull).forEach(action)).join();
+    }
+
     /**
      * @return A randomly chosen point within the region, possibly null.
      */
@@ -145,6 +238,54 @@ public final class Region
         return "Region [%d, %d] x [%d, %d] at cell (%f, %f)".formatted(minX, maxX, minZ, maxZ, cellX, cellY);
     }
 
+    /**
+     * Writes this region, which must be fully generated, to {@code out}. The inverse of {@link #read}.
+     */
+    void write(DataOutput out) throws IOException
+    {
+        out.writeDouble(cellX);
+        out.writeDouble(cellY);
+        out.writeDouble(noise);
+        out.writeInt(minX);
+        out.writeInt(minZ);
+        out.writeInt(maxX);
+        out.writeInt(maxZ);
+
+        for (Point point : data)
+        {
+            out.writeBoolean(point != null);
+            if (point != null)
+            {
+                point.write(out);
+            }
+        }
+
+        final List<RiverEdge> rivers = rivers();
+        final Reference2IntOpenHashMap<RiverEdge> indices = new Reference2IntOpenHashMap<>(rivers.size());
+        indices.defaultReturnValue(-1);
+        for (int i = 0; i < rivers.size(); i++)
+        {
+            indices.put(rivers.get(i), i);
+        }
+
+        out.writeInt(rivers.size());
+        for (RiverEdge edge : rivers)
+        {
+            writeVertex(out, edge.source());
+            writeVertex(out, edge.drain());
+
+            final double[] segments = edge.fractal().segments;
+            out.writeInt(segments.length);
+            for (double segment : segments)
+            {
+                out.writeDouble(segment);
+            }
+            out.writeDouble(edge.fractal().norm());
+            out.writeInt(edge.width);
+            out.writeInt(edge.drainEdge() == null ? -1 : indices.getInt(edge.drainEdge()));
+        }
+    }
+
     /**
      * Used by region generation, ensures that the queried point is present within the region
      */
@@ -253,5 +394,37 @@ public final class Region
         public void setLake() { flags |= FLAG_LAKE; }
         public void setMountain() { flags |= FLAG_MOUNTAIN; }
         public void setCoastalMountain() { flags |= FLAG_COASTAL_MOUNTAIN; }
+
+        void write(DataOutput out) throws IOException
+        {
+            out.writeByte(distanceToOcean);
+            out.writeByte(distanceToEdge);
+            out.writeByte(distanceToWestCoast);
+            out.writeByte(baseOceanDepth);
+            out.writeByte(baseLandHeight);
+            out.writeByte(biomeAltitude);
+            out.writeFloat(rainfall);
+            out.writeFloat(rainfallVariance);
+            out.writeFloat(temperature);
+            out.writeInt(biome);
+            out.writeInt(rock);
+            out.writeShort(flags);
+        }
+
+        void read(DataInput in) throws IOException
+        {
+            distanceToOcean = in.readByte();
+            distanceToEdge = in.readByte();
+            distanceToWestCoast = in.readByte();
+            baseOceanDepth = in.readByte();
+            baseLandHeight = in.readByte();
+            biomeAltitude = in.readByte();
+            rainfall = in.readFloat();
+            rainfallVariance = in.readFloat();
+            temperature = in.readFloat();
+            biome = in.readInt();
+            rock = in.readInt();
+            flags = in.readShort();
+        }
     }
 }
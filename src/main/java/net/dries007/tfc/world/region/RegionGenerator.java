@@ -8,10 +8,15 @@ package net.dries007.tfc.world.region;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import net.minecraft.util.Mth;
 import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.levelgen.XoroshiroRandomSource;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 import org.jetbrains.annotations.VisibleForTesting;
 
@@ -61,6 +66,8 @@ public final class RegionGenerator
     private final long seed;
     private final FastConcurrentCache<Region> cellCache;
     private final FastConcurrentCache<RegionPartition> partitionCache;
+    private final Map<Long, CompletableFuture<Region>> regionsInProgress;
+    private volatile @Nullable RegionStore store;
 
     private final ChunkDataGenerator chunkDataGenerator;
 
@@ -76,6 +83,10 @@ public final class RegionGenerator
         this.cellCache = new FastConcurrentCache<>(256);
         this.partitionCache = new FastConcurrentCache<>(256);
 
+        // Regions are expensive to create, and neighboring chunks are often generated concurrently, so multiple threads will often miss the
+        // cache for the same region at once. Only one of them creates the region, and the others wait on it.
+        this.regionsInProgress = new ConcurrentHashMap<>();
+
         float min = settings.continentalness() * 10f - 2.5f; // range [0, 1], default 0.5 -> 2.5 continentalness
         this.continentNoise = cellNoise.then(c -> 1 - c.f1() / (0.37f + c.f2()))
             .lazyProduct(new OpenSimplex2D(random.nextLong())
@@ -121,6 +132,24 @@ public final class RegionGenerator
         return chunkDataGenerator;
     }
 
+    /**
+     * Sets a persistent store, which regions will be loaded from and saved to when not present in the cache.
+     */
+    public void setStore(@Nullable RegionStore store)
+    {
+        this.store = store;
+    }
+
+    public FastConcurrentCache<Region> cellCache()
+    {
+        return cellCache;
+    }
+
+    public FastConcurrentCache<RegionPartition> partitionCache()
+    {
+        return partitionCache;
+    }
+
     /**
      * @return A smoothly interpolated value in {@code [0, 1]} representing if we are within the finite continent region or not. Higher values
      * are within the finite continent region.
@@ -221,13 +250,58 @@ public final class RegionGenerator
         final int cellX = Float.floatToIntBits((float) cell.x());
         final int cellZ = Float.floatToIntBits((float) cell.y());
 
-        Region entry = cellCache.getIfPresent(cellX, cellZ);
-        if (entry == null)
+        final Region entry = cellCache.getIfPresent(cellX, cellZ);
+        if (entry != null)
         {
-            entry = createRegion(cell, (id, r) -> {});
-            cellCache.set(cellX, cellZ, entry);
+            return entry;
         }
-        return entry;
+
+        final Long key = ChunkPos.asLong(cellX, cellZ);
+        final CompletableFuture<Region> future = new CompletableFuture<>();
+        final CompletableFuture<Region> existing = regionsInProgress.putIfAbsent(key, future);
+        if (existing != null)
+        {
+            // Another thread is already creating this region, so wait for it
+            return existing.join();
+        }
+
+        try
+        {
+            // Check the cache again, in case another thread finished creating this region between our first check and claiming it
+            Region region = cellCache.getIfPresent(cellX, cellZ);
+            if (region == null)
+            {
+                region = loadOrCreateRegion(cell, cellX, cellZ);
+                cellCache.set(cellX, cellZ, region);
+            }
+            future.complete(region);
+            return region;
+        }
+        catch (Throwable e)
+        {
+            future.completeExceptionally(e);
+            throw e;
+        }
+        finally
+        {
+            regionsInProgress.remove(key, future);
+        }
+    }
+
+    private Region loadOrCreateRegion(Cellular2D.Cell cell, int cellX, int cellZ)
+    {
+        final RegionStore store = this.store;
+        if (store != null)
+        {
+            Region region = store.load(cellX, cellZ);
+            if (region == null)
+            {
+                region = createRegion(cell, (id, r) -> {});
+                store.save(cellX, cellZ, region);
+            }
+            return region;
+        }
+        return createRegion(cell, (id, r) -> {});
     }
 
     private Region createRegion(Cellular2D.Cell regionCell, BiConsumer<Task, Region> viewer)
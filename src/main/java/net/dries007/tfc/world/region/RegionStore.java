@@ -0,0 +1,229 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.world.region;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import com.google.common.hash.Hashing;
+import com.mojang.logging.LogUtils;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import net.minecraft.nbt.NbtOps;
+import net.minecraft.world.level.ChunkPos;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import net.dries007.tfc.world.settings.Settings;
+
+/**
+ * A persistent, append-only, on-disk store of fully generated {@link Region}s, which allows skipping region generation for cells that
+ * have already been generated, i.e. after a restart, or after the region has been evicted from the in-memory cache.
+ * <p>
+ * Each store is a single file, named by a hash of the world seed, the world generation {@link Settings}, and the format version, so any
+ * change to these will result in a fresh store. The file is a sequence of records of {@code (key, length, payload)}, where the payload is a
+ * deflated {@link Region}. An index of key -> record position is built when the store is opened, and any partially written record at the end
+ * of the file (i.e. from a crash) is discarded.
+ */
+public final class RegionStore implements Closeable
+{
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = Long.BYTES + Integer.BYTES;
+
+    /**
+     * @return A new store within the given {@code folder}, or {@code null} if one could not be opened, in which case regions will simply not be persisted.
+     */
+    @Nullable
+    public static RegionStore open(Path folder, long seed, Settings settings)
+    {
+        final @Nullable String key = storeKey(seed, settings);
+        if (key == null)
+        {
+            LOGGER.warn("Unable to encode world generation settings, regions will not be persisted");
+            return null;
+        }
+        final Path path = folder.resolve(key + ".dat");
+        try
+        {
+            Files.createDirectories(folder);
+            return new RegionStore(FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE));
+        }
+        catch (IOException e)
+        {
+            LOGGER.warn("Unable to open region store at {}, regions will not be persisted", path, e);
+            return null;
+        }
+    }
+
+    /**
+     * @return A SHA-256 hash of the seed, format version, and full encoding of the settings, so distinct stores never share a file in practice.
+     */
+    @Nullable
+    private static String storeKey(long seed, Settings settings)
+    {
+        return Settings.CODEC.codec()
+            .encodeStart(NbtOps.INSTANCE, settings)
+            .result()
+            .map(tag -> Hashing.sha256()
+                .newHasher()
+                .putLong(seed)
+                .putInt(FORMAT_VERSION)
+                .putString(tag.toString(), StandardCharsets.UTF_8)
+                .hash()
+                .toString())
+            .orElse(null);
+    }
+
+    private final FileChannel channel;
+    private final Long2LongMap index; // Cell key -> position of the record header
+    private long end;
+
+    private RegionStore(FileChannel channel) throws IOException
+    {
+        this.channel = channel;
+        this.index = new Long2LongOpenHashMap();
+        this.index.defaultReturnValue(-1);
+
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        final long size = channel.size();
+        long position = 0;
+        while (position + HEADER_SIZE <= size)
+        {
+            readFully(header.clear(), position);
+
+            final long key = header.flip().getLong();
+            final int length = header.getInt();
+            if (length <= 0 || position + HEADER_SIZE + length > size)
+            {
+                break;
+            }
+            index.put(key, position);
+            position += HEADER_SIZE + length;
+        }
+        if (position < size)
+        {
+            LOGGER.warn("Discarding {} bytes of incomplete region data", size - position);
+            channel.truncate(position);
+        }
+        this.end = position;
+    }
+
+    /**
+     * @return The region stored at the given cell, or {@code null} if one has not been stored, or could not be read.
+     */
+    @Nullable
+    public Region load(int cellX, int cellZ)
+    {
+        final long key = ChunkPos.asLong(cellX, cellZ);
+        final long position;
+        synchronized (this)
+        {
+            position = index.get(key);
+        }
+        if (position == -1)
+        {
+            return null;
+        }
+        try
+        {
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            readFully(header, position);
+
+            final ByteBuffer payload = ByteBuffer.allocate(header.flip().getInt(Long.BYTES));
+            readFully(payload, position + HEADER_SIZE);
+
+            try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(payload.array()))))
+            {
+                return Region.read(in);
+            }
+        }
+        catch (IOException e)
+        {
+            LOGGER.warn("Unable to read stored region at cell {}, {}", cellX, cellZ, e);
+            return null;
+        }
+    }
+
+    /**
+     * Stores the region at the given cell. If a region is already stored at this cell, this does nothing.
+     */
+    public void save(int cellX, int cellZ, Region region)
+    {
+        final long key = ChunkPos.asLong(cellX, cellZ);
+        try
+        {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes)))
+            {
+                region.write(out);
+            }
+
+            final ByteBuffer record = ByteBuffer.allocate(HEADER_SIZE + bytes.size())
+                .putLong(key)
+                .putInt(bytes.size())
+                .put(bytes.toByteArray())
+                .flip();
+
+            synchronized (this)
+            {
+                if (index.containsKey(key))
+                {
+                    return; // Another thread already generated and stored this region
+                }
+                final long position = end;
+                while (record.hasRemaining())
+                {
+                    channel.write(record, position + record.position());
+                }
+                end += record.limit();
+                index.put(key, position);
+            }
+        }
+        catch (IOException e)
+        {
+            LOGGER.warn("Unable to store region at cell {}, {}", cellX, cellZ, e);
+        }
+    }
+
+    @Override
+    public synchronized void close()
+    {
+        try
+        {
+            channel.close();
+        }
+        catch (IOException e)
+        {
+            LOGGER.warn("Unable to close region store", e);
+        }
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException
+    {
+        while (buffer.hasRemaining())
+        {
+            if (channel.read(buffer, position + buffer.position()) < 0)
+            {
+                throw new EOFException();
+            }
+        }
+    }
+}
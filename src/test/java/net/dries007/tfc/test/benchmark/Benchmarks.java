@@ -0,0 +1,50 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test.benchmark;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import net.dries007.tfc.test.TestSetup;
+
+/**
+ * Entry point for all JMH benchmarks. These are run via JUnit, with {@code ./gradlew test -Pbenchmark}, as they require the same
+ * bootstrapped (registries, blocks, fluids) environment as unit tests. As a result, benchmarks are always run in-process, with zero forks.
+ * <p>
+ * Additional JMH command line options can be passed via the property, i.e. {@code -Pbenchmark="-i 10 -wi 5 RegionBenchmark"}. By
+ * default, all benchmarks in this package are run.
+ */
+@Tag("benchmark")
+public class Benchmarks implements TestSetup
+{
+    @Test
+    public void runBenchmarks() throws CommandLineOptionException, RunnerException
+    {
+        final String[] args = Arrays.stream(System.getProperty("tfc.benchmark.args", "").split("\\s+"))
+            .filter(s -> !s.isEmpty())
+            .toArray(String[]::new);
+        final CommandLineOptions commandLine = new CommandLineOptions(args);
+        final ChainedOptionsBuilder builder = new OptionsBuilder()
+            .parent(commandLine)
+            .forks(0)
+            .shouldFailOnError(true);
+
+        if (commandLine.getIncludes().isEmpty())
+        {
+            builder.include(Benchmarks.class.getPackageName() + ".*");
+        }
+
+        new Runner(builder.build()).run();
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.ProtoChunk;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import net.dries007.tfc.world.ChunkHeightFiller;
+import net.dries007.tfc.world.ChunkNoiseFiller;
+import net.dries007.tfc.world.chunkdata.ChunkData;
+
+/**
+ * Benchmarks the per-chunk stages of {@link net.dries007.tfc.world.TFCChunkGenerator}. Regions are cached by the generator, so after
+ * warmup these measure the cost of chunk generation alone.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChunkGeneratorBenchmark
+{
+    private WorldGenFixture fixture;
+    private int chunk;
+
+    @Setup
+    public void setup()
+    {
+        fixture = WorldGenFixture.get();
+    }
+
+    /**
+     * Samples the surface height at every position in a chunk, as is used by {@code getBaseHeight()}.
+     */
+    @Benchmark
+    public double heightFiller()
+    {
+        final ChunkPos pos = WorldGenFixture.chunkPos(chunk++);
+        final ChunkHeightFiller filler = fixture.generator.createHeightFillerForChunk(pos);
+        double sum = 0;
+        for (int x = 0; x < 16; x++)
+        {
+            for (int z = 0; z < 16; z++)
+            {
+                sum += filler.sampleHeight(pos.getMinBlockX() + x, pos.getMinBlockZ() + z);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * The full noise stage, mirroring {@code fillFromNoise()}: biome sampling, aquifer surface heights, chunk data, and the trilinear
+     * interpolated noise fill. Excludes surface building.
+     */
+    @Benchmark
+    public ProtoChunk fillFromNoise()
+    {
+        final ChunkPos pos = WorldGenFixture.chunkPos(chunk++);
+        final ProtoChunk chunk = fixture.createChunk(pos);
+        final ChunkData chunkData = ChunkData.get(chunk);
+        final ChunkNoiseFiller filler = fixture.generator.createNoiseFillerForChunk(chunk, fixture.emptyBeardifier());
+
+        filler.sampleAquiferSurfaceHeight(fixture::sampleBiomeNoRiver);
+        chunkData.generateFull(filler.surfaceHeight(), filler.aquifer().surfaceHeights());
+        chunkData.getRockData().useCache(pos);
+        filler.fillFromNoise();
+        return chunk;
+    }
+}
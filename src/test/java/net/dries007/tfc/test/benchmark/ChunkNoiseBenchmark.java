@@ -0,0 +1,162 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ProtoChunk;
+import net.minecraft.world.level.levelgen.DensityFunction;
+import net.minecraft.world.level.levelgen.NoiseSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.dries007.tfc.world.ChunkNoiseFiller;
+import net.dries007.tfc.world.TFCAquifer;
+import net.dries007.tfc.world.chunkdata.ChunkData;
+import net.dries007.tfc.world.noise.ChunkNoiseSamplingSettings;
+import net.dries007.tfc.world.noise.NoiseSampler;
+import net.dries007.tfc.world.noise.TrilinearInterpolator;
+import net.dries007.tfc.world.noise.TrilinearInterpolatorList;
+
+/**
+ * Benchmarks the two innermost parts of {@link ChunkNoiseFiller#fillFromNoise()} on their own: aquifer queries, and trilinear interpolation of
+ * the cave density functions. Both are measured per chunk.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChunkNoiseBenchmark
+{
+    private static final int CHUNKS = 4;
+    private static final NoiseSettings NOISE_SETTINGS = new NoiseSettings(-64, 384, 1, 2); // Overworld noise settings, as used by the fixture
+
+    private WorldGenFixture fixture;
+    private ChunkPos[] positions;
+    private TFCAquifer[] aquifers;
+    private int chunk;
+
+    @Setup
+    public void setup()
+    {
+        fixture = WorldGenFixture.get();
+    }
+
+    /**
+     * Aquifers are per chunk, and cache the aquifer at each grid position, so a fresh aquifer for each chunk is created every iteration, as
+     * the noise filler would do.
+     */
+    @Setup(Level.Iteration)
+    public void setupAquifers()
+    {
+        positions = new ChunkPos[CHUNKS];
+        aquifers = new TFCAquifer[CHUNKS];
+        for (int i = 0; i < CHUNKS; i++)
+        {
+            final ChunkPos pos = WorldGenFixture.chunkPos(i);
+            final ProtoChunk chunk = fixture.createChunk(pos);
+            final ChunkNoiseFiller filler = fixture.generator.createNoiseFillerForChunk(chunk, fixture.emptyBeardifier());
+
+            filler.sampleAquiferSurfaceHeight(fixture::sampleBiomeNoRiver);
+            ChunkData.get(chunk).generateFull(filler.surfaceHeight(), filler.aquifer().surfaceHeights());
+
+            positions[i] = pos;
+            aquifers[i] = filler.aquifer();
+        }
+    }
+
+    /**
+     * Queries {@link TFCAquifer#computeSubstance} for every position in a chunk, between 48 blocks below and 16 blocks above sea level, where
+     * aquifers are most common, with air-like terrain noise, so every query resolves an aquifer.
+     */
+    @Benchmark
+    public void aquiferComputeSubstance(Blackhole blackhole)
+    {
+        final int index = chunk++ % CHUNKS;
+        final ChunkPos pos = positions[index];
+        final TFCAquifer aquifer = aquifers[index];
+        final int seaLevel = fixture.generator.getSeaLevel();
+        for (int x = pos.getMinBlockX(); x <= pos.getMaxBlockX(); x++)
+        {
+            for (int z = pos.getMinBlockZ(); z <= pos.getMaxBlockZ(); z++)
+            {
+                for (int y = seaLevel - 48; y < seaLevel + 16; y++)
+                {
+                    final BlockState state = aquifer.computeSubstance(new DensityFunction.SinglePointContext(x, y, z), -0.1);
+                    blackhole.consume(state);
+                }
+            }
+        }
+    }
+
+    /**
+     * Fills, and then interpolates, the same five cave density functions as {@link ChunkNoiseFiller}, over a full chunk, in the same
+     * iteration order.
+     */
+    @Benchmark
+    public void trilinearInterpolatorList(Blackhole blackhole)
+    {
+        final ChunkPos pos = WorldGenFixture.chunkPos(chunk++);
+        final ChunkNoiseSamplingSettings settings = createSettings(pos);
+        final NoiseSampler sampler = fixture.noiseSampler;
+        final TrilinearInterpolatorList list = TrilinearInterpolatorList.create(settings);
+        final TrilinearInterpolator noiseCaves = list.add(sampler.noiseCaves);
+        list.add(sampler.noodleToggle);
+        list.add(sampler.noodleThickness);
+        list.add(sampler.noodleRidgeA);
+        list.add(sampler.noodleRidgeB);
+
+        list.initializeForFirstCellX();
+        for (int cellX = 0; cellX < settings.cellCountXZ(); cellX++)
+        {
+            list.advanceCellX(cellX);
+            for (int cellZ = 0; cellZ < settings.cellCountXZ(); cellZ++)
+            {
+                for (int cellY = settings.cellCountY() - 1; cellY >= 0; cellY--)
+                {
+                    list.selectCellYZ(cellY, cellZ);
+                    for (int localX = 0; localX < settings.cellWidth(); localX++)
+                    {
+                        for (int localZ = 0; localZ < settings.cellWidth(); localZ++)
+                        {
+                            list.updateForXZ((double) localX / settings.cellWidth(), (double) localZ / settings.cellWidth());
+                            for (int localY = settings.cellHeight() - 1; localY >= 0; localY--)
+                            {
+                                list.updateForY((double) localY / settings.cellHeight());
+                                blackhole.consume(noiseCaves.sample());
+                            }
+                        }
+                    }
+                }
+            }
+            list.swapSlices();
+        }
+    }
+
+    private static ChunkNoiseSamplingSettings createSettings(ChunkPos pos)
+    {
+        final int cellWidth = NOISE_SETTINGS.getCellWidth();
+        final int cellHeight = NOISE_SETTINGS.getCellHeight();
+        return new ChunkNoiseSamplingSettings(
+            NOISE_SETTINGS.minY(),
+            16 / cellWidth,
+            NOISE_SETTINGS.height() / cellHeight,
+            cellWidth,
+            cellHeight,
+            Math.floorDiv(pos.getMinBlockX(), cellWidth),
+            Math.floorDiv(NOISE_SETTINGS.minY(), cellHeight),
+            Math.floorDiv(pos.getMinBlockZ(), cellWidth)
+        );
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import net.dries007.tfc.util.calendar.ICalendar;
+import net.dries007.tfc.util.climate.OverworldClimateModel;
+
+/**
+ * Queries the weather timeline of the overworld climate model, per operation.
+ * <ul>
+ *     <li>The {@code sequential} benchmarks advance one tick per query, as the weather is queried during normal play, which almost always
+ *     hits the cached segment or day.</li>
+ *     <li>The {@code scattered} benchmarks jump far enough between queries that every query misses the cache, which is the cost of
+ *     a query without the cache (re-seeding a random per query).</li>
+ * </ul>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ClimateBenchmark
+{
+    // Larger than any segment or day, so every query is in a segment or day that has not been seen before
+    private static final long SCATTER = 33L * 105_600L;
+
+    private final Model model = new Model();
+    private long tick;
+
+    @Benchmark
+    public float sequentialRain()
+    {
+        return model.getRain(tick++);
+    }
+
+    @Benchmark
+    public float scatteredRain()
+    {
+        return model.getRain(tick += SCATTER);
+    }
+
+    @Benchmark
+    public boolean sequentialThunder()
+    {
+        return model.getThunder(tick++);
+    }
+
+    @Benchmark
+    public boolean scatteredThunder()
+    {
+        return model.getThunder(tick += SCATTER);
+    }
+
+    @Benchmark
+    public float sequentialDailyTemperature()
+    {
+        return model.dailyTemperature(tick++);
+    }
+
+    @Benchmark
+    public float scatteredDailyTemperature()
+    {
+        return model.dailyTemperature(tick += ICalendar.CALENDAR_TICKS_IN_DAY * 17L);
+    }
+
+    static class Model extends OverworldClimateModel
+    {
+        Model()
+        {
+            super(WorldGenFixture.SEED, 1f);
+        }
+
+        float dailyTemperature(long calendarTicks)
+        {
+            return calculateDailyTemperature(calendarTicks);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import net.minecraft.world.level.ChunkPos;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import net.dries007.tfc.world.noise.Cellular2D;
+import net.dries007.tfc.world.noise.Noise2D;
+import net.dries007.tfc.world.noise.OpenSimplex2D;
+import net.dries007.tfc.world.noise.OpenSimplex3D;
+
+/**
+ * Samples each noise type over a 16x16 grid, the size of a chunk, per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NoiseBenchmark
+{
+    private final Noise2D simplex2D = new OpenSimplex2D(WorldGenFixture.SEED).spread(0.02f);
+    private final Noise2D simplex2DOctaves = new OpenSimplex2D(WorldGenFixture.SEED).octaves(4).spread(0.02f);
+    private final Noise2D cellular2D = new Cellular2D(WorldGenFixture.SEED).spread(0.02f);
+    private final OpenSimplex3D simplex3D = new OpenSimplex3D(WorldGenFixture.SEED).spread(0.02f);
+
+    // A typical composition of noise combinators, similar to those used for region climate
+    private final Noise2D composed2D = ((Noise2D) (x, z) -> Math.sin(0.001 * x))
+        .scaled(-20f, 30f)
+        .add(new OpenSimplex2D(WorldGenFixture.SEED)
+            .octaves(2)
+            .spread(0.15f)
+            .scaled(-3f, 3f));
+
+    private final double[] out = new double[16 * 16];
+    private int chunk;
+
+    @Benchmark
+    public double openSimplex2D()
+    {
+        return sample(simplex2D);
+    }
+
+    @Benchmark
+    public double openSimplex2DOctaves()
+    {
+        return sample(simplex2DOctaves);
+    }
+
+    @Benchmark
+    public double cellular2D()
+    {
+        return sample(cellular2D);
+    }
+
+    @Benchmark
+    public double composed2D()
+    {
+        return sample(composed2D);
+    }
+
+    @Benchmark
+    public double[] composed2DFill()
+    {
+        final ChunkPos pos = WorldGenFixture.chunkPos(chunk++);
+        composed2D.fill(out, pos.getMinBlockX(), pos.getMinBlockZ(), 16, 16, 1);
+        return out;
+    }
+
+    @Benchmark
+    public double openSimplex3D()
+    {
+        final ChunkPos pos = WorldGenFixture.chunkPos(chunk++);
+        double sum = 0;
+        for (int x = 0; x < 16; x++)
+        {
+            for (int z = 0; z < 16; z++)
+            {
+                sum += simplex3D.noise(pos.getMinBlockX() + x, 64, pos.getMinBlockZ() + z);
+            }
+        }
+        return sum;
+    }
+
+    private double sample(Noise2D noise)
+    {
+        final ChunkPos pos = WorldGenFixture.chunkPos(chunk++);
+        double sum = 0;
+        for (int x = 0; x < 16; x++)
+        {
+            for (int z = 0; z < 16; z++)
+            {
+                sum += noise.noise(pos.getMinBlockX() + x, pos.getMinBlockZ() + z);
+            }
+        }
+        return sum;
+    }
+}
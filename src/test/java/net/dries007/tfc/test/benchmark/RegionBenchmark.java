@@ -0,0 +1,54 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import net.minecraft.world.level.levelgen.XoroshiroRandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.dries007.tfc.world.region.RegionGenerator;
+import net.dries007.tfc.world.region.Units;
+import net.dries007.tfc.world.settings.Settings;
+
+/**
+ * Creates a complete region, running every region task, per operation. This bypasses the region cache, so every operation does the full
+ * amount of work that a cache miss would.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RegionBenchmark
+{
+    private static final int CELLS = 8;
+
+    private RegionGenerator generator;
+    private int cell;
+
+    @Setup
+    public void setup()
+    {
+        final Settings settings = WorldGenFixture.get().settings;
+        generator = new RegionGenerator(settings, new XoroshiroRandomSource(WorldGenFixture.SEED));
+    }
+
+    @Benchmark
+    public void createRegion(Blackhole blackhole)
+    {
+        // Cycle through a fixed set of cells, so results are reproducible
+        final int index = cell++ % (CELLS * CELLS);
+        final int gridX = Units.cellToGrid(index % CELLS), gridZ = Units.cellToGrid(index / CELLS);
+
+        generator.visualizeRegion(gridX, gridZ, (task, region) -> blackhole.consume(region));
+    }
+}
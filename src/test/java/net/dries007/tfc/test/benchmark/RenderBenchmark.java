@@ -0,0 +1,129 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import com.mojang.blaze3d.platform.NativeImage;
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import net.minecraft.client.renderer.texture.SpriteContents;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.client.resources.metadata.animation.FrameSize;
+import net.minecraft.server.packs.resources.ResourceMetadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import net.dries007.tfc.client.RenderHelpers;
+import net.dries007.tfc.util.Helpers;
+
+/**
+ * Renders the contents of a single block entity, i.e. the fluid and item cuboids of a barrel, into a vertex consumer that discards all vertices,
+ * per operation. This measures the overhead of building vertices, not of uploading them.
+ * <p>
+ * This is mostly interesting with the GC profiler, i.e. {@code -Pbenchmark="-prof gc RenderBenchmark"}, where {@code gc.alloc.rate.norm} is the number
+ * of bytes allocated per rendered block entity. The {@code legacy} benchmark renders the same cuboids via arrays of vertices, as was done previously.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RenderBenchmark
+{
+    private final PoseStack poseStack = new PoseStack();
+    private final CountingVertexConsumer buffer = new CountingVertexConsumer();
+
+    private NativeImage image;
+    private TextureAtlasSprite sprite;
+
+    @Setup
+    public void setup()
+    {
+        image = new NativeImage(16, 16, false);
+        sprite = new TextureAtlasSprite(Helpers.identifier("benchmark"), new SpriteContents(Helpers.identifier("benchmark"), new FrameSize(16, 16), image, ResourceMetadata.EMPTY), 256, 256, 0, 0) {};
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        image.close();
+    }
+
+    @Benchmark
+    public int cuboids()
+    {
+        RenderHelpers.renderTexturedCuboid(poseStack, buffer, sprite, 0, 0, 2 / 16f, 1 / 16f, 2 / 16f, 14 / 16f, 10 / 16f, 14 / 16f);
+        RenderHelpers.renderTexturedCuboid(poseStack, buffer, sprite, 0, 0, 4 / 16f, 10 / 16f, 4 / 16f, 12 / 16f, 12 / 16f, 12 / 16f);
+        RenderHelpers.renderTexturedTrapezoidalCuboid(poseStack, buffer, sprite, 0, 0, 2 / 16f, 14 / 16f, 2 / 16f, 14 / 16f, 3 / 16f, 13 / 16f, 3 / 16f, 13 / 16f, 12 / 16f, 14 / 16f, 12, 2, 12, false);
+        return buffer.vertices;
+    }
+
+    @Benchmark
+    public int legacyCuboids()
+    {
+        legacyCuboid(2 / 16f, 1 / 16f, 2 / 16f, 14 / 16f, 10 / 16f, 14 / 16f);
+        legacyCuboid(4 / 16f, 10 / 16f, 4 / 16f, 12 / 16f, 12 / 16f, 12 / 16f);
+        RenderHelpers.renderTexturedQuads(poseStack, buffer, sprite, 0, 0, RenderHelpers.getTrapezoidalCuboidXVertices(2 / 16f, 14 / 16f, 2 / 16f, 14 / 16f, 3 / 16f, 13 / 16f, 3 / 16f, 13 / 16f, 12 / 16f, 14 / 16f), 12, 2, 1, 0, 0, true);
+        RenderHelpers.renderTexturedQuads(poseStack, buffer, sprite, 0, 0, RenderHelpers.getTrapezoidalCuboidYVertices(2 / 16f, 14 / 16f, 2 / 16f, 14 / 16f, 3 / 16f, 13 / 16f, 3 / 16f, 13 / 16f, 12 / 16f, 14 / 16f), 12, 12, 0, 1, 0, true);
+        RenderHelpers.renderTexturedQuads(poseStack, buffer, sprite, 0, 0, RenderHelpers.getTrapezoidalCuboidZVertices(2 / 16f, 14 / 16f, 2 / 16f, 14 / 16f, 3 / 16f, 13 / 16f, 3 / 16f, 13 / 16f, 12 / 16f, 14 / 16f), 12, 2, 0, 0, 1, true);
+        return buffer.vertices;
+    }
+
+    private void legacyCuboid(float minX, float minY, float minZ, float maxX, float maxY, float maxZ)
+    {
+        final float xPixels = 16f * (maxX - minX), yPixels = 16f * (maxY - minY), zPixels = 16f * (maxZ - minZ);
+        RenderHelpers.renderTexturedQuads(poseStack, buffer, sprite, 0, 0, RenderHelpers.getXVertices(minX, minY, minZ, maxX, maxY, maxZ), zPixels, yPixels, 1, 0, 0, true);
+        RenderHelpers.renderTexturedQuads(poseStack, buffer, sprite, 0, 0, RenderHelpers.getYVertices(minX, minY, minZ, maxX, maxY, maxZ), zPixels, xPixels, 0, 1, 0, true);
+        RenderHelpers.renderTexturedQuads(poseStack, buffer, sprite, 0, 0, RenderHelpers.getZVertices(minX, minY, minZ, maxX, maxY, maxZ), xPixels, yPixels, 0, 0, 1, true);
+    }
+
+    static class CountingVertexConsumer implements VertexConsumer
+    {
+        int vertices;
+
+        @Override
+        public VertexConsumer addVertex(float x, float y, float z)
+        {
+            vertices++;
+            return this;
+        }
+
+        @Override
+        public VertexConsumer setColor(int red, int green, int blue, int alpha)
+        {
+            return this;
+        }
+
+        @Override
+        public VertexConsumer setUv(float u, float v)
+        {
+            return this;
+        }
+
+        @Override
+        public VertexConsumer setUv1(int u, int v)
+        {
+            return this;
+        }
+
+        @Override
+        public VertexConsumer setUv2(int u, int v)
+        {
+            return this;
+        }
+
+        @Override
+        public VertexConsumer setNormal(float normalX, float normalY, float normalZ)
+        {
+            return this;
+        }
+    }
+}
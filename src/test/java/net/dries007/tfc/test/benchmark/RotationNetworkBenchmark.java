@@ -0,0 +1,77 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test.benchmark;
+
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import net.dries007.tfc.util.rotation.AxleNode;
+import net.dries007.tfc.util.rotation.Node;
+import net.dries007.tfc.util.rotation.RotationNetworkManager;
+import net.dries007.tfc.util.rotation.SourceNode;
+
+/**
+ * Adds and then removes a single axle, per operation, in a world with a large number of existing, disjoint, networks. Each network is a
+ * source with a single axle attached, and the added axle is either attached to the end of one of the networks, or placed disconnected.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RotationNetworkBenchmark
+{
+    private static final EnumSet<Direction> AXIS_Z = Node.ofAxis(Direction.Axis.Z);
+
+    @Param({"100", "10000"})
+    public int networks;
+
+    private RotationNetworkManager manager;
+    private int index;
+
+    @Setup
+    public void setup()
+    {
+        manager = new RotationNetworkManager();
+        for (int i = 0; i < networks; i++)
+        {
+            manager.addSource(new SourceNode(new BlockPos(i * 3, 0, 0), EnumSet.of(Direction.SOUTH), Direction.SOUTH, 1.0f) {});
+            manager.add(new AxleNode(new BlockPos(i * 3, 0, 1), AXIS_Z));
+        }
+    }
+
+    @Benchmark
+    public boolean addAndRemoveConnected()
+    {
+        final Node node = new AxleNode(new BlockPos(next() * 3, 0, 2), AXIS_Z);
+        final boolean added = manager.add(node);
+        manager.remove(node);
+        return added;
+    }
+
+    @Benchmark
+    public boolean addAndRemoveDisconnected()
+    {
+        final Node node = new AxleNode(new BlockPos(next() * 3, 0, 4), AXIS_Z);
+        final boolean added = manager.add(node);
+        manager.remove(node);
+        return added;
+    }
+
+    private int next()
+    {
+        return index = (index + 1) % networks;
+    }
+}
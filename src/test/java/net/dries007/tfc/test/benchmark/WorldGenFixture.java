@@ -0,0 +1,134 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test.benchmark;
+
+import com.mojang.serialization.Lifecycle;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.minecraft.core.Holder;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.core.MappedRegistry;
+import net.minecraft.core.QuartPos;
+import net.minecraft.core.Registry;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.core.RegistrySetBuilder;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.data.registries.VanillaRegistries;
+import net.minecraft.data.worldgen.NoiseData;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.LevelHeightAccessor;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.biome.Biomes;
+import net.minecraft.world.level.chunk.ProtoChunk;
+import net.minecraft.world.level.chunk.UpgradeData;
+import net.minecraft.world.level.levelgen.Beardifier;
+import net.minecraft.world.level.levelgen.NoiseGeneratorSettings;
+import net.minecraft.world.level.levelgen.NoiseRouterData;
+import net.minecraft.world.level.levelgen.structure.pools.JigsawJunction;
+import org.jetbrains.annotations.Nullable;
+
+import net.dries007.tfc.data.providers.BuiltinDensityFunctions;
+import net.dries007.tfc.data.providers.BuiltinWorldPreset;
+import net.dries007.tfc.world.TFCChunkGenerator;
+import net.dries007.tfc.world.biome.BiomeExtension;
+import net.dries007.tfc.world.biome.RegionBiomeSource;
+import net.dries007.tfc.world.noise.NoiseSampler;
+import net.dries007.tfc.world.region.RegionGenerator;
+import net.dries007.tfc.world.settings.Settings;
+
+/**
+ * A fully initialized {@link TFCChunkGenerator}, built without a level or server, from a fixed seed and the default TFC world preset {@link Settings}.
+ * This is shared between all benchmarks, as it is expensive to create.
+ */
+public final class WorldGenFixture
+{
+    public static final long SEED = 1234567890L;
+
+    /** The number of distinct chunks, in a square, that chunk based benchmarks cycle through. */
+    public static final int CHUNK_AREA = 32;
+
+    private static @Nullable WorldGenFixture instance;
+
+    public static synchronized WorldGenFixture get()
+    {
+        if (instance == null)
+        {
+            instance = new WorldGenFixture();
+        }
+        return instance;
+    }
+
+    /**
+     * @return The i-th chunk position that benchmarks should use, cycling through a fixed area of chunks.
+     */
+    public static ChunkPos chunkPos(int index)
+    {
+        final int i = Math.floorMod(index, CHUNK_AREA * CHUNK_AREA);
+        return new ChunkPos(i % CHUNK_AREA, i / CHUNK_AREA);
+    }
+
+    public final Settings settings;
+    public final TFCChunkGenerator generator;
+    public final RegionGenerator regionGenerator;
+    public final NoiseSampler noiseSampler;
+
+    private final LevelHeightAccessor height;
+    private final Registry<Biome> biomes;
+
+    private WorldGenFixture()
+    {
+        final HolderLookup.Provider vanilla = VanillaRegistries.createLookup();
+        final HolderLookup.Provider registries = new RegistrySetBuilder()
+            .add(Registries.NOISE, NoiseData::bootstrap)
+            .add(Registries.DENSITY_FUNCTION, context -> {
+                NoiseRouterData.bootstrap(context);
+                BuiltinDensityFunctions.load(context);
+            })
+            .build(RegistryAccess.fromRegistryOfRegistries(BuiltInRegistries.REGISTRY));
+
+        // Proto chunks require a biome registry to create their biome containers, but the contents are never used
+        final MappedRegistry<Biome> biomes = new MappedRegistry<>(Registries.BIOME, Lifecycle.stable());
+        Registry.register(biomes, Biomes.PLAINS, vanilla.lookupOrThrow(Registries.BIOME).getOrThrow(Biomes.PLAINS).value());
+        biomes.freeze();
+
+        final Holder<NoiseGeneratorSettings> noiseSettings = vanilla.lookupOrThrow(Registries.NOISE_SETTINGS).getOrThrow(NoiseGeneratorSettings.OVERWORLD);
+
+        this.settings = BuiltinWorldPreset.defaultSettings();
+        this.generator = new TFCChunkGenerator(
+            new RegionBiomeSource(vanilla.lookupOrThrow(Registries.BIOME)),
+            noiseSettings,
+            settings
+        );
+        this.regionGenerator = generator.initRandomState(SEED, registries.lookupOrThrow(Registries.NOISE), registries.lookupOrThrow(Registries.DENSITY_FUNCTION));
+        this.noiseSampler = new NoiseSampler(SEED, registries.lookupOrThrow(Registries.NOISE), registries.lookupOrThrow(Registries.DENSITY_FUNCTION));
+        this.height = LevelHeightAccessor.create(noiseSettings.value().noiseSettings().minY(), noiseSettings.value().noiseSettings().height());
+        this.biomes = biomes;
+    }
+
+    /**
+     * @return A new, empty, proto chunk at the given position, with chunk data already generated (as is done in {@code createBiomes}).
+     */
+    public ProtoChunk createChunk(ChunkPos pos)
+    {
+        final ProtoChunk chunk = new ProtoChunk(pos, UpgradeData.EMPTY, height, biomes, null);
+        generator.chunkDataGenerator().generate(chunk);
+        return chunk;
+    }
+
+    /**
+     * @return A beardifier without any structures, so noise filling is not affected by structures.
+     */
+    public Beardifier emptyBeardifier()
+    {
+        return new Beardifier(new ObjectArrayList<Beardifier.Rigid>().iterator(), new ObjectArrayList<JigsawJunction>().iterator());
+    }
+
+    public BiomeExtension sampleBiomeNoRiver(int blockX, int blockZ)
+    {
+        return ((RegionBiomeSource) generator.getBiomeSource()).getBiomeExtensionNoRiver(QuartPos.fromBlock(blockX), QuartPos.fromBlock(blockZ));
+    }
+}
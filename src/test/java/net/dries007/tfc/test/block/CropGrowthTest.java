@@ -0,0 +1,132 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test.block;
+
+import net.minecraft.util.RandomSource;
+import org.junit.jupiter.api.Test;
+
+import net.dries007.tfc.common.blockentities.FarmlandBlockEntity.NutrientType;
+import net.dries007.tfc.common.blockentities.IFarmland;
+import net.dries007.tfc.common.blocks.crop.CropGrowth;
+import net.dries007.tfc.common.blocks.crop.CropHelpers;
+import net.dries007.tfc.test.TestSetup;
+import net.dries007.tfc.util.climate.ClimateRange;
+
+import static net.dries007.tfc.test.TestAssertions.*;
+
+public class CropGrowthTest implements TestSetup
+{
+    private static final ClimateRange RANGE = new ClimateRange(0, 100, 0, 0f, 30f, 5f);
+    private static final int HYDRATION = 50;
+    private static final float TEMPERATURE = 15f;
+
+    /**
+     * The catch-up path steps a single {@link CropGrowth} many times, whereas the per-tick path creates a new one from the crop for each step.
+     * Until the crop is certain to expire, these must be identical.
+     */
+    @Test
+    public void testCatchUpMatchesPerStep()
+    {
+        final long seed = seed();
+        final Farmland catchUpFarmland = new Farmland(), perStepFarmland = new Farmland();
+        final CropGrowth catchUp = create(catchUpFarmland, 0.8f, 0, 0, 0);
+        final RandomSource catchUpRandom = RandomSource.create(seed), perStepRandom = RandomSource.create(seed);
+
+        float growth = 0, expiry = 0, yield = 0;
+        for (int step = 0; step < 10; step++)
+        {
+            final CropGrowth perStep = create(perStepFarmland, 0.8f, growth, expiry, yield);
+
+            assertTrue(catchUp.step(catchUpRandom, CropHelpers.UPDATE_INTERVAL, TEMPERATURE, TEMPERATURE));
+            assertTrue(perStep.step(perStepRandom, CropHelpers.UPDATE_INTERVAL, TEMPERATURE, TEMPERATURE));
+            assertFalse(catchUp.expireIfCertain(CropHelpers.UPDATE_INTERVAL));
+
+            growth = perStep.growth();
+            expiry = perStep.expiry();
+            yield = perStep.yield();
+
+            assertEquals(growth, catchUp.growth(), "growth at step " + step);
+            assertEquals(expiry, catchUp.expiry(), "expiry at step " + step);
+            assertEquals(yield, catchUp.yield(), "yield at step " + step);
+            for (NutrientType type : NutrientType.VALUES)
+            {
+                assertEquals(perStepFarmland.getNutrient(type), catchUpFarmland.getNutrient(type), type.name() + " at step " + step);
+            }
+        }
+    }
+
+    /**
+     * If a crop is killed early, it must have died with the same growth, by the end of the period, in the per-tick path, regardless of random growth rates.
+     */
+    @Test
+    public void testEarlyExpiryOnlyWhenCertain()
+    {
+        final long seed = seed();
+        int expiredEarly = 0;
+        for (int remainingSteps = 1; remainingSteps <= 20; remainingSteps++)
+        {
+            final long remainingTicks = remainingSteps * CropHelpers.UPDATE_INTERVAL;
+            final CropGrowth early = create(new Farmland(), 1f, 1f, 1.5f, 0.5f);
+            if (!early.expireIfCertain(remainingTicks))
+            {
+                continue;
+            }
+            expiredEarly++;
+
+            for (int i = 0; i < 50; i++)
+            {
+                final RandomSource random = RandomSource.create(seed + i);
+                final CropGrowth perStep = create(new Farmland(), 1f, 1f, 1.5f, 0.5f);
+                int step = 0;
+                while (step < remainingSteps && perStep.step(random, CropHelpers.UPDATE_INTERVAL, TEMPERATURE, TEMPERATURE))
+                {
+                    step++;
+                }
+                assertTrue(step < remainingSteps, "Crop expired early, but survived " + remainingSteps + " steps");
+                assertEquals(early.growth(), perStep.growth());
+            }
+        }
+        assertTrue(expiredEarly > 0, "Crop never expired early");
+        assertFalse(create(new Farmland(), 1f, 1f, 1.5f, 0.5f).expireIfCertain(CropHelpers.UPDATE_INTERVAL), "Crop expired early with only one step remaining");
+    }
+
+    @Test
+    public void testNoEarlyExpiryWhileGrowing()
+    {
+        assertFalse(create(new Farmland(), 0.8f, 0.5f, 1.9f, 0.5f).expireIfCertain(1000 * CropHelpers.UPDATE_INTERVAL));
+    }
+
+    @Test
+    public void testEarlyExpiryConsumesNutrients()
+    {
+        final Farmland farmland = new Farmland();
+        assertTrue(create(farmland, 1f, 1f, 1.5f, 0.5f).expireIfCertain(1000 * CropHelpers.UPDATE_INTERVAL));
+        assertTrue(farmland.getNutrient(NutrientType.NITROGEN) < 1f);
+    }
+
+    private static CropGrowth create(IFarmland farmland, float growthLimit, float growth, float expiry, float yield)
+    {
+        return new CropGrowth(RANGE, HYDRATION, farmland, NutrientType.NITROGEN, growthLimit, 1f, 1f, growth, expiry, yield);
+    }
+
+    static class Farmland implements IFarmland
+    {
+        private final float[] nutrients = {1f, 1f, 1f};
+
+        @Override
+        public float getNutrient(NutrientType type)
+        {
+            return nutrients[type.ordinal()];
+        }
+
+        @Override
+        public void setNutrient(NutrientType type, float value)
+        {
+            nutrients[type.ordinal()] = Math.clamp(value, 0f, 1f);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test.item;
+
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import org.junit.jupiter.api.Test;
+
+import net.dries007.tfc.common.component.food.FoodCapability;
+import net.dries007.tfc.common.component.heat.HeatCapability;
+import net.dries007.tfc.common.recipes.RecipeHelpers;
+import net.dries007.tfc.test.TestSetup;
+import net.dries007.tfc.util.data.Fuel;
+
+import static net.dries007.tfc.test.TestAssertions.*;
+
+public class DefinitionCacheTest implements TestSetup
+{
+    @Test
+    public void testResolvedDefinitionsMatchTestingEachCandidate()
+    {
+        int resolved = 0;
+        for (Item item : BuiltInRegistries.ITEM)
+        {
+            final ItemStack stack = new ItemStack(item);
+            assertSame(RecipeHelpers.getRecipe(HeatCapability.CACHE.getAll(item), stack), HeatCapability.getDefinition(stack), "heat: " + item);
+            assertSame(RecipeHelpers.getRecipe(FoodCapability.CACHE.getAll(item), stack), FoodCapability.getDefinition(stack), "food: " + item);
+            assertSame(RecipeHelpers.getRecipe(Fuel.CACHE.getAll(item), stack), Fuel.get(stack), "fuel: " + item);
+            if (HeatCapability.getDefinition(stack) != null)
+            {
+                resolved++;
+            }
+        }
+        assertTrue(resolved > 0);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test.item;
+
+import java.util.function.IntPredicate;
+import it.unimi.dsi.fastutil.ints.Int2FloatFunction;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import net.dries007.tfc.common.blocks.rock.Ore;
+import net.dries007.tfc.common.component.heat.HeatCapability;
+import net.dries007.tfc.common.component.heat.HeatingScheduler;
+import net.dries007.tfc.common.component.heat.IHeat;
+import net.dries007.tfc.common.items.TFCItems;
+import net.dries007.tfc.common.recipes.HeatingRecipe;
+import net.dries007.tfc.test.TestSetup;
+import net.dries007.tfc.util.calendar.CalendarTransaction;
+import net.dries007.tfc.util.calendar.Calendars;
+
+import static net.dries007.tfc.test.TestAssertions.*;
+
+public class HeatingSchedulerTest implements TestSetup
+{
+    private static final int MAX_TICKS = 3000;
+
+    @Test
+    public void testConstantDeviceTemperature()
+    {
+        assertScheduledHeatingMatchesPerTick(tick -> 1500f, tick -> false);
+    }
+
+    @Test
+    public void testChangingDeviceTemperature()
+    {
+        assertScheduledHeatingMatchesPerTick(tick -> tick < 500 ? 300f : tick < 1500 ? 900f : 1500f, tick -> false);
+    }
+
+    @Test
+    public void testBelowRecipeTemperature()
+    {
+        assertScheduledHeatingMatchesPerTick(tick -> 400f, tick -> false);
+    }
+
+    @Test
+    public void testMarkedDueKeepsSkippedTicks()
+    {
+        // i.e. a fuel slot changing in a fire pit, which updates recipes, but should not lose the progress of the item being heated
+        assertScheduledHeatingMatchesPerTick(tick -> 1500f, tick -> tick % 37 == 0);
+    }
+
+    @Test
+    public void testLongGapHeatsOnceFromCurrentTemperature()
+    {
+        // i.e. a device which was not ticked, as it was in an unloaded chunk, should not replay heating from before it was unloaded
+        final ItemStack stack = new ItemStack(TFCItems.GRADED_ORES.get(Ore.NATIVE_COPPER).get(Ore.Grade.NORMAL));
+        final ItemStack expectedStack = stack.copy(), scheduledStack = stack.copy();
+        final @Nullable IHeat expected = HeatCapability.get(expectedStack), scheduled = HeatCapability.get(scheduledStack);
+
+        assertNotNull(expected);
+        assertNotNull(scheduled);
+
+        final HeatingScheduler scheduler = new HeatingScheduler(1);
+        try (CalendarTransaction tr = Calendars.get().transaction())
+        {
+            scheduler.tick(1500f);
+            scheduler.heat(0, scheduled, 1500f, null, 0);
+            HeatCapability.addTemp(expected, 1500f);
+
+            tr.add(MAX_TICKS);
+            scheduler.tick(1500f);
+            assertTrue(scheduler.isDue(0, MAX_TICKS));
+            scheduler.heat(0, scheduled, 1500f, null, MAX_TICKS);
+            HeatCapability.addTemp(expected, 1500f);
+
+            assertEquals(expected.getTemperature(), scheduled.getTemperature(), 0.01f);
+        }
+    }
+
+    /**
+     * Heats two copies of the same item with a heating recipe, one each tick with {@link HeatCapability#addTemp(IHeat, float)}, and one only when
+     * scheduled. Whenever the scheduled item is heated, it must have the same temperature as the other, and it must be heated when the recipe
+     * would complete.
+     */
+    private void assertScheduledHeatingMatchesPerTick(Int2FloatFunction deviceTemperature, IntPredicate markDue)
+    {
+        final ItemStack stack = new ItemStack(TFCItems.GRADED_ORES.get(Ore.NATIVE_COPPER).get(Ore.Grade.NORMAL));
+        final ItemStack perTickStack = stack.copy(), scheduledStack = stack.copy();
+        final @Nullable IHeat perTick = HeatCapability.get(perTickStack), scheduled = HeatCapability.get(scheduledStack);
+        final @Nullable HeatingRecipe recipe = HeatingRecipe.getRecipe(stack);
+
+        assertNotNull(perTick);
+        assertNotNull(scheduled);
+        assertNotNull(recipe);
+
+        final HeatingScheduler scheduler = new HeatingScheduler(1);
+        int ticks = 0, heated = 0, perTickValid = -1, scheduledValid = -1;
+        try (CalendarTransaction tr = Calendars.get().transaction())
+        {
+            // Devices would complete the recipe once the item reaches its temperature, so stop once both have
+            for (; ticks < MAX_TICKS && (perTickValid == -1 || scheduledValid == -1); ticks++)
+            {
+                final int tick = ticks;
+                final float temperature = deviceTemperature.get(tick);
+                if (markDue.test(tick))
+                {
+                    scheduler.markAllDue();
+                }
+
+                HeatCapability.addTemp(perTick, temperature);
+                if (perTickValid == -1 && recipe.isValidTemperature(perTick.getTemperature()))
+                {
+                    perTickValid = tick;
+                }
+
+                scheduler.tick(temperature);
+                if (scheduler.isDue(0, tick))
+                {
+                    scheduler.heat(0, scheduled, temperature, recipe, tick);
+                    heated++;
+
+                    assertEquals(perTick.getTemperature(), scheduled.getTemperature(), 0.01f, "Temperature at tick " + tick);
+                    if (scheduledValid == -1 && recipe.isValidTemperature(scheduled.getTemperature()))
+                    {
+                        scheduledValid = tick;
+                    }
+                }
+                tr.add(1);
+            }
+        }
+
+        // Allow for rounding, as the scheduled tick is computed directly, rather than by accumulating each tick
+        assertTrue(Math.abs(perTickValid - scheduledValid) <= 1, "Recipe valid at tick " + perTickValid + " per tick, but " + scheduledValid + " scheduled");
+        assertTrue(heated < ticks / 2, "Heated on " + heated + " / " + ticks + " ticks");
+    }
+}
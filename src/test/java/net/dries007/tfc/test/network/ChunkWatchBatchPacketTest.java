@@ -0,0 +1,97 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test.network;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.world.level.ChunkPos;
+import org.junit.jupiter.api.Test;
+
+import net.dries007.tfc.network.ChunkWatchBatchPacket;
+import net.dries007.tfc.network.ChunkWatchPacket;
+import net.dries007.tfc.test.TestSetup;
+import net.dries007.tfc.world.chunkdata.ForestType;
+import net.dries007.tfc.world.chunkdata.LerpFloatLayer;
+
+import static net.dries007.tfc.test.TestAssertions.*;
+
+public class ChunkWatchBatchPacketTest implements TestSetup
+{
+    @Test
+    public void testRoundTripOfAdjacentChunks()
+    {
+        // A grid of chunks which share corners with their neighbors, as generated chunks do
+        final Random random = new Random(seed());
+        final int size = 8;
+        final float[][][] corners = new float[4][size + 1][size + 1];
+        for (float[][] layer : corners)
+        {
+            for (float[] row : layer)
+            {
+                for (int i = 0; i < row.length; i++)
+                {
+                    row[i] = random.nextFloat() * 500f - 50f;
+                }
+            }
+        }
+
+        final List<ChunkWatchPacket> chunks = new ArrayList<>();
+        for (int z = 0; z < size; z++)
+        {
+            for (int x = 0; x < size; x++)
+            {
+                chunks.add(new ChunkWatchPacket(new ChunkPos(x - 3, z + 100), layer(corners[0], x, z), layer(corners[1], x, z), layer(corners[2], x, z), layer(corners[3], x, z), ForestType.valueOf(random.nextInt(ForestType.values().length))));
+            }
+        }
+        assertRoundTrip(chunks);
+    }
+
+    @Test
+    public void testRoundTripOfUnrelatedChunks()
+    {
+        final Random random = new Random(seed());
+        final List<ChunkWatchPacket> chunks = new ArrayList<>();
+        for (int i = 0; i < 100; i++)
+        {
+            chunks.add(new ChunkWatchPacket(new ChunkPos(random.nextInt(200000) - 100000, random.nextInt(200000) - 100000), randomLayer(random), randomLayer(random), randomLayer(random), randomLayer(random), ForestType.GRASSLAND));
+        }
+
+        // Values which are not representable in fixed point, or in an integer number of bits
+        chunks.add(new ChunkWatchPacket(new ChunkPos(0, 0), new LerpFloatLayer(-0f, 1e-7f, 3.4e38f, -3.4e38f), new LerpFloatLayer(0.1f, 0.2f, 0.3f, 0.4f), new LerpFloatLayer(1f / 3f, -1f / 3f, 0, 0), new LerpFloatLayer(-25.123456f, 40.000004f, 0, 0), ForestType.GRASSLAND));
+        assertRoundTrip(chunks);
+    }
+
+    @Test
+    public void testRoundTripOfNoChunks()
+    {
+        assertRoundTrip(List.of());
+    }
+
+    private static void assertRoundTrip(List<ChunkWatchPacket> chunks)
+    {
+        final ByteBuf buffer = Unpooled.buffer();
+        ChunkWatchBatchPacket.CODEC.encode(buffer, new ChunkWatchBatchPacket(chunks));
+
+        final ChunkWatchBatchPacket decoded = ChunkWatchBatchPacket.CODEC.decode(buffer);
+
+        assertEquals(0, buffer.readableBytes());
+        assertEquals(chunks, decoded.chunks()); // Records compare float components by bits, so this checks values are exact
+    }
+
+    private static LerpFloatLayer layer(float[][] corners, int x, int z)
+    {
+        return new LerpFloatLayer(corners[x][z], corners[x][z + 1], corners[x + 1][z], corners[x + 1][z + 1]);
+    }
+
+    private static LerpFloatLayer randomLayer(Random random)
+    {
+        return new LerpFloatLayer(random.nextFloat() * 100f, random.nextFloat() * -100f, random.nextFloat(), random.nextFloat() * 1000f);
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.ChunkPos;
+import org.junit.jupiter.api.Test;
+
+import net.dries007.tfc.util.tracker.BlockPosSchedule;
+
+import static net.dries007.tfc.test.TestAssertions.*;
+
+public class BlockPosScheduleTest
+{
+    private static final BlockPos POS = new BlockPos(5, 64, -3);
+    private static final BlockPos OTHER_POS = new BlockPos(40, 12, 100);
+
+    @Test
+    public void testVisitedWhenDue()
+    {
+        final BlockPosSchedule schedule = new BlockPosSchedule();
+        schedule.schedule(POS, 2);
+        schedule.schedule(OTHER_POS, 0); // Less than one, so visited next tick
+
+        assertEquals(List.of(OTHER_POS), tick(schedule));
+        assertEquals(List.of(POS), tick(schedule));
+        assertEquals(List.of(), tick(schedule));
+        assertEquals(0, schedule.size());
+    }
+
+    @Test
+    public void testDelaysLongerThanTheWheel()
+    {
+        final BlockPosSchedule schedule = new BlockPosSchedule();
+        schedule.schedule(POS, 200);
+        schedule.schedule(OTHER_POS, 64);
+        for (int tick = 1; tick <= 300; tick++)
+        {
+            final List<BlockPos> visited = tick(schedule);
+            if (tick == 64)
+            {
+                assertEquals(List.of(OTHER_POS), visited);
+            }
+            else if (tick == 200)
+            {
+                assertEquals(List.of(POS), visited);
+            }
+            else
+            {
+                assertEquals(List.of(), visited, "at tick " + tick);
+            }
+            assertEquals(tick < 64 ? 2 : tick < 200 ? 1 : 0, schedule.size(), "at tick " + tick);
+        }
+    }
+
+    @Test
+    public void testScheduleFromWithinTick()
+    {
+        final BlockPosSchedule schedule = new BlockPosSchedule();
+        final List<BlockPos> visited = new ArrayList<>();
+        schedule.schedule(POS, 1);
+        for (int tick = 0; tick < 200; tick++)
+        {
+            schedule.tick(chunk -> true, pos -> {
+                visited.add(pos);
+                schedule.schedule(pos, 64); // Lands in the same slot of the wheel as the one being visited
+            });
+        }
+        assertEquals(List.of(POS, POS, POS, POS), visited); // Ticks 1, 65, 129, 193
+        assertEquals(1, schedule.size());
+    }
+
+    @Test
+    public void testUnloadedPositionsAreDropped()
+    {
+        final BlockPosSchedule schedule = new BlockPosSchedule();
+        final long unloadedChunk = new ChunkPos(POS).toLong();
+        schedule.schedule(POS, 1);
+        schedule.schedule(OTHER_POS, 1);
+
+        final List<BlockPos> visited = new ArrayList<>();
+        schedule.tick(chunk -> chunk != unloadedChunk, visited::add);
+
+        assertEquals(List.of(OTHER_POS), visited);
+        assertEquals(0, schedule.size());
+        for (int tick = 0; tick < 200; tick++)
+        {
+            assertEquals(List.of(), tick(schedule));
+        }
+    }
+
+    @Test
+    public void testUnloadedPositionsAreKeptUntilDue()
+    {
+        final BlockPosSchedule schedule = new BlockPosSchedule();
+        schedule.schedule(POS, 100);
+
+        // Unloaded when the slot is first visited, but not yet due, so kept for the next rotation
+        for (int tick = 0; tick < 64; tick++)
+        {
+            schedule.tick(chunk -> false, pos -> fail("Visited an unloaded position"));
+        }
+        assertEquals(1, schedule.size());
+
+        final List<BlockPos> visited = new ArrayList<>();
+        for (int tick = 64; tick < 100; tick++)
+        {
+            schedule.tick(chunk -> true, visited::add);
+        }
+        assertEquals(List.of(POS), visited);
+    }
+
+    @Test
+    public void testSaveAndLoad()
+    {
+        final BlockPosSchedule schedule = new BlockPosSchedule();
+        schedule.schedule(POS, 3);
+        schedule.schedule(OTHER_POS, 150);
+        schedule.schedule(OTHER_POS.above(), 7);
+        tick(schedule);
+        tick(schedule);
+
+        // As in WorldTracker, positions are saved with their remaining ticks, and scheduled again on load
+        final Map<BlockPos, Integer> saved = new HashMap<>();
+        schedule.forEach(saved::put);
+        assertEquals(Map.of(POS, 1, OTHER_POS, 148, OTHER_POS.above(), 5), saved);
+
+        final BlockPosSchedule loaded = new BlockPosSchedule();
+        saved.forEach(loaded::schedule);
+        assertEquals(schedule.size(), loaded.size());
+        for (int tick = 0; tick < 200; tick++)
+        {
+            assertEquals(tick(schedule), tick(loaded), "at tick " + tick);
+        }
+        assertEquals(0, loaded.size());
+    }
+
+    @Test
+    public void testClear()
+    {
+        final BlockPosSchedule schedule = new BlockPosSchedule();
+        schedule.schedule(POS, 1);
+        schedule.schedule(OTHER_POS, 100);
+        schedule.clear();
+
+        assertEquals(0, schedule.size());
+        for (int tick = 0; tick < 200; tick++)
+        {
+            assertEquals(List.of(), tick(schedule));
+        }
+    }
+
+    private static List<BlockPos> tick(BlockPosSchedule schedule)
+    {
+        final List<BlockPos> visited = new ArrayList<>();
+        schedule.tick(chunk -> true, visited::add);
+        return visited;
+    }
+}
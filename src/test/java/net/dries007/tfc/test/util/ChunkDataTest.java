@@ -0,0 +1,146 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test.util;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.level.ChunkPos;
+import org.junit.jupiter.api.Test;
+
+import net.dries007.tfc.util.calendar.Month;
+import net.dries007.tfc.world.chunkdata.ChunkClimateTable;
+import net.dries007.tfc.world.chunkdata.ChunkData;
+import net.dries007.tfc.world.chunkdata.ForestType;
+import net.dries007.tfc.world.chunkdata.LerpFloatLayer;
+
+import static net.dries007.tfc.test.TestAssertions.*;
+
+public class ChunkDataTest
+{
+    final ChunkPos POS = new ChunkPos(3, -7);
+
+    @Test
+    public void testRoundTripEmpty()
+    {
+        final ChunkData data = new ChunkData(POS);
+        final ChunkData copy = new ChunkData(POS);
+
+        copy.deserializeNBT(data.serializeNBT());
+
+        assertEquals(ChunkData.Status.EMPTY, copy.status());
+    }
+
+    @Test
+    public void testRoundTripPartial()
+    {
+        final ChunkData data = createPartial();
+        final ChunkData copy = new ChunkData(POS);
+
+        copy.deserializeNBT(data.serializeNBT());
+
+        assertEquals(ChunkData.Status.PARTIAL, copy.status());
+        assertEquals(ForestType.SAVANNA_DIVERSE, copy.getForestType());
+        for (int x = 0; x < 16; x++)
+        {
+            for (int z = 0; z < 16; z++)
+            {
+                assertEquals(data.getRainfall(x, z), copy.getRainfall(x, z));
+                assertEquals(data.getRainVariance(x, z), copy.getRainVariance(x, z));
+                assertEquals(data.getBaseGroundwater(x, z), copy.getBaseGroundwater(x, z));
+                assertEquals(data.getAverageTemp(x, z), copy.getAverageTemp(x, z));
+            }
+        }
+    }
+
+    @Test
+    public void testUnmodifiedDataIsNotReEncoded()
+    {
+        final ChunkData data = createPartial();
+        final byte[] first = data.serializeNBT().getByteArray("data");
+
+        assertSame(first, data.serializeNBT().getByteArray("data"));
+
+        final ChunkData copy = new ChunkData(POS);
+        copy.deserializeNBT(data.serializeNBT());
+
+        assertSame(first, copy.serializeNBT().getByteArray("data"));
+    }
+
+    @Test
+    public void testReadLegacyFormat()
+    {
+        final CompoundTag nbt = new CompoundTag();
+        nbt.putByte("status", (byte) ChunkData.Status.PARTIAL.ordinal());
+        nbt.put("rainfall", new LerpFloatLayer(100, 200, 300, 400).write());
+        nbt.put("rainVariance", new LerpFloatLayer(0.1f, 0.2f, 0.3f, 0.4f).write());
+        nbt.put("baseGroundwater", new LerpFloatLayer(1, 2, 3, 4).write());
+        nbt.put("temperature", new LerpFloatLayer(-5, 5, 10, 15).write());
+        nbt.putByte("forestType", (byte) ForestType.SAVANNA_DIVERSE.ordinal());
+
+        final ChunkData data = new ChunkData(POS);
+        data.deserializeNBT(nbt);
+
+        assertEquals(ChunkData.Status.PARTIAL, data.status());
+        assertEquals(ForestType.SAVANNA_DIVERSE, data.getForestType());
+        assertEquals(100, data.getRainfall(0, 0));
+        assertEquals(-5, data.getAverageTemp(0, 0));
+
+        // Legacy data is always re-written in the current format
+        assertTrue(data.serializeNBT().contains("data"));
+    }
+
+    @Test
+    public void testClimateTable()
+    {
+        final ChunkData data = createPartial();
+        final Object owner = new Object();
+        final ChunkClimateTable table = data.getClimateTable(owner, (z, modifier) -> z * modifier);
+
+        assertSame(table, data.getClimateTable(owner, (z, modifier) -> 0));
+        for (int x = 0; x < 16; x++)
+        {
+            for (int z = 0; z < 16; z++)
+            {
+                // Sampled at the center of each quart
+                final int sampleX = (x & ~3) + 2, sampleZ = (z & ~3) + 2;
+                assertEquals(data.getAverageTemp(sampleX, sampleZ), table.getAverageTemp(POS.getMinBlockX() + x, POS.getMinBlockZ() + z));
+                assertEquals(data.getRainfall(sampleX, sampleZ), table.getRainfall(POS.getMinBlockX() + x, POS.getMinBlockZ() + z));
+            }
+        }
+
+        final int z = POS.getMinBlockZ() + 6; // The center of its quart
+        assertEquals(z * Month.MAY.getTemperatureModifier(), table.getMonthlyTemperature(z, Month.MAY, 0));
+        assertEquals(z * Month.JUNE.getTemperatureModifier(), table.getMonthlyTemperature(z, Month.MAY, 1), 1e-3);
+        assertEquals(z * Month.MAY.getTemperatureModifier(), table.getMonthlyTemperature(z + 1, Month.MAY, 0));
+
+        // Modifying the data discards the table
+        data.deserializeNBT(data.serializeNBT());
+
+        assertNotSame(table, data.getClimateTable(owner, (x, modifier) -> 0));
+    }
+
+    @Test
+    public void testNoClimateTableWithoutClimate()
+    {
+        final Object owner = new Object();
+
+        assertNull(ChunkData.EMPTY.getClimateTable(owner, (z, modifier) -> z * modifier));
+        assertNull(new ChunkData(POS).getClimateTable(owner, (z, modifier) -> z * modifier));
+    }
+
+    private ChunkData createPartial()
+    {
+        final ChunkData data = new ChunkData(POS);
+        data.generatePartial(
+            new LerpFloatLayer(100, 200, 300, 400),
+            new LerpFloatLayer(0.1f, 0.2f, 0.3f, 0.4f),
+            new LerpFloatLayer(1, 2, 3, 4),
+            new LerpFloatLayer(-5, 5, 10, 15),
+            ForestType.SAVANNA_DIVERSE
+        );
+        return data;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.minecraft.core.BlockPos;
+import org.junit.jupiter.api.Test;
+
+import net.dries007.tfc.util.calendar.Calendars;
+import net.dries007.tfc.util.climate.ClimateSampleCache;
+
+import static net.dries007.tfc.test.TestAssertions.*;
+
+public class ClimateSampleCacheTest
+{
+    private final List<BlockPos> sampled = new ArrayList<>();
+    private long gameTime = 0;
+
+    private final ClimateSampleCache cache = new ClimateSampleCache((pos, calendar, tick) -> {
+        sampled.add(pos);
+        return pos.getX() + 1000f * tick;
+    }, () -> gameTime);
+
+    @Test
+    public void testSampledAtChunkCenter()
+    {
+        assertEquals(24 + 1000f * 5, cache.getTemperature(new BlockPos(17, 64, 30), Calendars.SERVER, 5));
+        assertEquals(List.of(new BlockPos(24, 64, 24)), sampled);
+
+        assertEquals(-8 + 1000f * 5, cache.getTemperature(new BlockPos(-1, 64, -16), Calendars.SERVER, 5));
+        assertEquals(new BlockPos(-8, 64, -24), sampled.getLast());
+    }
+
+    @Test
+    public void testSharedWithinChunk()
+    {
+        for (int x = 16; x < 32; x++)
+        {
+            for (int z = 0; z < 16; z++)
+            {
+                cache.getTemperature(new BlockPos(x, 70, z), Calendars.SERVER, 100);
+            }
+        }
+        assertEquals(1, sampled.size());
+
+        cache.getTemperature(new BlockPos(16, 70, 0), Calendars.SERVER, 200); // Different tick
+        cache.getTemperature(new BlockPos(16, 71, 0), Calendars.SERVER, 100); // Different y
+        cache.getTemperature(new BlockPos(32, 70, 0), Calendars.SERVER, 100); // Different chunk
+        assertEquals(4, sampled.size());
+    }
+
+    @Test
+    public void testClearedEachGameTick()
+    {
+        cache.getTemperature(BlockPos.ZERO, Calendars.SERVER, 100);
+        cache.getTemperature(BlockPos.ZERO, Calendars.SERVER, 100);
+        assertEquals(1, sampled.size());
+
+        gameTime++;
+        cache.getTemperature(BlockPos.ZERO, Calendars.SERVER, 100);
+        assertEquals(2, sampled.size());
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import org.junit.jupiter.api.Test;
+
+import net.dries007.tfc.common.component.food.FoodCapability;
+import net.dries007.tfc.common.component.heat.HeatCapability;
+import net.dries007.tfc.test.TestSetup;
+import net.dries007.tfc.util.data.DataManager;
+import net.dries007.tfc.util.data.Drinkable;
+import net.dries007.tfc.util.data.FluidHeat;
+import net.dries007.tfc.util.data.KnappingType;
+
+import static net.dries007.tfc.test.TestAssertions.*;
+
+public class DataManagerTest implements TestSetup
+{
+    private final RegistryAccess registryAccess = RegistryAccess.fromRegistryOfRegistries(BuiltInRegistries.REGISTRY);
+
+    @Test
+    public void testEncodeDecodeIsStable()
+    {
+        managers().forEach(this::assertStable);
+    }
+
+    @Test
+    public void testEncodingIsIndependentOfOrder()
+    {
+        managers().forEach(this::assertOrderIndependent);
+    }
+
+    @Test
+    public void testHashDependsOnContents()
+    {
+        managers().forEach(this::assertHashDependsOnContents);
+    }
+
+    private <T> void assertStable(DataManager<T> manager)
+    {
+        final Map<ResourceLocation, T> elements = manager.getElements();
+        assertFalse(elements.isEmpty(), manager.getName());
+
+        // Both the server, and the client cache, must encode the same contents to the same bytes, and so the same hash
+        final byte[] bytes = manager.encodeElements(elements, registryAccess);
+        final Map<ResourceLocation, T> decoded = manager.decodeElements(bytes, registryAccess);
+        assertEquals(elements.keySet(), decoded.keySet(), manager.getName());
+        assertArrayEquals(bytes, manager.encodeElements(decoded, registryAccess), manager.getName());
+        assertArrayEquals(bytes, manager.getSyncBytes(registryAccess), manager.getName());
+        assertEquals(DataManager.hash(bytes), manager.getSyncHash(registryAccess), manager.getName());
+    }
+
+    private <T> void assertOrderIndependent(DataManager<T> manager)
+    {
+        final List<ResourceLocation> ids = new ArrayList<>(manager.getElements().keySet());
+        final Map<ResourceLocation, T> reversed = new LinkedHashMap<>();
+        for (int i = ids.size() - 1; i >= 0; i--)
+        {
+            reversed.put(ids.get(i), manager.getElements().get(ids.get(i)));
+        }
+        assertArrayEquals(manager.encodeElements(manager.getElements(), registryAccess), manager.encodeElements(reversed, registryAccess), manager.getName());
+    }
+
+    private <T> void assertHashDependsOnContents(DataManager<T> manager)
+    {
+        final Map<ResourceLocation, T> fewer = new LinkedHashMap<>(manager.getElements());
+        fewer.remove(fewer.keySet().iterator().next());
+        assertNotEquals(manager.getSyncHash(registryAccess), DataManager.hash(manager.encodeElements(fewer, registryAccess)), manager.getName());
+    }
+
+    /**
+     * The synced data managers which are populated by {@link TestSetup}
+     */
+    private static Stream<DataManager<?>> managers()
+    {
+        return Stream.of(FoodCapability.MANAGER, HeatCapability.MANAGER, FluidHeat.MANAGER, KnappingType.MANAGER, Drinkable.MANAGER);
+    }
+}
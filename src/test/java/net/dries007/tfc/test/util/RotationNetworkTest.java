@@ -393,6 +393,55 @@ public class RotationNetworkTest
             """, mock.toString());
     }
 
+    @Test
+    public void testRemovingNodeInCycleReconnectsDownstream()
+    {
+        final RotationMock mock = mock();
+
+        assertTrue(mock.addSource(0, 0, 0, UP));
+        assertTrue(mock.add(0, 1, 0, DOWN, NORTH, SOUTH));
+        assertTrue(mock.add(0, 1, -1, SOUTH, EAST));
+        assertTrue(mock.add(1, 1, -1, WEST, SOUTH));
+        assertTrue(mock.add(1, 1, 0, NORTH, SOUTH, EAST));
+        assertTrue(mock.add(2, 1, 0, WEST));
+        assertTrue(mock.add(1, 1, 1, NORTH, WEST));
+        assertTrue(mock.add(0, 1, 1, NORTH, EAST));
+        mock.remove(1, 1, -1);
+        assertEquals("""
+            [network=0]
+            Node[connections=[up], pos=[0, 0, 0], network=0, rotation=null]
+            Node[connections=[south, east], pos=[0, 1, -1], network=0, rotation=[south, Rotation[direction=south, speed=1.0]]]
+            Node[connections=[down, north, south], pos=[0, 1, 0], network=0, rotation=[down, Rotation[direction=up, speed=1.0]]]
+            Node[connections=[north, south, east], pos=[1, 1, 0], network=0, rotation=[south, Rotation[direction=south, speed=1.0]]]
+            Node[connections=[west], pos=[2, 1, 0], network=0, rotation=[west, Rotation[direction=east, speed=1.0]]]
+            Node[connections=[north, east], pos=[0, 1, 1], network=0, rotation=[north, Rotation[direction=south, speed=1.0]]]
+            Node[connections=[north, west], pos=[1, 1, 1], network=0, rotation=[west, Rotation[direction=east, speed=1.0]]]
+            """, mock.toString());
+    }
+
+    @Test
+    public void testRemovingNodeInMiddleOfLongShaft()
+    {
+        final RotationMock mock = mock();
+
+        assertTrue(mock.addSource(0, 0, 0, SOUTH));
+        for (int z = 1; z <= 10; z++)
+        {
+            assertTrue(mock.add(0, 0, z, NORTH, SOUTH));
+        }
+        mock.remove(0, 0, 3);
+        assertEquals("""
+            [network=0]
+            Node[connections=[south], pos=[0, 0, 0], network=0, rotation=null]
+            Node[connections=[north, south], pos=[0, 0, 1], network=0, rotation=[north, Rotation[direction=south, speed=1.0]]]
+            Node[connections=[north, south], pos=[0, 0, 2], network=0, rotation=[north, Rotation[direction=south, speed=1.0]]]
+            """, mock.toString());
+        for (int z = 4; z <= 10; z++)
+        {
+            assertEquals(Node.NO_NETWORK, networkAt(mock, 0, 0, z));
+        }
+    }
+
     @Test
     public void testConnectTwoDifferentHandRotationsInCycle()
     {
@@ -504,8 +553,44 @@ public class RotationNetworkTest
             """, mock.toString());
     }
 
+    @Test
+    public void testManyNetworks()
+    {
+        final RotationMock mock = mock();
+        final int networks = 10_000;
+
+        // Each network is a source, with a single axle, spaced apart so no two networks are adjacent
+        for (int i = 0; i < networks; i++)
+        {
+            assertTrue(mock.addSource(i * 3, 0, 0, SOUTH));
+            assertTrue(mock.add(i * 3, 0, 1, NORTH, SOUTH));
+        }
+
+        // Adding and removing to the end of each network should only ever touch that network
+        for (int i = 0; i < networks; i++)
+        {
+            assertTrue(mock.add(i * 3, 0, 2, NORTH, SOUTH));
+            assertEquals(i, networkAt(mock, i * 3, 0, 2));
+            mock.remove(i * 3, 0, 2);
+            assertNull(mock.manager.getNode(new BlockPos(i * 3, 0, 2)));
+        }
+
+        // Bridge the first network over to the second, and then connecting both should fail to add
+        assertTrue(mock.add(1, 0, 2, EAST, WEST));
+        assertTrue(mock.add(2, 0, 2, EAST, WEST));
+        assertTrue(mock.add(0, 0, 2, NORTH, SOUTH, EAST));
+        assertEquals(0, networkAt(mock, 2, 0, 2));
+        assertFalse(mock.add(3, 0, 2, NORTH, SOUTH, WEST));
+        assertNull(mock.manager.getNode(new BlockPos(3, 0, 2)));
+    }
+
+    private long networkAt(RotationMock mock, int x, int y, int z)
+    {
+        final Node node = mock.manager.getNode(new BlockPos(x, y, z));
+        assertNotNull(node);
+        return node.network();
+    }
 
-    
     private RotationMock mock()
     {
         return new RotationMock(new RotationNetworkManager(), new HashMap<>());
@@ -0,0 +1,123 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test.world;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import net.dries007.tfc.world.layer.framework.Area;
+import net.dries007.tfc.world.layer.framework.AreaCache;
+import net.dries007.tfc.world.layer.framework.TypedArea;
+
+import static net.dries007.tfc.test.TestAssertions.*;
+
+public class AreaCacheTest
+{
+    private final AtomicInteger queries = new AtomicInteger();
+
+    @BeforeEach
+    public void setup()
+    {
+        AreaCache.setStatistics(true);
+        AreaCache.resetStatistics();
+    }
+
+    @AfterEach
+    public void teardown()
+    {
+        AreaCache.setStatistics(false);
+    }
+
+    @Test
+    public void testTwoWayKeepsMostRecentlyUsed()
+    {
+        // A single set of two slots, so every key collides
+        final Area area = new Area(this::source, 2, AreaCache.Mode.TWO_WAY);
+
+        assertGet(area, 1, 1, true);
+        assertGet(area, 2, 2, true);
+        assertGet(area, 1, 2, false);
+        assertGet(area, 2, 2, false);
+        assertGet(area, 3, 3, true); // Evicts 1, the least recently used
+        assertGet(area, 2, 3, false);
+        assertGet(area, 1, 4, true); // Evicts 3
+
+        assertStatistics(3, 4, 2);
+    }
+
+    @Test
+    public void testDirectMappedReturnsSourceValues()
+    {
+        // The smallest possible cache, of two slots, so most keys collide
+        final Area area = new Area(this::source, 1, AreaCache.Mode.DIRECT_MAPPED);
+        final int[] keys = new int[16];
+        for (int i = 0; i < keys.length; i++)
+        {
+            keys[i] = area.get(i, -i);
+        }
+        for (int i = 0; i < keys.length; i++)
+        {
+            assertEquals(keys[i], area.get(i, -i));
+        }
+        assertEquals(2L * keys.length, AreaCache.hits() + AreaCache.misses());
+        assertTrue(AreaCache.misses() >= keys.length);
+        assertEquals(queries.get(), AreaCache.misses());
+    }
+
+    @Test
+    public void testStatisticsAreExact()
+    {
+        final Random random = new Random(1234);
+        for (AreaCache.Mode mode : AreaCache.Mode.values())
+        {
+            AreaCache.resetStatistics();
+            queries.set(0);
+
+            final TypedArea<String> area = new TypedArea<>((x, z) -> {
+                queries.incrementAndGet();
+                return x + "," + z;
+            }, 64, mode);
+            for (int i = 0; i < 1000; i++)
+            {
+                final int x = random.nextInt(32), z = random.nextInt(32);
+                assertEquals(x + "," + z, area.get(x, z));
+            }
+
+            // Every query is counted, and every miss queried the source
+            assertEquals(1000, AreaCache.hits() + AreaCache.misses(), mode.name());
+            assertEquals(queries.get(), AreaCache.misses(), mode.name());
+
+            // Every miss either fills an empty slot or evicts an entry, so the difference is the number of occupied slots
+            final long occupied = AreaCache.misses() - AreaCache.evictions();
+            assertTrue(occupied > 0 && occupied <= 64, mode.name() + ": " + occupied + " occupied slots");
+        }
+    }
+
+    private void assertGet(Area area, int x, int expectedQueries, boolean expectMiss)
+    {
+        final long misses = AreaCache.misses();
+        assertEquals(x * 31, area.get(x, 0));
+        assertEquals(expectedQueries, queries.get());
+        assertEquals(expectMiss, AreaCache.misses() > misses);
+    }
+
+    private void assertStatistics(long hits, long misses, long evictions)
+    {
+        assertEquals(hits, AreaCache.hits());
+        assertEquals(misses, AreaCache.misses());
+        assertEquals(evictions, AreaCache.evictions());
+    }
+
+    private int source(int x, int z)
+    {
+        queries.incrementAndGet();
+        return x * 31 + z;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test.world;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import net.dries007.tfc.test.TestSetup;
+import net.dries007.tfc.world.biome.BiomeNoise;
+import net.dries007.tfc.world.noise.Noise2D;
+import net.dries007.tfc.world.noise.Noise3D;
+import net.dries007.tfc.world.noise.OpenSimplex2D;
+import net.dries007.tfc.world.noise.OpenSimplex3D;
+
+import static net.dries007.tfc.test.TestAssertions.*;
+
+public class NoiseTest implements TestSetup
+{
+    @Test
+    public void testBatchCombinatorsMatchScalar()
+    {
+        final long seed = seed();
+        final OpenSimplex2D simplex = new OpenSimplex2D(seed);
+        final Noise2D base = simplex::noise; // Not an OpenSimplex2D, so the default combinators are used
+
+        assertBatchMatchesScalar(base.octaves(4), seed);
+        assertBatchMatchesScalar(base.spread(0.05), seed);
+        assertBatchMatchesScalar(base.scaled(10, 20), seed);
+        assertBatchMatchesScalar(base.add(new OpenSimplex2D(seed + 1).spread(0.1)), seed);
+        assertBatchMatchesScalar(base.ridged().terraces(5).clamped(-0.5, 0.5), seed);
+        assertBatchMatchesScalar(base.spread(0.1).map(x -> x > 0 ? x : 0).lazyProduct(new OpenSimplex2D(seed + 2).spread(0.2)), seed);
+        assertBatchMatchesScalar(base.spread(0.1).map(x -> 0).lazyProduct(new OpenSimplex2D(seed + 2)), seed);
+
+        // The same combinator, called in sequence with different batch sizes, reusing its scratch buffers
+        final Noise2D noise = base.octaves(3).spread(0.03).add(base.spread(0.2));
+        assertBatchMatchesScalar(noise, seed);
+        assertBatchMatchesScalar(noise, seed + 1);
+    }
+
+    @Test
+    public void testBatchBiomeNoiseMatchesScalar()
+    {
+        final long seed = seed();
+        assertBatchMatchesScalar(BiomeNoise.badlands(seed), seed);
+        assertBatchMatchesScalar(BiomeNoise.bryceCanyon(seed), seed);
+        assertBatchMatchesScalar(BiomeNoise.canyons(seed, -2, 40), seed);
+        assertBatchMatchesScalar(BiomeNoise.hills(seed, -5, 16), seed);
+        assertBatchMatchesScalar(BiomeNoise.sharpHills(seed), seed);
+        assertBatchMatchesScalar(BiomeNoise.lowlands(seed), seed);
+        assertBatchMatchesScalar(BiomeNoise.dunes(seed, 2, 16), seed);
+        assertBatchMatchesScalar(BiomeNoise.mountains(seed, 10, 70), seed);
+        assertBatchMatchesScalar(BiomeNoise.ocean(seed, -26, -12), seed);
+        assertBatchMatchesScalar(BiomeNoise.addVolcanoes(seed, BiomeNoise.mountains(seed, 10, 70), 5, 25, 50), seed);
+    }
+
+    @Test
+    public void testBatch3DCombinatorsMatchScalar()
+    {
+        final long seed = seed();
+        final OpenSimplex3D simplex = new OpenSimplex3D(seed);
+        final Noise3D base = simplex::noise;
+        final Noise3D noise = base.octaves(3).spread(0.05).scaled(-1, 1, 0, 10);
+
+        final Random random = new Random(seed);
+        final int count = 500;
+        final double[] x = new double[count], y = new double[count], z = new double[count], out = new double[count];
+        for (int i = 0; i < count; i++)
+        {
+            x[i] = random.nextInt(20000) - 10000;
+            y[i] = random.nextInt(384) - 64;
+            z[i] = random.nextInt(20000) - 10000;
+        }
+
+        noise.fill(x, y, z, out, count);
+        for (int i = 0; i < count; i++)
+        {
+            assertEquals(noise.noise(x[i], y[i], z[i]), out[i], "at " + x[i] + ", " + y[i] + ", " + z[i]);
+        }
+    }
+
+    /**
+     * Asserts that both random points, and a grid fill, exactly match sampling each point individually.
+     */
+    private static void assertBatchMatchesScalar(Noise2D noise, long seed)
+    {
+        final Random random = new Random(seed);
+        final int count = 1000;
+        final double[] x = new double[count], z = new double[count], out = new double[count];
+        for (int i = 0; i < count; i++)
+        {
+            x[i] = random.nextInt(20000) - 10000 + random.nextDouble();
+            z[i] = random.nextInt(20000) - 10000 + random.nextDouble();
+        }
+
+        noise.fill(x, z, out, count);
+        for (int i = 0; i < count; i++)
+        {
+            assertEquals(noise.noise(x[i], z[i]), out[i], "at " + x[i] + ", " + z[i]);
+        }
+
+        final int x0 = random.nextInt(20000) - 10000, z0 = random.nextInt(20000) - 10000;
+        final double[] grid = new double[16 * 16];
+        noise.fill(grid, x0, z0, 16, 16, 1);
+        for (int dx = 0; dx < 16; dx++)
+        {
+            for (int dz = 0; dz < 16; dz++)
+            {
+                assertEquals(noise.noise(x0 + dx, z0 + dz), grid[dx + 16 * dz], "at " + (x0 + dx) + ", " + (z0 + dz));
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test.world;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import net.minecraft.world.level.levelgen.XoroshiroRandomSource;
+import org.junit.jupiter.api.Test;
+
+import net.dries007.tfc.data.providers.BuiltinWorldPreset;
+import net.dries007.tfc.test.TestSetup;
+import net.dries007.tfc.world.region.Region;
+import net.dries007.tfc.world.region.RegionGenerator;
+import net.dries007.tfc.world.settings.Settings;
+
+import static net.dries007.tfc.test.TestAssertions.*;
+
+public class RegionGeneratorTest implements TestSetup
+{
+    @Test
+    public void testParallelTasksAreDeterministic()
+    {
+        final long seed = seed();
+        final Settings settings = BuiltinWorldPreset.defaultSettings();
+        final Region region = new RegionGenerator(settings, new XoroshiroRandomSource(seed)).getOrCreateRegion(0, 0);
+        final Region copy = new RegionGenerator(settings, new XoroshiroRandomSource(seed)).getOrCreateRegion(0, 0);
+
+        RegionStoreTest.assertRegionEquals(region, copy);
+    }
+
+    @Test
+    public void testConcurrentCreationOfTheSameRegion()
+    {
+        final RegionGenerator generator = new RegionGenerator(BuiltinWorldPreset.defaultSettings(), new XoroshiroRandomSource(seed()));
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try
+        {
+            final List<Region> regions = IntStream.range(0, 8)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> generator.getOrCreateRegion(0, 0), executor))
+                .toList()
+                .stream()
+                .map(CompletableFuture::join)
+                .toList();
+
+            // Only one region was created, and all threads observed it
+            for (Region region : regions)
+            {
+                assertSame(regions.getFirst(), region);
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test.world;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import net.minecraft.world.level.levelgen.XoroshiroRandomSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import net.dries007.tfc.data.providers.BuiltinWorldPreset;
+import net.dries007.tfc.test.TestSetup;
+import net.dries007.tfc.world.noise.Cellular2D;
+import net.dries007.tfc.world.region.Region;
+import net.dries007.tfc.world.region.RegionGenerator;
+import net.dries007.tfc.world.region.RegionStore;
+import net.dries007.tfc.world.region.RiverEdge;
+import net.dries007.tfc.world.settings.Settings;
+
+import static net.dries007.tfc.test.TestAssertions.*;
+
+public class RegionStoreTest implements TestSetup
+{
+    @TempDir Path folder;
+
+    @Test
+    public void testRegionRoundTrip()
+    {
+        final long seed = seed();
+        final Settings settings = BuiltinWorldPreset.defaultSettings();
+        final RegionGenerator generator = new RegionGenerator(settings, new XoroshiroRandomSource(seed));
+        final RegionStore store = Objects.requireNonNull(RegionStore.open(folder, seed, settings));
+
+        generator.setStore(store);
+        final Region region = generator.getOrCreateRegion(0, 0); // Generated, and then saved to the store
+        store.close();
+
+        final Cellular2D.Cell cell = generator.sampleCell(0, 0);
+        final int cellX = Float.floatToIntBits((float) cell.x()), cellZ = Float.floatToIntBits((float) cell.y());
+        final RegionStore reopened = Objects.requireNonNull(RegionStore.open(folder, seed, settings));
+        final Region copy = reopened.load(cellX, cellZ);
+        reopened.close();
+
+        assertNotNull(copy);
+        assertRegionEquals(region, copy);
+    }
+
+    @Test
+    public void testStoreIsKeyedBySeed()
+    {
+        final long seed = seed();
+        final Settings settings = BuiltinWorldPreset.defaultSettings();
+        final RegionGenerator generator = new RegionGenerator(settings, new XoroshiroRandomSource(seed));
+        final RegionStore store = Objects.requireNonNull(RegionStore.open(folder, seed, settings));
+
+        generator.setStore(store);
+        generator.getOrCreateRegion(0, 0);
+        store.close();
+
+        final Cellular2D.Cell cell = generator.sampleCell(0, 0);
+        final RegionStore other = Objects.requireNonNull(RegionStore.open(folder, seed + 1, settings));
+        assertNull(other.load(Float.floatToIntBits((float) cell.x()), Float.floatToIntBits((float) cell.y())));
+        other.close();
+    }
+
+    static void assertRegionEquals(Region expected, Region actual)
+    {
+        assertEquals(expected.noise(), actual.noise());
+        assertEquals(expected.minX(), actual.minX());
+        assertEquals(expected.minZ(), actual.minZ());
+        assertEquals(expected.maxX(), actual.maxX());
+        assertEquals(expected.maxZ(), actual.maxZ());
+
+        for (int index = 0; index < expected.size(); index++)
+        {
+            final Region.Point point = expected.atIndex(index), other = actual.atIndex(index);
+            if (point == null)
+            {
+                assertNull(other);
+                continue;
+            }
+
+            assertNotNull(other);
+            assertEquals(point.x, other.x);
+            assertEquals(point.z, other.z);
+            assertEquals(point.distanceToOcean, other.distanceToOcean);
+            assertEquals(point.distanceToEdge, other.distanceToEdge);
+            assertEquals(point.distanceToWestCoast, other.distanceToWestCoast);
+            assertEquals(point.baseOceanDepth, other.baseOceanDepth);
+            assertEquals(point.baseLandHeight, other.baseLandHeight);
+            assertEquals(point.biomeAltitude, other.biomeAltitude);
+            assertEquals(point.rainfall, other.rainfall);
+            assertEquals(point.rainfallVariance, other.rainfallVariance);
+            assertEquals(point.temperature, other.temperature);
+            assertEquals(point.biome, other.biome);
+            assertEquals(point.rock, other.rock);
+            assertEquals(point.land(), other.land());
+            assertEquals(point.island(), other.island());
+            assertEquals(point.river(), other.river());
+            assertEquals(point.lake(), other.lake());
+            assertEquals(point.mountain(), other.mountain());
+            assertEquals(point.coastalMountain(), other.coastalMountain());
+        }
+
+        final List<RiverEdge> rivers = expected.rivers(), otherRivers = actual.rivers();
+        assertEquals(rivers.size(), otherRivers.size());
+        for (int i = 0; i < rivers.size(); i++)
+        {
+            final RiverEdge edge = rivers.get(i), other = otherRivers.get(i);
+            assertEquals(edge.source(), other.source());
+            assertEquals(edge.drain(), other.drain());
+            assertEquals(edge.width, other.width);
+            assertEquals(edge.sourceEdge(), other.sourceEdge());
+            assertArrayEquals(edge.fractal().segments, other.fractal().segments);
+            assertEquals(edge.fractal().norm(), other.fractal().norm());
+            assertEquals(edge.drainEdge() == null ? -1 : rivers.indexOf(edge.drainEdge()), other.drainEdge() == null ? -1 : otherRivers.indexOf(other.drainEdge()));
+        }
+    }
+}